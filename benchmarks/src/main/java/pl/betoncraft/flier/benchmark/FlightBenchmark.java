@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pl.betoncraft.flier.api.content.Engine;
+import pl.betoncraft.flier.api.content.Wings;
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.benchmark.standin.Sandbox;
+import pl.betoncraft.flier.util.Vec3;
+
+/**
+ * Flight physics of a single gliding player: wings' flight modifications and
+ * engine's launch.
+ *
+ * @author Jakub Sapalski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FlightBenchmark {
+
+	private final Vec3 velocity = new Vec3();
+	private final Vec3 direction = new Vec3().setDirection(30, -10);
+
+	private Sandbox sandbox;
+	private InGamePlayer player;
+	private Wings wings;
+	private Engine engine;
+
+	@Setup
+	public void setup() throws LoadingException {
+		sandbox = new Sandbox("benchmark");
+		player = sandbox.addPlayer("pilot", 0, 0, 0);
+		sandbox.start();
+		wings = player.getKit().getWings();
+		engine = player.getKit().getEngine();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sandbox.close();
+	}
+
+	@Benchmark
+	public Vec3 applyFlightModifications() {
+		return wings.applyFlightModifications(player, velocity.set(0.8, -0.2, 0.6));
+	}
+
+	@Benchmark
+	public Vec3 launch() {
+		return engine.launch(velocity.set(0.8, -0.2, 0.6), direction);
+	}
+
+}
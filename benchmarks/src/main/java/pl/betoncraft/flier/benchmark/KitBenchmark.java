@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.Kit;
+import pl.betoncraft.flier.api.core.Kit.RespawnAction;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.benchmark.standin.Sandbox;
+import pl.betoncraft.flier.core.DefaultKit;
+
+/**
+ * Building a kit from its item sets, which happens when the game loads, and
+ * copying it for a joining player.
+ *
+ * @author Jakub Sapalski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KitBenchmark {
+
+	private final List<String> sets = Arrays.asList("balanced", "upgrade");
+
+	private Sandbox sandbox;
+	private InGamePlayer player;
+	private Kit kit;
+
+	@Setup
+	public void setup() throws LoadingException {
+		sandbox = new Sandbox("benchmark");
+		player = sandbox.addPlayer("player", 0, 0, 0);
+		sandbox.start();
+		kit = player.getKit();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sandbox.close();
+	}
+
+	@Benchmark
+	public Kit compile() throws LoadingException {
+		return new DefaultKit(sets, RespawnAction.COMBINE, player);
+	}
+
+	@Benchmark
+	public Kit replicate() {
+		return kit.replicate(player);
+	}
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.benchmark.standin.Sandbox;
+import pl.betoncraft.flier.util.ModificationManager;
+
+/**
+ * Reading a modified property, which engines, wings and items do on every
+ * access to their values.
+ *
+ * @author Jakub Sapalski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModificationBenchmark {
+
+	private static final int MAX_FUEL = ModificationManager.slot("max_fuel");
+	private static final int MIN_SPEED = ModificationManager.slot("min_speed");
+
+	private final ModificationManager manager = new ModificationManager();
+	private double value = 750;
+
+	@Setup
+	public void setup() throws LoadingException {
+		new Sandbox("benchmark").close();
+		manager.addModification(Sandbox.getFlier().getModification("more_fuel"));
+		manager.addModification(Sandbox.getFlier().getModification("more_health"));
+	}
+
+	@Benchmark
+	public double modifiedSlot() {
+		return manager.modifyNumber(MAX_FUEL, value);
+	}
+
+	@Benchmark
+	public double unmodifiedSlot() {
+		return manager.modifyNumber(MIN_SPEED, value);
+	}
+
+	@Benchmark
+	public double modifiedName() {
+		return manager.modifyNumber("max_fuel", value);
+	}
+
+}
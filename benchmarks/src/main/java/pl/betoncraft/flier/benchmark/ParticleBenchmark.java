@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.benchmark.standin.Sandbox;
+import pl.betoncraft.flier.core.DefaultParticleEmitter;
+
+/**
+ * Particle emitter with players spread around the center of the game:
+ * collecting their locations on each tick and sending a trail particle to
+ * those who can see it.
+ *
+ * @author Jakub Sapalski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParticleBenchmark {
+
+	@Param({"1", "16", "64"})
+	private int players;
+
+	private Sandbox sandbox;
+	private DefaultParticleEmitter emitter;
+	private World world;
+	private Location center;
+
+	@Setup
+	public void setup() throws LoadingException {
+		sandbox = new Sandbox("benchmark");
+		for (int i = 0; i < players; i++) {
+			// a spiral, so some players are close and some are too far away
+			double angle = i * 2.4;
+			double distance = i * 2;
+			sandbox.addPlayer("player" + i, Math.cos(angle) * distance, 0, Math.sin(angle) * distance);
+		}
+		sandbox.start();
+		emitter = (DefaultParticleEmitter) sandbox.getGame().getParticleEmitter();
+		emitter.tick();
+		center = sandbox.getGame().getCenter();
+		world = center.getWorld();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sandbox.close();
+	}
+
+	@Benchmark
+	public boolean tick() {
+		return emitter.tick();
+	}
+
+	@Benchmark
+	public void spawnTrail() {
+		emitter.spawnTrail(world, Particle.CRIT, center.getX(), center.getY(), center.getZ(), 0, 0, 0, 0, 0);
+	}
+
+}
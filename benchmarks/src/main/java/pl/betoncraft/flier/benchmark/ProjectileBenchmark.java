@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.core.Attacker;
+import pl.betoncraft.flier.api.core.Damager;
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
+import pl.betoncraft.flier.api.core.ProjectileWorld.Shot;
+import pl.betoncraft.flier.benchmark.standin.Sandbox;
+import pl.betoncraft.flier.core.DefaultAttacker;
+import pl.betoncraft.flier.core.DefaultProjectileWorld;
+
+/**
+ * Projectile world with players spread around the center of the game: moving
+ * all bullets by one tick, tracing the blocks on their paths and looking for
+ * players close to them. Bullets are launched from around the players in
+ * random directions, so some of them hit the ground, some hit players and
+ * others fly on. Before each tick the world is filled up again with bullets
+ * which have finished, so it always moves the same number of them.
+ *
+ * @author Jakub Sapalski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProjectileBenchmark {
+
+	// bullets are launched from this many different points
+	private static final int LAUNCHES = 1024;
+
+	@Param({"16", "64"})
+	private int players;
+
+	@Param({"64", "512"})
+	private int bullets;
+
+	private Sandbox sandbox;
+	private DefaultProjectileWorld world;
+	private Shot shot;
+	private final Location[] starts = new Location[LAUNCHES];
+	private final Vector[] directions = new Vector[LAUNCHES];
+	private int next = 0;
+
+	@Setup
+	public void setup() throws LoadingException {
+		sandbox = new Sandbox("benchmark");
+		List<InGamePlayer> added = new ArrayList<>(players);
+		for (int i = 0; i < players; i++) {
+			// a spiral, like in the particle benchmark
+			double angle = i * 2.4;
+			double distance = i * 2;
+			added.add(sandbox.addPlayer("player" + i, Math.cos(angle) * distance, 0, Math.sin(angle) * distance));
+		}
+		sandbox.start();
+		Game game = sandbox.getGame();
+		world = (DefaultProjectileWorld) game.getProjectileWorld();
+		// the gun of the first player, attacks need their owner
+		InGamePlayer shooter = added.get(0);
+		Damager gun = (Damager) shooter.getKit().getItems().get(0).getUsages().get(0).getActions().get(0);
+		shot = new BenchmarkShot(new DefaultAttacker(gun, shooter, shooter, null), game.getParticleEmitter());
+		Random random = new Random(1);
+		for (int i = 0; i < LAUNCHES; i++) {
+			// a few blocks away from a random player, flying anywhere but up
+			Location loc = added.get(random.nextInt(players)).getPlayer().getLocation();
+			starts[i] = loc.add(random.nextGaussian() * 8, random.nextGaussian() * 4, random.nextGaussian() * 8);
+			directions[i] = new Vector(random.nextGaussian(), -Math.abs(random.nextGaussian()) / 2, random.nextGaussian());
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		world.clear();
+		sandbox.close();
+	}
+
+	@Benchmark
+	public int tick() {
+		for (int i = world.getProjectileCount(); i < bullets; i++) {
+			world.launch(shot, starts[next], directions[next], 5, 1.5, 250);
+			next = (next + 1) % LAUNCHES;
+		}
+		world.tick();
+		return world.getProjectileCount();
+	}
+
+	/**
+	 * Displays bullets like the virtual Projectile Gun does.
+	 */
+	private static class BenchmarkShot implements Shot {
+
+		private final Attacker attacker;
+		private final ParticleEmitter particles;
+
+		private BenchmarkShot(Attacker attacker, ParticleEmitter particles) {
+			this.attacker = attacker;
+			this.particles = particles;
+		}
+
+		@Override
+		public Attacker getAttacker() {
+			return attacker;
+		}
+
+		@Override
+		public double getDensity() {
+			return 0.5;
+		}
+
+		@Override
+		public void spawnTrail(World world, double x, double y, double z) {
+			particles.spawnTrail(world, Particle.CRIT, x, y, z, 1, 0, 0, 0, 0);
+		}
+
+		@Override
+		public void spawnImpact(World world, double x, double y, double z) {
+			particles.spawnBurst(world, Particle.CRIT, x, y, z, 10, 0, 0, 0, 0.1);
+		}
+
+	}
+
+}
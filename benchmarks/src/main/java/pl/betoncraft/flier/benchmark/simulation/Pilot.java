@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.simulation;
+
+import java.util.Random;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.util.Vector;
+
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.benchmark.standin.StandInPlayer;
+import pl.betoncraft.flier.util.Vec3;
+
+/**
+ * Scripted client of a single player. The pilot opens its wings when it
+ * falls, glides around the center of the game, accelerates with the engine
+ * in regular bursts and clicks when it faces the center. It only does what
+ * a player can do: looks around, sneaks, jumps, opens wings and clicks with
+ * its items. Everything else, like shooting, hits, kills and respawning, is
+ * done by the game.
+ *
+ * @author Jakub Sapalski
+ */
+public class Pilot {
+
+	// how far from the center's height pilots try to stay
+	private static final double ALTITUDE_RANGE = 16;
+	private static final double MIN_SPEED = 0.4;
+	private static final double JUMP = 0.42;
+	// pilots circle between these distances from the center
+	private static final double INNER_RADIUS = 24;
+	private static final double OUTER_RADIUS = 64;
+	// wings are moved to this slot when they can't be worn
+	private static final int WINGS_SLOT = 1;
+
+	private final StandInPlayer player;
+	private final Location center;
+	private final Vec3 look = new Vec3();
+
+	// each pilot has its own rhythm, so they don't all act on the same tick
+	private final float circling;
+	private final int phase;
+	private final int boostPeriod;
+	private final int clickPeriod;
+
+	public Pilot(InGamePlayer data, Random random) {
+		player = (StandInPlayer) data.getPlayer();
+		center = data.getGame().getCenter();
+		circling = 60 + random.nextFloat() * 30;
+		phase = random.nextInt(1000);
+		boostPeriod = 40 + random.nextInt(40);
+		clickPeriod = 4 + random.nextInt(12);
+	}
+
+	/**
+	 * Gives the player its input for this tick, before the server ticks.
+	 * 
+	 * @param tick
+	 *            number of the tick, counted from the start of the simulation
+	 */
+	public void tick(int tick) {
+		PlayerInventory inv = player.getInventory();
+		if (inv.getChestplate() == null && isWings(inv.getItem(WINGS_SLOT))) {
+			// put the wings on, like the player would
+			inv.setHeldItemSlot(WINGS_SLOT);
+			click(Action.RIGHT_CLICK_AIR);
+			inv.setHeldItemSlot(0);
+		}
+		if (!player.isGliding()) {
+			if (player.isOnGround()) {
+				player.getCurrentVelocity().setY(JUMP);
+			} else if (player.getCurrentVelocity().getY() < 0 && isWings(inv.getChestplate())) {
+				player.setGliding(true);
+			}
+			player.setSneaking(false);
+			return;
+		}
+		Location loc = player.getCurrentLocation();
+		int time = tick + phase;
+		// circle around the center, turning back towards it when far away
+		// and away from it when too close
+		double dx = center.getX() - loc.getX();
+		double dz = center.getZ() - loc.getZ();
+		double distance = Math.sqrt(dx * dx + dz * dz);
+		float towards = (float) Math.toDegrees(Math.atan2(-dx, dz));
+		boolean facing = (time / clickPeriod) % 4 == 0;
+		float turn = distance > OUTER_RADIUS ? circling / 2 : distance < INNER_RADIUS ? circling + 90 : circling;
+		loc.setYaw(facing ? towards : towards + turn);
+		double altitude = loc.getY() - center.getY();
+		loc.setPitch(altitude < -ALTITUDE_RANGE ? -45 : altitude > ALTITUDE_RANGE ? 25 : 0);
+		player.setSneaking(time % boostPeriod < boostPeriod / 3);
+		if (facing && time % clickPeriod == 0) {
+			click(Action.LEFT_CLICK_AIR);
+		}
+		glide(loc);
+	}
+
+	private boolean isWings(ItemStack stack) {
+		return stack != null && stack.getType() == Material.ELYTRA;
+	}
+
+	private void click(Action action) {
+		ItemStack item = player.getInventory().getItemInMainHand();
+		Bukkit.getPluginManager().callEvent(new PlayerInteractEvent(player, action, item, null));
+	}
+
+	/**
+	 * Turns the velocity towards the look direction and adds gravity, which
+	 * the client does for gliding players.
+	 */
+	private void glide(Location loc) {
+		Vector velocity = player.getCurrentVelocity();
+		look.setDirection(loc.getYaw(), loc.getPitch());
+		double speed = Math.max(velocity.length(), MIN_SPEED);
+		velocity.multiply(0.9);
+		velocity.setX(velocity.getX() + look.getX() * speed * 0.1);
+		velocity.setY(velocity.getY() + look.getY() * speed * 0.1 - 0.02);
+		velocity.setZ(velocity.getZ() + look.getZ() * speed * 0.1);
+	}
+
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.TreeMap;
+
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.Ticker;
+import pl.betoncraft.flier.benchmark.standin.Sandbox;
+import pl.betoncraft.flier.benchmark.standin.StandInServer;
+
+/**
+ * Runs a game with scripted players on the stand-in server and reports how
+ * long its ticks take, how much they allocate and how many events they call.
+ * Players join the benchmark lobby, which puts them in its death match, so
+ * the whole game runs: spawning, flying, shooting, scoring, the sidebar and
+ * respawning after being shot down. Each player count from the first argument
+ * is simulated in a fresh lobby, which shows at which count the game stops
+ * fitting in the 50 ms tick.
+ * <p>
+ * Usage: <code>Simulation [players,...] [ticks] [warmup ticks]</code>
+ *
+ * @author Jakub Sapalski
+ */
+public class Simulation {
+
+	private static final String LOBBY = "benchmark";
+	private static final String HIT_EVENT = "FlierPlayerHitEvent";
+	private static final String KILL_EVENT = "FlierPlayerKillEvent";
+	private static final long TICK_BUDGET = 50000000;
+
+	private final int players;
+	private final int ticks;
+	private final int warmup;
+
+	public Simulation(int players, int ticks, int warmup) {
+		this.players = players;
+		this.ticks = ticks;
+		this.warmup = warmup;
+	}
+
+	public static void main(String[] args) throws LoadingException {
+		int[] counts = args.length > 0 ?
+				Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray() :
+				new int[]{25, 50, 100, 200, 400};
+		int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 1200;
+		int warmup = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+		List<String> table = new ArrayList<>();
+		table.add(String.format("%8s %9s %9s %9s %7s %10s %12s %8s %8s %11s %12s %10s",
+				"players", "avg ms", "p95 ms", "max ms", "> 50ms", "kB/tick", "events/tick", "hits",
+				"deaths", "particles", "projectiles", "hud/tick"));
+		for (int count : counts) {
+			table.add(new Simulation(count, ticks, warmup).run());
+		}
+		System.out.println();
+		table.forEach(System.out::println);
+	}
+
+	/**
+	 * Runs the simulation and prints the number of events of each type.
+	 * 
+	 * @return a row of the results table
+	 */
+	public String run() throws LoadingException {
+		Sandbox sandbox = new Sandbox(LOBBY);
+		StandInServer server = Sandbox.getServer();
+		Random random = new Random(players);
+		List<Pilot> pilots = new ArrayList<>(players);
+		for (int i = 0; i < players; i++) {
+			pilots.add(new Pilot(sandbox.addPlayer("player" + i), random));
+		}
+		sandbox.start();
+		Game game = sandbox.getGame();
+		Ticker ticker = game.getTicker();
+		int tick = 0;
+		for (; tick < warmup; tick++) {
+			tick(sandbox, pilots, tick);
+		}
+		long[] durations = new long[ticks];
+		long allocations = 0;
+		long particles = 0;
+		long projectiles = 0;
+		long events = server.getEventCount();
+		long hud = server.getScoreboardUpdates();
+		Map<String, Long> eventCounts = server.getEventCounts();
+		for (int i = 0; i < ticks; i++, tick++) {
+			tick(sandbox, pilots, tick);
+			durations[i] = ticker.getLastTickDuration();
+			allocations += ticker.getLastTickAllocations();
+			particles += game.getParticleEmitter().getLastTickParticles();
+			projectiles += game.getProjectileWorld().getProjectileCount();
+		}
+		events = server.getEventCount() - events;
+		hud = server.getScoreboardUpdates() - hud;
+		Map<String, Long> calls = new TreeMap<>();
+		for (Entry<String, Long> entry : server.getEventCounts().entrySet()) {
+			calls.put(entry.getKey(), entry.getValue() - eventCounts.getOrDefault(entry.getKey(), 0L));
+		}
+		System.out.println(String.format("%d players, events per tick:", players));
+		for (Entry<String, Long> entry : calls.entrySet()) {
+			if (entry.getValue() > 0) {
+				System.out.println(String.format("  %-28s %10.2f", entry.getKey(), (double) entry.getValue() / ticks));
+			}
+		}
+		sandbox.close();
+		long total = 0;
+		int over = 0;
+		for (long duration : durations) {
+			total += duration;
+			if (duration > TICK_BUDGET) {
+				over++;
+			}
+		}
+		Arrays.sort(durations);
+		return String.format("%8d %9.3f %9.3f %9.3f %7d %10.1f %12.1f %8d %8d %11.1f %12.1f %10.1f",
+				players,
+				ms(total / ticks),
+				ms(durations[(int) Math.min(ticks - 1, Math.ceil(ticks * 0.95) - 1)]),
+				ms(durations[ticks - 1]),
+				over,
+				allocations / 1024.0 / ticks,
+				(double) events / ticks,
+				calls.getOrDefault(HIT_EVENT, 0L),
+				calls.getOrDefault(KILL_EVENT, 0L),
+				(double) particles / ticks,
+				(double) projectiles / ticks,
+				(double) hud / ticks);
+	}
+
+	private static void tick(Sandbox sandbox, List<Pilot> pilots, int tick) {
+		for (Pilot pilot : pilots) {
+			pilot.tick(tick);
+		}
+		sandbox.tick();
+	}
+
+	private static double ms(long nanos) {
+		return nanos / 1000000.0;
+	}
+
+}
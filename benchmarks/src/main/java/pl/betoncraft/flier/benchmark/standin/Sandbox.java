@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.standin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.util.Vector;
+
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.content.Lobby;
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.core.EventRouter;
+import pl.betoncraft.flier.util.AttackerRegistry;
+import pl.betoncraft.flier.util.LangManager;
+
+/**
+ * A lobby on the stand-in server, with everything it needs around it. The
+ * lobby is loaded like the plugin loads it and players join it like real
+ * ones, so its automatic joining puts them in a real game. The server, the
+ * world and the stand-in Flier are shared by all sandboxes, because Flier
+ * keeps some of its state in static fields, just like it would on a real
+ * server.
+ *
+ * @author Jakub Sapalski
+ */
+public class Sandbox {
+
+	private static final String WORLD = "world";
+	private static final int GROUND = 64;
+	private static final int RADIUS = 512;
+	private static final int MAX_START_TICKS = 200;
+
+	private static StandInServer server;
+	private static StandInWorld world;
+	private static StandInFlier flier;
+
+	private final Lobby lobby;
+	private final List<StandInPlayer> players = new ArrayList<>();
+	private final Map<StandInPlayer, Vector> placements = new LinkedHashMap<>();
+
+	/**
+	 * Loads the lobby.
+	 * 
+	 * @param id
+	 *            ID of the lobby in the "lobbies" section of content.yml
+	 * @throws LoadingException
+	 *             when the lobby or its games can't be loaded
+	 */
+	public Sandbox(String id) throws LoadingException {
+		init();
+		lobby = flier.loadLobby(id);
+	}
+
+	private static synchronized void init() throws LoadingException {
+		if (server != null) {
+			return;
+		}
+		InputStream in = Sandbox.class.getClassLoader().getResourceAsStream("content.yml");
+		if (in == null) {
+			throw new LoadingException("There is no content.yml on the classpath.");
+		}
+		ConfigurationSection content = YamlConfiguration.loadConfiguration(
+				new InputStreamReader(in, StandardCharsets.UTF_8));
+		File dataFolder;
+		try {
+			dataFolder = Files.createTempDirectory("flier").toFile();
+		} catch (IOException e) {
+			throw (LoadingException) new LoadingException("Could not create the data folder.").initCause(e);
+		}
+		server = new StandInServer().install();
+		world = new StandInWorld(WORLD, new File(dataFolder, WORLD), GROUND, RADIUS);
+		server.addWorld(world);
+		flier = new StandInFlier(dataFolder, content);
+		server.addPlugin(flier);
+		new LangManager();
+		LangManager.reload();
+		// like the plugin does when it's enabled
+		EventRouter.start();
+		AttackerRegistry.start();
+	}
+
+	public static StandInServer getServer() {
+		return server;
+	}
+
+	public static StandInWorld getWorld() {
+		return world;
+	}
+
+	public static StandInFlier getFlier() {
+		return flier;
+	}
+
+	public Lobby getLobby() {
+		return lobby;
+	}
+
+	/**
+	 * @return the game played in this lobby, or null if nobody joined yet
+	 */
+	public Game getGame() {
+		for (List<Game> games : lobby.getGames().values()) {
+			if (!games.isEmpty()) {
+				return games.get(0);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds a new player to the lobby, which puts it in the game. The player
+	 * starts playing after a few ticks, see start().
+	 * 
+	 * @param name
+	 *            unique name of the player
+	 * @return the player's side of the game
+	 */
+	public InGamePlayer addPlayer(String name) {
+		StandInPlayer player = new StandInPlayer(name, lobby.getSpawn());
+		server.addPlayer(player);
+		players.add(player);
+		lobby.addPlayer(player);
+		InGamePlayer data = flier.getPlayers().get(player.getUniqueId());
+		if (data == null) {
+			throw new IllegalStateException(String.format("Player '%s' did not join the game.", name));
+		}
+		return data;
+	}
+
+	/**
+	 * Adds a new player to the game, like addPlayer(String). When the game
+	 * starts, the player is moved away from its spawn and opens its wings.
+	 * 
+	 * @param name
+	 *            unique name of the player
+	 * @param x
+	 *            offset from the center of the game
+	 * @param y
+	 *            offset from the center of the game
+	 * @param z
+	 *            offset from the center of the game
+	 * @return the player's side of the game
+	 */
+	public InGamePlayer addPlayer(String name, double x, double y, double z) {
+		InGamePlayer data = addPlayer(name);
+		placements.put((StandInPlayer) data.getPlayer(), new Vector(x, y, z));
+		return data;
+	}
+
+	public List<StandInPlayer> getPlayers() {
+		return players;
+	}
+
+	/**
+	 * Ticks the server until all players are playing, then places those
+	 * which were added at an offset from the center.
+	 */
+	public void start() {
+		int ticks = 0;
+		while (!allPlaying()) {
+			if (++ticks > MAX_START_TICKS) {
+				throw new IllegalStateException("Players did not start playing.");
+			}
+			tick();
+		}
+		Location center = getGame().getCenter();
+		for (Entry<StandInPlayer, Vector> entry : placements.entrySet()) {
+			StandInPlayer player = entry.getKey();
+			player.teleport(center.clone().add(entry.getValue()));
+			player.setGliding(true);
+		}
+	}
+
+	private boolean allPlaying() {
+		for (StandInPlayer player : players) {
+			InGamePlayer data = flier.getPlayers().get(player.getUniqueId());
+			if (data == null || !data.isPlaying()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Moves all players like the server would and runs one server tick.
+	 */
+	public void tick() {
+		for (StandInPlayer player : players) {
+			player.move();
+		}
+		server.tick();
+	}
+
+	/**
+	 * Stops the lobby, which ends its games and moves the players out.
+	 */
+	public void close() {
+		lobby.stop();
+		for (StandInPlayer player : players) {
+			server.removePlayer(player);
+		}
+		players.clear();
+		placements.clear();
+	}
+
+}
@@ -0,0 +1,450 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.standin;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import pl.betoncraft.flier.action.WingsHealthAction;
+import pl.betoncraft.flier.action.attack.ProjectileGun;
+import pl.betoncraft.flier.activator.HoldingThisActivator;
+import pl.betoncraft.flier.activator.IntervalActivator;
+import pl.betoncraft.flier.activator.TriggerActivator;
+import pl.betoncraft.flier.api.Flier;
+import pl.betoncraft.flier.api.content.Action;
+import pl.betoncraft.flier.api.content.Activator;
+import pl.betoncraft.flier.api.content.Bonus;
+import pl.betoncraft.flier.api.content.Effect;
+import pl.betoncraft.flier.api.content.Engine;
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.content.Lobby;
+import pl.betoncraft.flier.api.content.Wings;
+import pl.betoncraft.flier.api.core.Arena;
+import pl.betoncraft.flier.api.core.ConfigManager;
+import pl.betoncraft.flier.api.core.DatabaseManager;
+import pl.betoncraft.flier.api.core.FancyStuffWrapper;
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.ItemSet;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.Modification;
+import pl.betoncraft.flier.api.core.NoArenaException;
+import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.UsableItem;
+import pl.betoncraft.flier.core.DefaultArena;
+import pl.betoncraft.flier.core.DefaultModification;
+import pl.betoncraft.flier.core.DefaultOwner;
+import pl.betoncraft.flier.core.DefaultSet;
+import pl.betoncraft.flier.core.DefaultUsableItem;
+import pl.betoncraft.flier.engine.MultiplyingEngine;
+import pl.betoncraft.flier.game.DeathMatchGame;
+import pl.betoncraft.flier.lobby.PhysicalLobby;
+import pl.betoncraft.flier.util.DummyPlayer;
+import pl.betoncraft.flier.wings.SimpleWings;
+
+/**
+ * Flier without the plugin around it. Definitions are read from a single
+ * configuration, with lobbies, games, arenas, engines, wings, items, sets,
+ * modifications, effects, actions, activators and bonuses in sections of the
+ * same names. Like the plugin, it loads each engine, wings, item, item set,
+ * action and activator once and then returns its copies. Only the types which
+ * work with the stand-in server are registered.
+ *
+ * @author Jakub Sapalski
+ */
+public class StandInFlier implements Flier {
+
+	private final File dataFolder;
+	private final ConfigurationSection content;
+	private final FileConfiguration config = new YamlConfiguration();
+	private final Logger logger = Logger.getLogger("Flier");
+
+	private final Map<String, EngineFactory> engineTypes = new HashMap<>();
+	private final Map<String, WingsFactory> wingTypes = new HashMap<>();
+	private final Map<String, LobbyFactory> lobbyTypes = new HashMap<>();
+	private final Map<String, GameFactory> gameTypes = new HashMap<>();
+	private final Map<String, BonusFactory> bonusTypes = new HashMap<>();
+	private final Map<String, ActionFactory> actionTypes = new HashMap<>();
+	private final Map<String, ActivatorFactory> activatorTypes = new HashMap<>();
+	private final Map<String, EffectFactory> effectTypes = new HashMap<>();
+
+	private final Map<String, Object> prototypes = new HashMap<>();
+	private final Map<String, Modification> modifications = new HashMap<>();
+	private final Map<String, Lobby> lobbies = new HashMap<>();
+	private final Map<UUID, InGamePlayer> players = new HashMap<>();
+	private final FancyStuffWrapper fancyStuff = new NoFancyStuff();
+
+	/**
+	 * @param dataFolder
+	 *            directory with plugin's files, like messages.yml
+	 * @param content
+	 *            all definitions used by the benchmark or simulation
+	 */
+	public StandInFlier(File dataFolder, ConfigurationSection content) {
+		this.dataFolder = dataFolder;
+		this.content = content;
+		config.set("language", "en");
+		registerLobby("physicalLobby", s -> new PhysicalLobby(s));
+		registerGame("deathMatch", (s, l) -> new DeathMatchGame(s, l));
+		registerEngine("multiplyingEngine", s -> new MultiplyingEngine(s));
+		registerWings("simpleWings", s -> new SimpleWings(s));
+		registerAction("projectileGun", (s, o) -> new ProjectileGun(s, o));
+		registerAction("wingsHealth", (s, o) -> new WingsHealthAction(s, o));
+		registerActivator("trigger", (s, o) -> new TriggerActivator(s, o));
+		registerActivator("holdingThis", (s, o) -> new HoldingThisActivator(s, o));
+		registerActivator("interval", (s, o) -> new IntervalActivator(s, o));
+		registerEffect("countingEffect", s -> new CountingEffect(s));
+	}
+
+	/**
+	 * Loads the lobby, like the plugin does on reload.
+	 * 
+	 * @param id
+	 *            ID of the lobby
+	 * @return the loaded lobby
+	 * @throws LoadingException
+	 *             when the lobby can't be loaded
+	 */
+	public Lobby loadLobby(String id) throws LoadingException {
+		ConfigurationSection section = getSection("lobbies", id);
+		Lobby lobby = factory(lobbyTypes, section).get(section);
+		lobbies.put(id, lobby);
+		return lobby;
+	}
+
+	/**
+	 * @return the main configuration, same as getConfig()
+	 */
+	public FileConfiguration getSettings() {
+		return config;
+	}
+
+	@Override
+	public String getName() {
+		return "Flier";
+	}
+
+	@Override
+	public File getDataFolder() {
+		return dataFolder;
+	}
+
+	@Override
+	public FileConfiguration getConfig() {
+		return config;
+	}
+
+	@Override
+	public InputStream getResource(String filename) {
+		return getClass().getClassLoader().getResourceAsStream(filename);
+	}
+
+	@Override
+	public Logger getLogger() {
+		return logger;
+	}
+
+	@Override
+	public void reload() {
+		for (Lobby lobby : lobbies.values()) {
+			lobby.stop();
+		}
+		lobbies.clear();
+		prototypes.clear();
+		modifications.clear();
+	}
+
+	@Override
+	public ConfigManager getConfigManager() {
+		throw new UnsupportedOperationException("Configuration files are not loaded by the stand-in");
+	}
+
+	@Override
+	public DatabaseManager getDatabaseManager() {
+		throw new UnsupportedOperationException("There is no database in the stand-in");
+	}
+
+	@Override
+	public FancyStuffWrapper getFancyStuff() {
+		return fancyStuff;
+	}
+
+	@Override
+	public void playerJoinsGame(InGamePlayer player) {
+		players.put(player.getPlayer().getUniqueId(), player);
+	}
+
+	@Override
+	public void playerLeavesGame(InGamePlayer player) {
+		players.remove(player.getPlayer().getUniqueId());
+	}
+
+	@Override
+	public Map<UUID, InGamePlayer> getPlayers() {
+		return Collections.unmodifiableMap(players);
+	}
+
+	@Override
+	public Map<String, Lobby> getLobbies() {
+		return Collections.unmodifiableMap(lobbies);
+	}
+
+	@Override
+	public Engine getEngine(String id) throws LoadingException {
+		return ((Engine) prototype("engines", id, s -> factory(engineTypes, s).get(s))).replicate();
+	}
+
+	@Override
+	public UsableItem getItem(String id, InGamePlayer owner) throws LoadingException {
+		return ((UsableItem) prototype("items", id, s -> new DefaultUsableItem(s, new DummyPlayer()))).replicate(owner);
+	}
+
+	@Override
+	public Wings getWing(String id) throws LoadingException {
+		return ((Wings) prototype("wings", id, s -> factory(wingTypes, s).get(s))).replicate();
+	}
+
+	@Override
+	public Game getGame(String id, Lobby lobby) throws LoadingException, NoArenaException {
+		ConfigurationSection section = getSection("games", id);
+		return factory(gameTypes, section).get(section, lobby);
+	}
+
+	@Override
+	public Action getAction(String id, Optional<Owner> owner) throws LoadingException {
+		String kind = owner.isPresent() ? "actions.owned" : "actions";
+		Action prototype = (Action) prototype(kind, "actions", id,
+				s -> factory(actionTypes, s).get(s, prototypeOwner(owner)));
+		return prototype.replicate(owner);
+	}
+
+	@Override
+	public Activator getActivator(String id, Optional<Owner> owner) throws LoadingException {
+		String kind = owner.isPresent() ? "activators.owned" : "activators";
+		Activator prototype = (Activator) prototype(kind, "activators", id,
+				s -> factory(activatorTypes, s).get(s, prototypeOwner(owner)));
+		return prototype.replicate(owner);
+	}
+
+	@Override
+	public Bonus getBonus(String id, Game game, Optional<Owner> owner) throws LoadingException {
+		ConfigurationSection section = getSection("bonuses", id);
+		return factory(bonusTypes, section).get(section, game, owner);
+	}
+
+	@Override
+	public Modification getModification(String id) throws LoadingException {
+		Modification mod = modifications.get(id);
+		if (mod == null) {
+			mod = new DefaultModification(getSection("modifications", id));
+			modifications.put(id, mod);
+		}
+		return mod;
+	}
+
+	@Override
+	public ItemSet getItemSet(String id, InGamePlayer owner) throws LoadingException {
+		return ((ItemSet) prototype("sets", id, s -> new DefaultSet(s, new DummyPlayer()))).replicate(owner);
+	}
+
+	@Override
+	public Effect getEffect(String id) throws LoadingException {
+		ConfigurationSection section = getSection("effects", id);
+		return factory(effectTypes, section).get(section);
+	}
+
+	@Override
+	public Arena getArena(String id) throws LoadingException {
+		return new DefaultArena(getSection("arenas", id));
+	}
+
+	private interface Loader {
+		public Object load(ConfigurationSection section) throws LoadingException;
+	}
+
+	private Object prototype(String kind, String id, Loader loader) throws LoadingException {
+		return prototype(kind, kind, id, loader);
+	}
+
+	private Object prototype(String cache, String kind, String id, Loader loader) throws LoadingException {
+		String key = cache + '.' + id;
+		Object prototype = prototypes.get(key);
+		if (prototype == null) {
+			try {
+				prototype = loader.load(getSection(kind, id));
+			} catch (LoadingException e) {
+				throw (LoadingException) new LoadingException(String.format("Error in '%s' %s.", id, kind)).initCause(e);
+			}
+			prototypes.put(key, prototype);
+		}
+		return prototype;
+	}
+
+	private Optional<Owner> prototypeOwner(Optional<Owner> owner) {
+		return owner.isPresent() ? Optional.of(new DefaultOwner(new DummyPlayer(), null)) : Optional.empty();
+	}
+
+	private ConfigurationSection getSection(String kind, String id) throws LoadingException {
+		ConfigurationSection section = content.getConfigurationSection(kind + '.' + id);
+		if (section == null) {
+			throw new LoadingException(String.format("Definition '%s' does not exist in %s.", id, kind));
+		}
+		return section;
+	}
+
+	private <F> F factory(Map<String, F> types, ConfigurationSection section) throws LoadingException {
+		String type = section.getString("type");
+		F factory = types.get(type);
+		if (factory == null) {
+			throw new LoadingException(String.format("Type '%s' is not registered in the stand-in.", type));
+		}
+		return factory;
+	}
+
+	@Override
+	public void registerEngine(String name, EngineFactory factory) {
+		engineTypes.put(name, factory);
+	}
+
+	@Override
+	public void registerWings(String name, WingsFactory factory) {
+		wingTypes.put(name, factory);
+	}
+
+	@Override
+	public void registerLobby(String name, LobbyFactory factory) {
+		lobbyTypes.put(name, factory);
+	}
+
+	@Override
+	public void registerGame(String name, GameFactory factory) {
+		gameTypes.put(name, factory);
+	}
+
+	@Override
+	public void registerBonus(String name, BonusFactory factory) {
+		bonusTypes.put(name, factory);
+	}
+
+	@Override
+	public void registerAction(String name, ActionFactory factory) {
+		actionTypes.put(name, factory);
+	}
+
+	@Override
+	public void registerActivator(String name, ActivatorFactory factory) {
+		activatorTypes.put(name, factory);
+	}
+
+	@Override
+	public void registerEffect(String name, EffectFactory factory) {
+		effectTypes.put(name, factory);
+	}
+
+	@Override
+	public LobbyFactory getLobbyFactory(String name) {
+		return lobbyTypes.get(name);
+	}
+
+	@Override
+	public GameFactory getGameFactory(String name) {
+		return gameTypes.get(name);
+	}
+
+	@Override
+	public EngineFactory getEngineFactory(String name) {
+		return engineTypes.get(name);
+	}
+
+	@Override
+	public WingsFactory getWingsFactory(String name) {
+		return wingTypes.get(name);
+	}
+
+	@Override
+	public BonusFactory getBonusFactory(String name) {
+		return bonusTypes.get(name);
+	}
+
+	@Override
+	public ActionFactory getActionFactory(String name) {
+		return actionTypes.get(name);
+	}
+
+	@Override
+	public ActivatorFactory getActivatorFactory(String name) {
+		return activatorTypes.get(name);
+	}
+
+	@Override
+	public EffectFactory getEffectFactory(String name) {
+		return effectTypes.get(name);
+	}
+
+	/**
+	 * Like the plugin without any of the libraries for titles, action bars and
+	 * tab lists.
+	 */
+	private static class NoFancyStuff implements FancyStuffWrapper {
+
+		@Override
+		public void sendTitle(Player player, String title, String sub, int fadeIn, int stay, int fadeOut) {
+		}
+
+		@Override
+		public void sendActionBar(Player player, String message) {
+		}
+
+		@Override
+		public void setTabList(Player player, String header, String footer) {
+		}
+
+		@Override
+		public boolean hasTitleHandler() {
+			return false;
+		}
+
+		@Override
+		public boolean hasActionBarHandler() {
+			return false;
+		}
+
+		@Override
+		public boolean hasTabListHandler() {
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,621 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.standin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.metadata.MetadataValue;
+import org.bukkit.permissions.Permission;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.util.Vector;
+
+/**
+ * Bukkit's side of a player. The client's input, like looking around,
+ * sneaking or opening the wings, is set directly by scripts, and move() does
+ * what the server would do with it: applies gravity, lands on blocks and deals
+ * fall damage through the server's events. Everything the plugin sends to the
+ * player is counted.
+ *
+ * @author Jakub Sapalski
+ */
+public class StandInPlayer implements Player {
+
+	private static final double GRAVITY = 0.08;
+	private static final double DRAG = 0.98;
+	private static final double MAX_HEALTH = 20;
+
+	private static int nextEntityId = 1;
+
+	private final String name;
+	private final UUID uuid;
+	private final int entityId = nextEntityId++;
+	private final Location location;
+	private final Vector velocity = new Vector();
+	private final Inventory inventory = new Inventory();
+	private final MaxHealth maxHealth = new MaxHealth();
+
+	private Scoreboard scoreboard = Bukkit.getScoreboardManager().getMainScoreboard();
+	private GameMode gameMode = GameMode.SURVIVAL;
+	private double health = MAX_HEALTH;
+	private float exp = 0;
+	private float fallDistance = 0;
+
+	private boolean online = true;
+	private boolean gliding = false;
+	private boolean sneaking = false;
+	private boolean onGround = false;
+
+	private long particles = 0;
+	private long messages = 0;
+	private long sounds = 0;
+
+	public StandInPlayer(String name, Location location) {
+		this.name = name;
+		this.location = location.clone();
+		uuid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Moves the player by its velocity, like the server would. Players who
+	 * don't glide fall, wings can't glide without an elytra and landing on a
+	 * solid block hurts if the fall was long enough.
+	 */
+	public void move() {
+		ItemStack chestplate = inventory.getChestplate();
+		if (gliding && (chestplate == null || chestplate.getType() != Material.ELYTRA)) {
+			gliding = false;
+		}
+		if (!gliding && !onGround) {
+			velocity.setY((velocity.getY() - GRAVITY) * DRAG);
+		}
+		location.add(velocity);
+		if (velocity.getY() < 0) {
+			fallDistance -= velocity.getY();
+		}
+		if (gliding && velocity.getY() > -0.5) {
+			// gliding slowly doesn't hurt
+			fallDistance = 1;
+		}
+		World world = location.getWorld();
+		// the block under the feet, also when standing exactly on top of it
+		int blockY = (int) Math.floor(location.getY() - 0.001);
+		if (world.getBlockAt(location.getBlockX(), blockY, location.getBlockZ()).getType().isSolid()) {
+			// landed, standing on top of the block
+			location.setY(blockY + 1);
+			velocity.setX(0).setY(0).setZ(0);
+			onGround = true;
+			gliding = false;
+			float distance = fallDistance;
+			fallDistance = 0;
+			if (distance > 3) {
+				damage(DamageCause.FALL, Math.ceil(distance - 3));
+			}
+		} else {
+			onGround = false;
+		}
+	}
+
+	/**
+	 * @return the live location of this player, unlike getLocation()
+	 */
+	public Location getCurrentLocation() {
+		return location;
+	}
+
+	/**
+	 * @return the live velocity of this player, unlike getVelocity()
+	 */
+	public Vector getCurrentVelocity() {
+		return velocity;
+	}
+
+	public void setOnline(boolean online) {
+		this.online = online;
+	}
+
+	public void setSneaking(boolean sneaking) {
+		this.sneaking = sneaking;
+	}
+
+	/**
+	 * @return the number of particle packets sent to this player
+	 */
+	public long getParticleCount() {
+		return particles;
+	}
+
+	/**
+	 * @return the number of sounds played to this player
+	 */
+	public long getSoundCount() {
+		return sounds;
+	}
+
+	/**
+	 * @return the number of messages sent to this player
+	 */
+	public long getMessageCount() {
+		return messages;
+	}
+
+	private void damage(DamageCause cause, double amount) {
+		EntityDamageEvent event = new EntityDamageEvent(this, cause, amount);
+		Bukkit.getPluginManager().callEvent(event);
+		if (event.isCancelled()) {
+			return;
+		}
+		health -= event.getFinalDamage();
+		if (health <= 0) {
+			// there is no death screen, the player is back at once
+			health = maxHealth.getValue();
+		}
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public UUID getUniqueId() {
+		return uuid;
+	}
+
+	@Override
+	public int getEntityId() {
+		return entityId;
+	}
+
+	@Override
+	public void sendMessage(String message) {
+		messages++;
+	}
+
+	@Override
+	public boolean hasPermission(Permission permission) {
+		return true;
+	}
+
+	@Override
+	public List<MetadataValue> getMetadata(String key) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Location getLocation() {
+		// the server creates a new Location on each call, so it's copied too
+		return location.clone();
+	}
+
+	@Override
+	public Location getLocation(Location loc) {
+		if (loc != null) {
+			loc.setWorld(location.getWorld());
+			loc.setX(location.getX());
+			loc.setY(location.getY());
+			loc.setZ(location.getZ());
+			loc.setYaw(location.getYaw());
+			loc.setPitch(location.getPitch());
+		}
+		return loc;
+	}
+
+	@Override
+	public boolean teleport(Location loc) {
+		location.setWorld(loc.getWorld());
+		location.setX(loc.getX());
+		location.setY(loc.getY());
+		location.setZ(loc.getZ());
+		location.setYaw(loc.getYaw());
+		location.setPitch(loc.getPitch());
+		velocity.setX(0).setY(0).setZ(0);
+		fallDistance = 0;
+		onGround = false;
+		return true;
+	}
+
+	@Override
+	public Vector getVelocity() {
+		return velocity.clone();
+	}
+
+	@Override
+	public void setVelocity(Vector velocity) {
+		this.velocity.setX(velocity.getX()).setY(velocity.getY()).setZ(velocity.getZ());
+	}
+
+	@Override
+	public World getWorld() {
+		return location.getWorld();
+	}
+
+	@Override
+	public boolean isOnGround() {
+		return onGround;
+	}
+
+	@Override
+	public boolean isValid() {
+		return online;
+	}
+
+	@Override
+	public boolean isOnline() {
+		return online;
+	}
+
+	@Override
+	public Location getEyeLocation() {
+		return location.clone().add(0, getEyeHeight(), 0);
+	}
+
+	@Override
+	public double getEyeHeight() {
+		return 1.62;
+	}
+
+	@Override
+	public boolean isGliding() {
+		return gliding;
+	}
+
+	@Override
+	public void setGliding(boolean gliding) {
+		this.gliding = gliding;
+	}
+
+	@Override
+	public boolean isSneaking() {
+		return sneaking;
+	}
+
+	@Override
+	public PlayerInventory getInventory() {
+		return inventory;
+	}
+
+	@Override
+	public Collection<PotionEffect> getActivePotionEffects() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public AttributeInstance getAttribute(Attribute attribute) {
+		return attribute == Attribute.GENERIC_MAX_HEALTH ? maxHealth : null;
+	}
+
+	@Override
+	public double getHealth() {
+		return health;
+	}
+
+	@Override
+	public void setHealth(double health) {
+		this.health = health;
+	}
+
+	@Override
+	public void damage(double amount) {
+		damage(DamageCause.CUSTOM, amount);
+	}
+
+	@Override
+	public double getMaxHealth() {
+		return maxHealth.getValue();
+	}
+
+	@Override
+	public void resetMaxHealth() {
+		maxHealth.setBaseValue(maxHealth.getDefaultValue());
+	}
+
+	@Override
+	public GameMode getGameMode() {
+		return gameMode;
+	}
+
+	@Override
+	public void setGameMode(GameMode mode) {
+		gameMode = mode;
+	}
+
+	@Override
+	public float getExp() {
+		return exp;
+	}
+
+	@Override
+	public void setExp(float exp) {
+		this.exp = exp;
+	}
+
+	@Override
+	public void setFallDistance(float distance) {
+		fallDistance = distance;
+	}
+
+	@Override
+	public Scoreboard getScoreboard() {
+		return scoreboard;
+	}
+
+	@Override
+	public void setScoreboard(Scoreboard scoreboard) {
+		this.scoreboard = scoreboard;
+	}
+
+	@Override
+	public boolean canSee(Player player) {
+		return true;
+	}
+
+	@Override
+	public void showPlayer(Player player) {
+	}
+
+	@Override
+	public void saveData() {
+		// the backup copies this file, so it has to exist
+		File dir = new File(getWorld().getWorldFolder(), "playerdata");
+		dir.mkdirs();
+		try {
+			new File(dir, uuid + ".dat").createNewFile();
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not save player data", e);
+		}
+	}
+
+	@Override
+	public void loadData() {
+	}
+
+	@Override
+	public void spawnParticle(Particle particle, double x, double y, double z, int count,
+			double offsetX, double offsetY, double offsetZ, double extra) {
+		particles++;
+	}
+
+	@Override
+	public void playSound(Location location, Sound sound, float volume, float pitch) {
+		sounds++;
+	}
+
+	@Override
+	public void remove() {
+	}
+
+	@Override
+	public boolean eject() {
+		return false;
+	}
+
+	@Override
+	public void setFireTicks(int ticks) {
+	}
+
+	@Override
+	public void setGlowing(boolean flag) {
+	}
+
+	@Override
+	public void setGravity(boolean gravity) {
+	}
+
+	@Override
+	public void setInvulnerable(boolean flag) {
+	}
+
+	@Override
+	public void setFlying(boolean value) {
+	}
+
+	@Override
+	public void setAllowFlight(boolean flight) {
+	}
+
+	@Override
+	public void setCanPickupItems(boolean pickup) {
+	}
+
+	@Override
+	public void setCollidable(boolean collidable) {
+	}
+
+	@Override
+	public void removePotionEffect(PotionEffectType type) {
+	}
+
+	@Override
+	public void setExhaustion(float value) {
+	}
+
+	@Override
+	public void setSaturation(float value) {
+	}
+
+	@Override
+	public void setFoodLevel(int value) {
+	}
+
+	@Override
+	public void setLevel(int level) {
+	}
+
+	/**
+	 * Inventory with slots numbered like the server does: 36 storage slots,
+	 * boots, leggings, chestplate, helmet and the off hand.
+	 */
+	private static class Inventory implements PlayerInventory {
+
+		private static final int BOOTS = 36;
+		private static final int LEGGINGS = 37;
+		private static final int CHESTPLATE = 38;
+		private static final int HELMET = 39;
+		private static final int OFF_HAND = 40;
+
+		private final ItemStack[] items = new ItemStack[41];
+		private int held = 0;
+
+		@Override
+		public int getHeldItemSlot() {
+			return held;
+		}
+
+		@Override
+		public void setHeldItemSlot(int slot) {
+			held = slot;
+		}
+
+		@Override
+		public ItemStack getItemInMainHand() {
+			return items[held];
+		}
+
+		@Override
+		public void setItemInMainHand(ItemStack item) {
+			items[held] = item;
+		}
+
+		@Override
+		public ItemStack getItemInOffHand() {
+			return items[OFF_HAND];
+		}
+
+		@Override
+		public void setItemInOffHand(ItemStack item) {
+			items[OFF_HAND] = item;
+		}
+
+		@Override
+		public ItemStack getHelmet() {
+			return items[HELMET];
+		}
+
+		@Override
+		public void setHelmet(ItemStack helmet) {
+			items[HELMET] = helmet;
+		}
+
+		@Override
+		public ItemStack getChestplate() {
+			return items[CHESTPLATE];
+		}
+
+		@Override
+		public void setChestplate(ItemStack chestplate) {
+			items[CHESTPLATE] = chestplate;
+		}
+
+		@Override
+		public ItemStack getLeggings() {
+			return items[LEGGINGS];
+		}
+
+		@Override
+		public void setLeggings(ItemStack leggings) {
+			items[LEGGINGS] = leggings;
+		}
+
+		@Override
+		public ItemStack getBoots() {
+			return items[BOOTS];
+		}
+
+		@Override
+		public void setBoots(ItemStack boots) {
+			items[BOOTS] = boots;
+		}
+
+		@Override
+		public ItemStack[] getContents() {
+			return items.clone();
+		}
+
+		@Override
+		public ItemStack getItem(int index) {
+			return items[index];
+		}
+
+		@Override
+		public void setItem(int index, ItemStack item) {
+			items[index] = item;
+		}
+
+		@Override
+		public void clear() {
+			Arrays.fill(items, null);
+		}
+
+	}
+
+	private static class MaxHealth implements AttributeInstance {
+
+		private double base = MAX_HEALTH;
+
+		@Override
+		public double getBaseValue() {
+			return base;
+		}
+
+		@Override
+		public void setBaseValue(double value) {
+			base = value;
+		}
+
+		@Override
+		public double getDefaultValue() {
+			return MAX_HEALTH;
+		}
+
+		@Override
+		public double getValue() {
+			return base;
+		}
+
+	}
+
+}
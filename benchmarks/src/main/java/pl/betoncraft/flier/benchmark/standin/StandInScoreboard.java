@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.standin;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+/**
+ * Scoreboard which keeps its objectives, scores and teams in maps, like the
+ * server does, and counts the changes which would be sent to the client.
+ *
+ * @author Jakub Sapalski
+ */
+public class StandInScoreboard implements Scoreboard {
+
+	private final StandInServer server;
+	private final Map<String, StandInObjective> objectives = new HashMap<>();
+	private final Map<String, StandInTeam> teams = new HashMap<>();
+	private final Map<String, StandInTeam> entries = new HashMap<>();
+
+	StandInScoreboard(StandInServer server) {
+		this.server = server;
+	}
+
+	@Override
+	public Objective registerNewObjective(String name, String criteria) {
+		if (objectives.containsKey(name)) {
+			throw new IllegalArgumentException("An objective of name '" + name + "' already exists");
+		}
+		StandInObjective objective = new StandInObjective();
+		objectives.put(name, objective);
+		server.countScoreboardUpdate();
+		return objective;
+	}
+
+	@Override
+	public void resetScores(String entry) {
+		for (StandInObjective objective : objectives.values()) {
+			if (objective.scores.remove(entry) != null) {
+				server.countScoreboardUpdate();
+			}
+		}
+	}
+
+	@Override
+	public Team registerNewTeam(String name) {
+		if (teams.containsKey(name)) {
+			throw new IllegalArgumentException("Team name '" + name + "' is already in use");
+		}
+		StandInTeam team = new StandInTeam(name);
+		teams.put(name, team);
+		server.countScoreboardUpdate();
+		return team;
+	}
+
+	@Override
+	public Team getTeam(String name) {
+		return teams.get(name);
+	}
+
+	@Override
+	public Team getEntryTeam(String entry) {
+		return entries.get(entry);
+	}
+
+	@Override
+	public Set<Team> getTeams() {
+		return new HashSet<>(teams.values());
+	}
+
+	private class StandInObjective implements Objective {
+
+		private final Map<String, StandInScore> scores = new HashMap<>();
+
+		@Override
+		public void setDisplayName(String name) {
+			server.countScoreboardUpdate();
+		}
+
+		@Override
+		public void setDisplaySlot(DisplaySlot slot) {
+			server.countScoreboardUpdate();
+		}
+
+		@Override
+		public Score getScore(String entry) {
+			return scores.computeIfAbsent(entry, e -> new StandInScore());
+		}
+
+	}
+
+	private class StandInScore implements Score {
+
+		private int score = 0;
+
+		@Override
+		public int getScore() {
+			return score;
+		}
+
+		@Override
+		public void setScore(int score) {
+			this.score = score;
+			server.countScoreboardUpdate();
+		}
+
+	}
+
+	private class StandInTeam implements Team {
+
+		private final String name;
+		private String prefix = "";
+
+		private StandInTeam(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String getPrefix() {
+			return prefix;
+		}
+
+		@Override
+		public void setPrefix(String prefix) {
+			this.prefix = prefix;
+			server.countScoreboardUpdate();
+		}
+
+		@Override
+		public void addEntry(String entry) {
+			StandInTeam old = entries.put(entry, this);
+			if (old != this) {
+				server.countScoreboardUpdate();
+			}
+		}
+
+		@Override
+		public void unregister() {
+			teams.remove(name);
+			entries.values().removeIf(team -> team == this);
+			server.countScoreboardUpdate();
+		}
+
+	}
+
+}
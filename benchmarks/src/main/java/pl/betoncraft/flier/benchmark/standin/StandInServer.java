@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.standin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+
+/**
+ * Server which runs everything in the calling thread. It delivers events to
+ * registered listeners and runs scheduled tasks when it's ticked, so
+ * benchmarks and simulations decide when time passes. Scoreboards only count
+ * their updates.
+ *
+ * @author Jakub Sapalski
+ */
+public class StandInServer implements Server, PluginManager, BukkitScheduler, ScoreboardManager {
+
+	private final Map<String, World> worlds = new HashMap<>();
+	private final Map<UUID, Player> players = new HashMap<>();
+	private final Map<String, Plugin> plugins = new HashMap<>();
+	private final List<Handler> handlers = new ArrayList<>();
+	private final Map<Class<?>, Route> routes = new HashMap<>();
+	private final List<Task> tasks = new ArrayList<>();
+	private final StandInScoreboard mainScoreboard = new StandInScoreboard(this);
+	private int nextTaskId = 1;
+	private long events = 0;
+	private long scoreboardUpdates = 0;
+
+	/**
+	 * Makes this server the one returned by Bukkit's static methods.
+	 */
+	public StandInServer install() {
+		Bukkit.setServer(this);
+		return this;
+	}
+
+	public void addWorld(World world) {
+		worlds.put(world.getName(), world);
+	}
+
+	public void addPlayer(Player player) {
+		players.put(player.getUniqueId(), player);
+	}
+
+	public void removePlayer(Player player) {
+		players.remove(player.getUniqueId());
+	}
+
+	public void addPlugin(Plugin plugin) {
+		plugins.put(plugin.getName(), plugin);
+	}
+
+	/**
+	 * Runs all scheduled tasks which are due in this tick.
+	 */
+	public void tick() {
+		// tasks can schedule other tasks, they will run in the next tick
+		for (Task task : tasks.toArray(new Task[tasks.size()])) {
+			if (!task.cancelled && --task.wait <= 0) {
+				if (task.period <= 0) {
+					task.cancelled = true;
+				} else {
+					task.wait = task.period;
+				}
+				task.runnable.run();
+			}
+		}
+		tasks.removeIf(task -> task.cancelled);
+	}
+
+	/**
+	 * @return the number of events called on this server
+	 */
+	public long getEventCount() {
+		return events;
+	}
+
+	/**
+	 * @return the number of calls of each event type, by the event's name
+	 */
+	public Map<String, Long> getEventCounts() {
+		Map<String, Long> counts = new TreeMap<>();
+		for (Entry<Class<?>, Route> entry : routes.entrySet()) {
+			counts.put(entry.getKey().getSimpleName(), entry.getValue().count);
+		}
+		return counts;
+	}
+
+	/**
+	 * @return the number of scoreboard updates on all scoreboards of this
+	 *         server
+	 */
+	public long getScoreboardUpdates() {
+		return scoreboardUpdates;
+	}
+
+	void countScoreboardUpdate() {
+		scoreboardUpdates++;
+	}
+
+	@Override
+	public PluginManager getPluginManager() {
+		return this;
+	}
+
+	@Override
+	public BukkitScheduler getScheduler() {
+		return this;
+	}
+
+	@Override
+	public World getWorld(String name) {
+		return worlds.get(name);
+	}
+
+	@Override
+	public Player getPlayer(UUID id) {
+		return players.get(id);
+	}
+
+	@Override
+	public ScoreboardManager getScoreboardManager() {
+		return this;
+	}
+
+	@Override
+	public Scoreboard getMainScoreboard() {
+		return mainScoreboard;
+	}
+
+	@Override
+	public Scoreboard getNewScoreboard() {
+		return new StandInScoreboard(this);
+	}
+
+	@Override
+	public Plugin getPlugin(String name) {
+		return plugins.get(name);
+	}
+
+	@Override
+	public boolean isPluginEnabled(String name) {
+		return plugins.containsKey(name);
+	}
+
+	@Override
+	public void registerEvents(Listener listener, Plugin plugin) {
+		for (Method method : listener.getClass().getMethods()) {
+			EventHandler annotation = method.getAnnotation(EventHandler.class);
+			if (annotation == null || method.getParameterCount() != 1 ||
+					!Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+				continue;
+			}
+			try {
+				// listeners are often private classes
+				method.setAccessible(true);
+				MethodHandle handle = MethodHandles.lookup().unreflect(method).bindTo(listener)
+						.asType(MethodType.methodType(void.class, Event.class));
+				handlers.add(new Handler(method.getParameterTypes()[0], annotation.priority(), handle));
+			} catch (IllegalAccessException e) {
+				throw new IllegalArgumentException(e);
+			}
+		}
+		handlers.sort((a, b) -> a.priority.compareTo(b.priority));
+		// keep the counts, but find the handlers again
+		for (Entry<Class<?>, Route> entry : routes.entrySet()) {
+			entry.getValue().handlers = route(entry.getKey());
+		}
+	}
+
+	@Override
+	public void callEvent(Event event) {
+		events++;
+		Route route = routes.get(event.getClass());
+		if (route == null) {
+			route = new Route(route(event.getClass()));
+			routes.put(event.getClass(), route);
+		}
+		route.count++;
+		for (Handler handler : route.handlers) {
+			try {
+				handler.handle.invokeExact(event);
+			} catch (Throwable e) {
+				throw new IllegalStateException("Could not pass " + event.getEventName(), e);
+			}
+		}
+	}
+
+	private Handler[] route(Class<?> type) {
+		return handlers.stream()
+				.filter(handler -> handler.type.isAssignableFrom(type))
+				.toArray(Handler[]::new);
+	}
+
+	@Override
+	public int scheduleSyncDelayedTask(Plugin plugin, Runnable runnable) {
+		return runTaskLater(plugin, runnable, 0).getTaskId();
+	}
+
+	@Override
+	public int scheduleSyncDelayedTask(Plugin plugin, Runnable runnable, long delay) {
+		return runTaskLater(plugin, runnable, delay).getTaskId();
+	}
+
+	@Override
+	public BukkitTask runTaskLater(Plugin plugin, Runnable runnable, long delay) {
+		Task task = new Task(nextTaskId++, runnable, delay, 0);
+		tasks.add(task);
+		return task;
+	}
+
+	@Override
+	public BukkitTask runTaskTimer(Plugin plugin, Runnable runnable, long delay, long period) {
+		Task task = new Task(nextTaskId++, runnable, delay, Math.max(1, period));
+		tasks.add(task);
+		return task;
+	}
+
+	private static class Handler {
+
+		private final Class<?> type;
+		private final EventPriority priority;
+		private final MethodHandle handle;
+
+		private Handler(Class<?> type, EventPriority priority, MethodHandle handle) {
+			this.type = type;
+			this.priority = priority;
+			this.handle = handle;
+		}
+
+	}
+
+	/**
+	 * Handlers of a single event class, with the number of calls.
+	 */
+	private static class Route {
+
+		private Handler[] handlers;
+		private long count = 0;
+
+		private Route(Handler[] handlers) {
+			this.handlers = handlers;
+		}
+
+	}
+
+	private static class Task implements BukkitTask {
+
+		private final int id;
+		private final Runnable runnable;
+		private final long period;
+		private long wait;
+		private boolean cancelled = false;
+
+		private Task(int id, Runnable runnable, long delay, long period) {
+			this.id = id;
+			this.runnable = runnable;
+			this.period = period;
+			wait = Math.max(1, delay);
+		}
+
+		@Override
+		public int getTaskId() {
+			return id;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+	}
+
+}
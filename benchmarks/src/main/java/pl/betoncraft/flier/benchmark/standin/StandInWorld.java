@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.benchmark.standin;
+
+import java.io.File;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+
+/**
+ * Flat world: blocks up to the ground level are solid, air is above. All
+ * chunks in the radius around the center are loaded.
+ *
+ * @author Jakub Sapalski
+ */
+public class StandInWorld implements World {
+
+	private final String name;
+	private final File folder;
+	private final int ground;
+	private final int chunkRadius;
+
+	/**
+	 * @param name
+	 *            name of the world
+	 * @param folder
+	 *            folder of the world, where player data is saved
+	 * @param ground
+	 *            the highest solid block level
+	 * @param radius
+	 *            distance from the center, in blocks, in which chunks are
+	 *            loaded
+	 */
+	public StandInWorld(String name, File folder, int ground, int radius) {
+		this.name = name;
+		this.folder = folder;
+		this.ground = ground;
+		chunkRadius = (radius >> 4) + 1;
+	}
+
+	/**
+	 * @return the highest solid block level
+	 */
+	public int getGround() {
+		return ground;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public File getWorldFolder() {
+		return folder;
+	}
+
+	@Override
+	public Block getBlockAt(int x, int y, int z) {
+		return new StandInBlock(x, y, z, y <= ground ? Material.STONE : Material.AIR);
+	}
+
+	@Override
+	public boolean isChunkLoaded(int x, int z) {
+		return Math.abs(x) <= chunkRadius && Math.abs(z) <= chunkRadius;
+	}
+
+	@Override
+	public Entity spawnEntity(Location location, EntityType type) {
+		throw new UnsupportedOperationException("There are no entities in the stand-in, use virtual projectiles.");
+	}
+
+	private class StandInBlock implements Block {
+
+		private final int x;
+		private final int y;
+		private final int z;
+		private final Material type;
+
+		private StandInBlock(int x, int y, int z, Material type) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.type = type;
+		}
+
+		@Override
+		public Material getType() {
+			return type;
+		}
+
+		@Override
+		public World getWorld() {
+			return StandInWorld.this;
+		}
+
+		@Override
+		public int getX() {
+			return x;
+		}
+
+		@Override
+		public int getY() {
+			return y;
+		}
+
+		@Override
+		public int getZ() {
+			return z;
+		}
+
+		@Override
+		public Location getLocation() {
+			return new Location(StandInWorld.this, x, y, z);
+		}
+
+	}
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit;
+
+import java.util.UUID;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scoreboard.ScoreboardManager;
+
+/**
+ * Stand-in for the Bukkit singleton. The benchmarks install their own Server
+ * before touching any Flier class.
+ *
+ * @author Jakub Sapalski
+ */
+public final class Bukkit {
+
+	private static Server server;
+
+	private Bukkit() {
+	}
+
+	public static Server getServer() {
+		return server;
+	}
+
+	public static void setServer(Server server) {
+		Bukkit.server = server;
+	}
+
+	public static PluginManager getPluginManager() {
+		return server.getPluginManager();
+	}
+
+	public static BukkitScheduler getScheduler() {
+		return server.getScheduler();
+	}
+
+	public static World getWorld(String name) {
+		return server.getWorld(name);
+	}
+
+	public static Player getPlayer(UUID id) {
+		return server.getPlayer(id);
+	}
+
+	public static ScoreboardManager getScoreboardManager() {
+		return server.getScoreboardManager();
+	}
+
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit;
+
+import org.bukkit.block.Block;
+import org.bukkit.util.Vector;
+
+/**
+ * Stand-in for Bukkit's Location, a mutable point in a world with rotation.
+ *
+ * @author Jakub Sapalski
+ */
+public class Location implements Cloneable {
+
+	private World world;
+	private double x;
+	private double y;
+	private double z;
+	private float pitch;
+	private float yaw;
+
+	public Location(World world, double x, double y, double z) {
+		this(world, x, y, z, 0, 0);
+	}
+
+	public Location(World world, double x, double y, double z, float yaw, float pitch) {
+		this.world = world;
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.yaw = yaw;
+		this.pitch = pitch;
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public void setWorld(World world) {
+		this.world = world;
+	}
+
+	public Block getBlock() {
+		return world.getBlockAt(getBlockX(), getBlockY(), getBlockZ());
+	}
+
+	public double getX() {
+		return x;
+	}
+
+	public void setX(double x) {
+		this.x = x;
+	}
+
+	public int getBlockX() {
+		return (int) Math.floor(x);
+	}
+
+	public double getY() {
+		return y;
+	}
+
+	public void setY(double y) {
+		this.y = y;
+	}
+
+	public int getBlockY() {
+		return (int) Math.floor(y);
+	}
+
+	public double getZ() {
+		return z;
+	}
+
+	public void setZ(double z) {
+		this.z = z;
+	}
+
+	public int getBlockZ() {
+		return (int) Math.floor(z);
+	}
+
+	public float getYaw() {
+		return yaw;
+	}
+
+	public void setYaw(float yaw) {
+		this.yaw = yaw;
+	}
+
+	public float getPitch() {
+		return pitch;
+	}
+
+	public void setPitch(float pitch) {
+		this.pitch = pitch;
+	}
+
+	public Vector getDirection() {
+		double rotX = Math.toRadians(yaw);
+		double rotY = Math.toRadians(pitch);
+		double xz = Math.cos(rotY);
+		return new Vector(-xz * Math.sin(rotX), -Math.sin(rotY), xz * Math.cos(rotX));
+	}
+
+	public Location add(double x, double y, double z) {
+		this.x += x;
+		this.y += y;
+		this.z += z;
+		return this;
+	}
+
+	public Location add(Vector vec) {
+		return add(vec.getX(), vec.getY(), vec.getZ());
+	}
+
+	public double distanceSquared(Location o) {
+		double dx = x - o.x, dy = y - o.y, dz = z - o.z;
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	public double distance(Location o) {
+		return Math.sqrt(distanceSquared(o));
+	}
+
+	public Vector toVector() {
+		return new Vector(x, y, z);
+	}
+
+	@Override
+	public Location clone() {
+		try {
+			return (Location) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stand-in for Bukkit's ConfigurationSection, reduced to the accessors used
+ * by Flier's loaders.
+ *
+ * @author Jakub Sapalski
+ */
+public interface ConfigurationSection {
+
+	public String getName();
+
+	public Set<String> getKeys(boolean deep);
+
+	public Map<String, Object> getValues(boolean deep);
+
+	public boolean contains(String path);
+
+	public Object get(String path);
+
+	public Object get(String path, Object def);
+
+	public void set(String path, Object value);
+
+	public ConfigurationSection createSection(String path);
+
+	public ConfigurationSection getConfigurationSection(String path);
+
+	public boolean isConfigurationSection(String path);
+
+	public String getString(String path);
+
+	public String getString(String path, String def);
+
+	public int getInt(String path);
+
+	public int getInt(String path, int def);
+
+	public long getLong(String path);
+
+	public long getLong(String path, long def);
+
+	public double getDouble(String path);
+
+	public double getDouble(String path, double def);
+
+	public boolean getBoolean(String path);
+
+	public boolean getBoolean(String path, boolean def);
+
+	public List<String> getStringList(String path);
+
+	public boolean isString(String path);
+
+	public boolean isInt(String path);
+
+	public boolean isDouble(String path);
+
+	public boolean isBoolean(String path);
+
+	public boolean isList(String path);
+
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * ConfigurationSection kept in linked hash maps, with dots separating the
+ * names in paths.
+ *
+ * @author Jakub Sapalski
+ */
+public class MemorySection implements ConfigurationSection {
+
+	private final Map<String, Object> map = new LinkedHashMap<>();
+	private final String name;
+
+	protected MemorySection() {
+		name = "";
+	}
+
+	protected MemorySection(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Set<String> getKeys(boolean deep) {
+		return getValues(deep).keySet();
+	}
+
+	@Override
+	public Map<String, Object> getValues(boolean deep) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (Entry<String, Object> entry : map.entrySet()) {
+			values.put(entry.getKey(), entry.getValue());
+			if (deep && entry.getValue() instanceof MemorySection) {
+				for (Entry<String, Object> child : ((MemorySection) entry.getValue()).getValues(true).entrySet()) {
+					values.put(entry.getKey() + '.' + child.getKey(), child.getValue());
+				}
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public boolean contains(String path) {
+		return get(path) != null;
+	}
+
+	@Override
+	public Object get(String path) {
+		return get(path, null);
+	}
+
+	@Override
+	public Object get(String path, Object def) {
+		if (path.isEmpty()) {
+			return this;
+		}
+		int dot = path.indexOf('.');
+		if (dot < 0) {
+			Object value = map.get(path);
+			return value == null ? def : value;
+		}
+		Object child = map.get(path.substring(0, dot));
+		return child instanceof MemorySection ? ((MemorySection) child).get(path.substring(dot + 1), def) : def;
+	}
+
+	@Override
+	public void set(String path, Object value) {
+		int dot = path.indexOf('.');
+		if (dot < 0) {
+			if (value == null) {
+				map.remove(path);
+			} else if (value instanceof Map) {
+				ConfigurationSection section = createSection(path);
+				for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					section.set(entry.getKey().toString(), entry.getValue());
+				}
+			} else {
+				map.put(path, value);
+			}
+			return;
+		}
+		String key = path.substring(0, dot);
+		ConfigurationSection child = getConfigurationSection(key);
+		if (child == null) {
+			child = createSection(key);
+		}
+		child.set(path.substring(dot + 1), value);
+	}
+
+	@Override
+	public ConfigurationSection createSection(String path) {
+		int dot = path.lastIndexOf('.');
+		MemorySection section = new MemorySection(dot < 0 ? path : path.substring(dot + 1));
+		if (dot < 0) {
+			map.put(path, section);
+		} else {
+			set(path, section);
+		}
+		return section;
+	}
+
+	@Override
+	public ConfigurationSection getConfigurationSection(String path) {
+		Object value = get(path);
+		return value instanceof ConfigurationSection ? (ConfigurationSection) value : null;
+	}
+
+	@Override
+	public boolean isConfigurationSection(String path) {
+		return get(path) instanceof ConfigurationSection;
+	}
+
+	@Override
+	public String getString(String path) {
+		return getString(path, null);
+	}
+
+	@Override
+	public String getString(String path, String def) {
+		Object value = get(path);
+		return value == null || value instanceof ConfigurationSection ? def : value.toString();
+	}
+
+	@Override
+	public int getInt(String path) {
+		return getInt(path, 0);
+	}
+
+	@Override
+	public int getInt(String path, int def) {
+		Object value = get(path);
+		return value instanceof Number ? ((Number) value).intValue() : def;
+	}
+
+	@Override
+	public long getLong(String path) {
+		return getLong(path, 0);
+	}
+
+	@Override
+	public long getLong(String path, long def) {
+		Object value = get(path);
+		return value instanceof Number ? ((Number) value).longValue() : def;
+	}
+
+	@Override
+	public double getDouble(String path) {
+		return getDouble(path, 0);
+	}
+
+	@Override
+	public double getDouble(String path, double def) {
+		Object value = get(path);
+		return value instanceof Number ? ((Number) value).doubleValue() : def;
+	}
+
+	@Override
+	public boolean getBoolean(String path) {
+		return getBoolean(path, false);
+	}
+
+	@Override
+	public boolean getBoolean(String path, boolean def) {
+		Object value = get(path);
+		return value instanceof Boolean ? (Boolean) value : def;
+	}
+
+	@Override
+	public List<String> getStringList(String path) {
+		Object value = get(path);
+		List<String> list = new ArrayList<>();
+		if (value instanceof List) {
+			for (Object object : (List<?>) value) {
+				list.add(String.valueOf(object));
+			}
+		}
+		return list;
+	}
+
+	@Override
+	public boolean isString(String path) {
+		return get(path) instanceof String;
+	}
+
+	@Override
+	public boolean isInt(String path) {
+		return get(path) instanceof Integer;
+	}
+
+	@Override
+	public boolean isDouble(String path) {
+		return get(path) instanceof Double;
+	}
+
+	@Override
+	public boolean isBoolean(String path) {
+		return get(path) instanceof Boolean;
+	}
+
+	@Override
+	public boolean isList(String path) {
+		return get(path) instanceof List;
+	}
+
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.configuration.file;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Configuration read from and written to YAML with SnakeYAML, like the real
+ * one.
+ *
+ * @author Jakub Sapalski
+ */
+public class YamlConfiguration extends FileConfiguration {
+
+	@Override
+	public String saveToString() {
+		DumperOptions options = new DumperOptions();
+		options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+		return new Yaml(options).dump(toMap(this));
+	}
+
+	@Override
+	public void loadFromString(String contents) {
+		Object root = new Yaml().load(contents);
+		if (root instanceof Map) {
+			for (Entry<?, ?> entry : ((Map<?, ?>) root).entrySet()) {
+				set(entry.getKey().toString(), entry.getValue());
+			}
+		}
+	}
+
+	private static Map<String, Object> toMap(ConfigurationSection section) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (Entry<String, Object> entry : section.getValues(false).entrySet()) {
+			Object value = entry.getValue();
+			map.put(entry.getKey(), value instanceof ConfigurationSection ? toMap((ConfigurationSection) value) : value);
+		}
+		return map;
+	}
+
+	public static YamlConfiguration loadConfiguration(Reader reader) {
+		YamlConfiguration config = new YamlConfiguration();
+		try (BufferedReader input = new BufferedReader(reader)) {
+			StringBuilder builder = new StringBuilder();
+			String line;
+			while ((line = input.readLine()) != null) {
+				builder.append(line).append('\n');
+			}
+			config.loadFromString(builder.toString());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return config;
+	}
+
+	public static YamlConfiguration loadConfiguration(File file) {
+		try {
+			return loadConfiguration(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+		} catch (FileNotFoundException e) {
+			return new YamlConfiguration();
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.entity;
+
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.metadata.Metadatable;
+import org.bukkit.util.Vector;
+
+/**
+ * Stand-in for an entity.
+ *
+ * @author Jakub Sapalski
+ */
+public interface Entity extends CommandSender, Metadatable {
+
+	public Location getLocation();
+
+	public Location getLocation(Location loc);
+
+	public boolean teleport(Location location);
+
+	public Vector getVelocity();
+
+	public void setVelocity(Vector velocity);
+
+	public World getWorld();
+
+	public int getEntityId();
+
+	public UUID getUniqueId();
+
+	public boolean isOnGround();
+
+	public boolean isValid();
+
+	public void remove();
+
+	public boolean eject();
+
+	public void setFireTicks(int ticks);
+
+	public void setFallDistance(float distance);
+
+	public void setGlowing(boolean flag);
+
+	public void setGravity(boolean gravity);
+
+	public void setInvulnerable(boolean flag);
+
+}
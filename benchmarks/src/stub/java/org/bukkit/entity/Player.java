@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.entity;
+
+import java.util.Collection;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.projectiles.ProjectileSource;
+import org.bukkit.scoreboard.Scoreboard;
+
+/**
+ * Stand-in for a player, with only the methods called by Flier's
+ * benchmarked classes.
+ *
+ * @author Jakub Sapalski
+ */
+public interface Player extends HumanEntity, ProjectileSource {
+
+	public boolean isOnline();
+
+	public boolean isGliding();
+
+	public void setGliding(boolean gliding);
+
+	public Location getEyeLocation();
+
+	public boolean isSneaking();
+
+	public void setFlying(boolean value);
+
+	public void setAllowFlight(boolean flight);
+
+	public void setCanPickupItems(boolean pickup);
+
+	public void setCollidable(boolean collidable);
+
+	public GameMode getGameMode();
+
+	public void setGameMode(GameMode mode);
+
+	public Collection<PotionEffect> getActivePotionEffects();
+
+	public void removePotionEffect(PotionEffectType type);
+
+	public AttributeInstance getAttribute(Attribute attribute);
+
+	public double getHealth();
+
+	public void setHealth(double health);
+
+	public void damage(double amount);
+
+	public double getMaxHealth();
+
+	public void resetMaxHealth();
+
+	public void setExhaustion(float value);
+
+	public void setSaturation(float value);
+
+	public void setFoodLevel(int value);
+
+	public double getEyeHeight();
+
+	public float getExp();
+
+	public void setExp(float exp);
+
+	public void setLevel(int level);
+
+	public void spawnParticle(Particle particle, double x, double y, double z, int count,
+			double offsetX, double offsetY, double offsetZ, double extra);
+
+	public void playSound(Location location, Sound sound, float volume, float pitch);
+
+	public Scoreboard getScoreboard();
+
+	public void setScoreboard(Scoreboard scoreboard);
+
+	public boolean canSee(Player player);
+
+	public void showPlayer(Player player);
+
+	public void saveData();
+
+	public void loadData();
+
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * Stand-in for an item stack. Its meta is a plain holder of the display
+ * name and lore.
+ *
+ * @author Jakub Sapalski
+ */
+public class ItemStack implements Cloneable {
+
+	private Material type;
+	private int amount = 1;
+	private Meta meta = new Meta();
+
+	public ItemStack(Material type) {
+		this.type = type;
+	}
+
+	public Material getType() {
+		return type;
+	}
+
+	public int getAmount() {
+		return amount;
+	}
+
+	public void setAmount(int amount) {
+		this.amount = amount;
+	}
+
+	public ItemMeta getItemMeta() {
+		return meta.clone();
+	}
+
+	public boolean setItemMeta(ItemMeta meta) {
+		this.meta = ((Meta) meta).clone();
+		return true;
+	}
+
+	public boolean isSimilar(ItemStack stack) {
+		return stack != null && stack.type == type && stack.meta.equals(meta);
+	}
+
+	@Override
+	public ItemStack clone() {
+		try {
+			ItemStack clone = (ItemStack) super.clone();
+			clone.meta = meta.clone();
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	private static class Meta implements ItemMeta, ItemMeta.Spigot, Cloneable {
+
+		private String name;
+		private List<String> lore;
+		private boolean unbreakable;
+
+		@Override
+		public String getDisplayName() {
+			return name;
+		}
+
+		@Override
+		public void setDisplayName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void setLore(List<String> lore) {
+			this.lore = lore == null ? null : new ArrayList<>(lore);
+		}
+
+		@Override
+		public void setUnbreakable(boolean unbreakable) {
+			this.unbreakable = unbreakable;
+		}
+
+		@Override
+		public ItemMeta.Spigot spigot() {
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Meta)) {
+				return false;
+			}
+			Meta meta = (Meta) obj;
+			return Objects.equals(name, meta.name) && Objects.equals(lore, meta.lore) && unbreakable == meta.unbreakable;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, lore, unbreakable);
+		}
+
+		@Override
+		public Meta clone() {
+			try {
+				return (Meta) super.clone();
+			} catch (CloneNotSupportedException e) {
+				throw new Error(e);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.inventory;
+
+/**
+ * Stand-in for a player's inventory.
+ *
+ * @author Jakub Sapalski
+ */
+public interface PlayerInventory {
+
+	public int getHeldItemSlot();
+
+	public void setHeldItemSlot(int slot);
+
+	public ItemStack getItemInMainHand();
+
+	public void setItemInMainHand(ItemStack item);
+
+	public ItemStack getItemInOffHand();
+
+	public void setItemInOffHand(ItemStack item);
+
+	public ItemStack getHelmet();
+
+	public void setHelmet(ItemStack helmet);
+
+	public ItemStack getChestplate();
+
+	public void setChestplate(ItemStack chestplate);
+
+	public ItemStack getLeggings();
+
+	public void setLeggings(ItemStack leggings);
+
+	public ItemStack getBoots();
+
+	public void setBoots(ItemStack boots);
+
+	public ItemStack[] getContents();
+
+	public ItemStack getItem(int index);
+
+	public void setItem(int index, ItemStack item);
+
+	public void clear();
+
+}
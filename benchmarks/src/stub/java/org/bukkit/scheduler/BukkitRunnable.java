@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Stand-in for a runnable which schedules itself.
+ *
+ * @author Jakub Sapalski
+ */
+public abstract class BukkitRunnable implements Runnable {
+
+	private BukkitTask task;
+
+	public synchronized BukkitTask runTaskLater(Plugin plugin, long delay) {
+		checkNotYetScheduled();
+		task = Bukkit.getScheduler().runTaskLater(plugin, this, delay);
+		return task;
+	}
+
+	public synchronized BukkitTask runTaskTimer(Plugin plugin, long delay, long period) {
+		checkNotYetScheduled();
+		task = Bukkit.getScheduler().runTaskTimer(plugin, this, delay, period);
+		return task;
+	}
+
+	public synchronized void cancel() {
+		if (task == null) {
+			throw new IllegalStateException("Not scheduled yet");
+		}
+		task.cancel();
+	}
+
+	public synchronized boolean isCancelled() {
+		return task != null && task.isCancelled();
+	}
+
+	private void checkNotYetScheduled() {
+		if (task != null) {
+			throw new IllegalStateException("Already scheduled as " + task.getTaskId());
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package org.bukkit.util;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Stand-in for Bukkit's mutable Vector.
+ *
+ * @author Jakub Sapalski
+ */
+public class Vector implements Cloneable {
+
+	protected double x;
+	protected double y;
+	protected double z;
+
+	public Vector() {
+		this(0, 0, 0);
+	}
+
+	public Vector(double x, double y, double z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	public double getX() {
+		return x;
+	}
+
+	public Vector setX(double x) {
+		this.x = x;
+		return this;
+	}
+
+	public double getY() {
+		return y;
+	}
+
+	public Vector setY(double y) {
+		this.y = y;
+		return this;
+	}
+
+	public double getZ() {
+		return z;
+	}
+
+	public Vector setZ(double z) {
+		this.z = z;
+		return this;
+	}
+
+	public Vector add(Vector vec) {
+		x += vec.x;
+		y += vec.y;
+		z += vec.z;
+		return this;
+	}
+
+	public Vector subtract(Vector vec) {
+		x -= vec.x;
+		y -= vec.y;
+		z -= vec.z;
+		return this;
+	}
+
+	public Vector multiply(double m) {
+		x *= m;
+		y *= m;
+		z *= m;
+		return this;
+	}
+
+	public double length() {
+		return Math.sqrt(lengthSquared());
+	}
+
+	public double lengthSquared() {
+		return x * x + y * y + z * z;
+	}
+
+	public Vector normalize() {
+		return multiply(1 / length());
+	}
+
+	public Location toLocation(World world) {
+		return new Location(world, x, y, z);
+	}
+
+	@Override
+	public Vector clone() {
+		try {
+			return (Vector) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+}
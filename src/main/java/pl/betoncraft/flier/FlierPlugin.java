@@ -29,18 +29,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.bstats.Metrics;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
 
@@ -80,7 +78,6 @@ import pl.betoncraft.flier.api.content.Game;
 import pl.betoncraft.flier.api.content.Lobby;
 import pl.betoncraft.flier.api.content.Wings;
 import pl.betoncraft.flier.api.core.Arena;
-import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.ConfigManager;
 import pl.betoncraft.flier.api.core.DatabaseManager;
 import pl.betoncraft.flier.api.core.FancyStuffWrapper;
@@ -97,8 +94,10 @@ import pl.betoncraft.flier.bonus.TargetBonus;
 import pl.betoncraft.flier.command.FlierCommand;
 import pl.betoncraft.flier.core.DefaultArena;
 import pl.betoncraft.flier.core.DefaultModification;
+import pl.betoncraft.flier.core.DefaultOwner;
 import pl.betoncraft.flier.core.DefaultSet;
 import pl.betoncraft.flier.core.DefaultUsableItem;
+import pl.betoncraft.flier.core.EventRouter;
 import pl.betoncraft.flier.effect.GameSoundEffect;
 import pl.betoncraft.flier.effect.GlowingEffect;
 import pl.betoncraft.flier.effect.ParticleEffect;
@@ -110,10 +109,12 @@ import pl.betoncraft.flier.game.TeamDeathMatch;
 import pl.betoncraft.flier.integration.Integrations;
 import pl.betoncraft.flier.lobby.PhysicalLobby;
 import pl.betoncraft.flier.stats.StatisticWriter;
+import pl.betoncraft.flier.util.AttackerRegistry;
 import pl.betoncraft.flier.util.Coordinator;
 import pl.betoncraft.flier.util.DefaultConfigManager;
 import pl.betoncraft.flier.util.DefaultDatabaseManager;
 import pl.betoncraft.flier.util.DefaultFancyStuffWrapper;
+import pl.betoncraft.flier.util.DummyPlayer;
 import pl.betoncraft.flier.util.LangManager;
 import pl.betoncraft.flier.util.Utils;
 import pl.betoncraft.flier.wings.SimpleWings;
@@ -137,6 +138,26 @@ public class FlierPlugin extends JavaPlugin implements Flier {
 	
 	private Map<String, Lobby> lobbies = new HashMap<>();
 	private Map<UUID, InGamePlayer> players = new HashMap<>();
+	
+	private Map<String, Map<String, Definition<?>>> definitions = new HashMap<>();
+	private Map<String, Modification> modifications = new HashMap<>();
+	
+	/**
+	 * A section with an object definition, already validated and with its
+	 * factory resolved. Objects which are owned by players also keep their
+	 * compiled prototypes, which are replicated instead of loading the
+	 * section again for each player.
+	 */
+	private static class Definition<F> {
+		private final ConfigurationSection section;
+		private final F factory;
+		private Object prototype;
+		private Object ownedPrototype;
+		private Definition(ConfigurationSection section, F factory) {
+			this.section = section;
+			this.factory = factory;
+		}
+	}
 
 	@Override
 	public void onEnable() {
@@ -187,18 +208,11 @@ public class FlierPlugin extends JavaPlugin implements Flier {
 		registerEffect("particle", s -> new ParticleEffect(s));
 		registerEffect("glow", s -> new GlowingEffect(s));
 		
-		// add projectile cleanup listener
-		Bukkit.getPluginManager().registerEvents(new Listener() {
-			@EventHandler
-			public void onChunkUnload(ChunkUnloadEvent event) {
-				Entity[] entities = event.getChunk().getEntities();
-				for (int i = 0; i < entities.length; i++) {
-					if (entities[i] instanceof Projectile && Attacker.getAttacker((Projectile) entities[i]) != null) {
-						entities[i].remove();
-					}
-				}
-			}
-		}, this);
+		// remove projectiles and their attackers
+		AttackerRegistry.start();
+		
+		// pass events to games and lobbies
+		EventRouter.start();
 		
 		new Coordinator(); // temporary solution
 		
@@ -262,6 +276,8 @@ public class FlierPlugin extends JavaPlugin implements Flier {
 			// reload configuration files
 			reloadConfig();
 			configManager = new DefaultConfigManager();
+			definitions.clear();
+			modifications.clear();
 			LangManager.reload();
 			// stop current lobbies and games
 			for (Lobby lobby : lobbies.values()) {
@@ -370,51 +386,45 @@ public class FlierPlugin extends JavaPlugin implements Flier {
 	@Override
 	public Engine getEngine(String id) throws LoadingException {
 		String name = "engine";
-		ConfigurationSection section = getSection(configManager.getEngines(), id, name);
-		String type = getType(section);
-		EngineFactory factory = getEngineFactory(type);
-		checkFactory(factory, name, type);
-		try {
-			return factory.get(section);
+		Definition<EngineFactory> def = getDefinition(configManager.getEngines(), id, name, type -> getEngineFactory(type));
+		if (def.prototype == null) try {
+			def.prototype = def.factory.get(def.section);
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
+		return ((Engine) def.prototype).replicate();
 	}
 
 	@Override
 	public UsableItem getItem(String id, InGamePlayer player) throws LoadingException {
 		String name = "item";
-		ConfigurationSection section = getSection(configManager.getItems(), id, name);
-		try {
-			return new DefaultUsableItem(section, player);
+		Definition<?> def = getDefinition(configManager.getItems(), id, name, null);
+		if (def.prototype == null) try {
+			def.prototype = new DefaultUsableItem(def.section, new DummyPlayer());
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
+		return ((UsableItem) def.prototype).replicate(player);
 	}
 
 	@Override
 	public Wings getWing(String id) throws LoadingException {
 		String name = "wings";
-		ConfigurationSection section = getSection(configManager.getWings(), id, name);
-		String type = getType(section);
-		WingsFactory factory = getWingsFactory(type);
-		checkFactory(factory, name, type);
-		try {
-			return factory.get(section);
+		Definition<WingsFactory> def = getDefinition(configManager.getWings(), id, name, type -> getWingsFactory(type));
+		if (def.prototype == null) try {
+			def.prototype = def.factory.get(def.section);
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
+		return ((Wings) def.prototype).replicate();
 	}
 	
 	@Override
 	public Game getGame(String id, Lobby lobby) throws LoadingException, NoArenaException {
 		String name = "game";
-		ConfigurationSection section = getSection(configManager.getGames(), id, name);
-		String type = getType(section);
-		GameFactory factory = getGameFactory(type);
-		checkFactory(factory, name, type);
+		Definition<GameFactory> def = getDefinition(configManager.getGames(), id, name, type -> getGameFactory(type));
 		try {
-			return factory.get(section, lobby);
+			return def.factory.get(def.section, lobby);
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
@@ -423,40 +433,49 @@ public class FlierPlugin extends JavaPlugin implements Flier {
 	@Override
 	public Action getAction(String id, Optional<Owner> owner) throws LoadingException {
 		String name = "action";
-		ConfigurationSection section = getSection(configManager.getActions(), id, name);
-		String type = getType(section);
-		ActionFactory factory = getActionFactory(type);
-		checkFactory(factory, name, type);
-		try {
-			return factory.get(section, owner);
-		} catch (LoadingException e) {
-			throw loadingError(e, id, name);
+		Definition<ActionFactory> def = getDefinition(configManager.getActions(), id, name, type -> getActionFactory(type));
+		Action prototype = (Action) (owner.isPresent() ? def.ownedPrototype : def.prototype);
+		if (prototype == null) {
+			try {
+				prototype = def.factory.get(def.section, prototypeOwner(owner));
+			} catch (LoadingException e) {
+				throw loadingError(e, id, name);
+			}
+			if (owner.isPresent()) {
+				def.ownedPrototype = prototype;
+			} else {
+				def.prototype = prototype;
+			}
 		}
+		return prototype.replicate(owner);
 	}
 	
 	@Override
 	public Activator getActivator(String id, Optional<Owner> owner) throws LoadingException {
 		String name = "activator";
-		ConfigurationSection section = getSection(configManager.getActivators(), id, name);
-		String type = getType(section);
-		ActivatorFactory factory = getActivatorFactory(type);
-		checkFactory(factory, name, type);
-		try {
-			return factory.get(section, owner);
-		} catch (LoadingException e) {
-			throw loadingError(e, id, name);
+		Definition<ActivatorFactory> def = getDefinition(configManager.getActivators(), id, name, type -> getActivatorFactory(type));
+		Activator prototype = (Activator) (owner.isPresent() ? def.ownedPrototype : def.prototype);
+		if (prototype == null) {
+			try {
+				prototype = def.factory.get(def.section, prototypeOwner(owner));
+			} catch (LoadingException e) {
+				throw loadingError(e, id, name);
+			}
+			if (owner.isPresent()) {
+				def.ownedPrototype = prototype;
+			} else {
+				def.prototype = prototype;
+			}
 		}
+		return prototype.replicate(owner);
 	}
 	
 	@Override
 	public Bonus getBonus(String id, Game game, Optional<Owner> owner) throws LoadingException {
 		String name = "bonus";
-		ConfigurationSection section = getSection(configManager.getBonuses(), id, name);
-		String type = getType(section);
-		BonusFactory factory = getBonusFactory(type);
-		checkFactory(factory, name, type);
+		Definition<BonusFactory> def = getDefinition(configManager.getBonuses(), id, name, type -> getBonusFactory(type));
 		try {
-			return factory.get(section, game, owner);
+			return def.factory.get(def.section, game, owner);
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
@@ -465,34 +484,39 @@ public class FlierPlugin extends JavaPlugin implements Flier {
 	@Override
 	public Modification getModification(String id) throws LoadingException {
 		String name = "modification";
+		// modifications are immutable, so they can be shared
+		Modification mod = modifications.get(id);
+		if (mod != null) {
+			return mod;
+		}
 		ConfigurationSection section = getSection(configManager.getModifications(), id, name);
 		try {
-			return new DefaultModification(section);
+			mod = new DefaultModification(section);
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
+		modifications.put(id, mod);
+		return mod;
 	}
 	
 	@Override
 	public ItemSet getItemSet(String id, InGamePlayer owner) throws LoadingException {
 		String name = "item set";
-		ConfigurationSection section = getSection(configManager.getItemSets(), id, name);
-		try {
-			return new DefaultSet(section, owner);
+		Definition<?> def = getDefinition(configManager.getItemSets(), id, name, null);
+		if (def.prototype == null) try {
+			def.prototype = new DefaultSet(def.section, new DummyPlayer());
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
+		return ((ItemSet) def.prototype).replicate(owner);
 	}
 	
 	@Override
 	public Effect getEffect(String id) throws LoadingException {
 		String name = "effect";
-		ConfigurationSection section = getSection(configManager.getEffects(), id, name);
-		String type = getType(section);
-		EffectFactory factory = getEffectFactory(type);
-		checkFactory(factory, name, type);
+		Definition<EffectFactory> def = getDefinition(configManager.getEffects(), id, name, type -> getEffectFactory(type));
 		try {
-			return factory.get(section);
+			return def.factory.get(def.section);
 		} catch (LoadingException e) {
 			throw loadingError(e, id, name);
 		}
@@ -509,6 +533,37 @@ public class FlierPlugin extends JavaPlugin implements Flier {
 		}
 	}
 	
+	/**
+	 * Returns the definition of an object, validating it only the first time
+	 * after a reload. Objects without types should pass null as factories.
+	 */
+	@SuppressWarnings("unchecked")
+	private <F> Definition<F> getDefinition(ConfigurationSection file, String id, String name,
+			Function<String, F> factories) throws LoadingException {
+		Map<String, Definition<?>> map = definitions.computeIfAbsent(name, k -> new HashMap<>());
+		Definition<F> def = (Definition<F>) map.get(id);
+		if (def == null) {
+			ConfigurationSection section = getSection(file, id, name);
+			F factory = null;
+			if (factories != null) {
+				String type = getType(section);
+				factory = factories.apply(type);
+				checkFactory(factory, name, type);
+			}
+			def = new Definition<>(section, factory);
+			map.put(id, def);
+		}
+		return def;
+	}
+	
+	/**
+	 * Prototypes of owned objects are loaded for a dummy owner, so they pass
+	 * the same validation as the objects they will be replicated into.
+	 */
+	private Optional<Owner> prototypeOwner(Optional<Owner> owner) {
+		return owner.isPresent() ? Optional.of(new DefaultOwner(new DummyPlayer(), null)) : Optional.empty();
+	}
+	
 	private ConfigurationSection getSection(ConfigurationSection file, String id, String name) throws LoadingException {
 		ConfigurationSection section = file.getConfigurationSection(id);
 		if (section == null || section.getKeys(false).size() == 0) {
@@ -34,6 +34,7 @@ import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.Modification.ModificationTarget;
 import pl.betoncraft.flier.api.core.Owner;
 import pl.betoncraft.flier.api.core.Usage;
+import pl.betoncraft.flier.util.Fingerprint;
 import pl.betoncraft.flier.util.LangManager;
 import pl.betoncraft.flier.util.ModificationManager;
 import pl.betoncraft.flier.util.ValueLoader;
@@ -43,16 +44,18 @@ import pl.betoncraft.flier.util.ValueLoader;
  *
  * @author Jakub Sapalski
  */
-public abstract class DefaultAction implements Action {
+public abstract class DefaultAction implements Action, Cloneable {
 	
 	protected final String id;
 	protected final String name;
 	protected final ValueLoader loader;
-	protected final ModificationManager modMan;
-	protected final Optional<Owner> owner;
+	protected ModificationManager modMan;
+	protected Optional<Owner> owner;
+	protected long fingerprint;
 	
 	public DefaultAction(ConfigurationSection section, Optional<Owner> owner) {
 		id = section.getName();
+		fingerprint = Fingerprint.of(section);
 		loader = new ValueLoader(section);
 		modMan = new ModificationManager();
 		name = loader.loadString("name", id);
@@ -101,5 +104,23 @@ public abstract class DefaultAction implements Action {
 	public Optional<Owner> getOwner() {
 		return owner;
 	}
+	
+	@Override
+	public long getFingerprint() {
+		return fingerprint;
+	}
 
+	
+	@Override
+	public Action replicate(Optional<Owner> owner) {
+		DefaultAction copy;
+		try {
+			copy = (DefaultAction) clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copy.owner = owner;
+		copy.modMan = new ModificationManager();
+		return copy;
+	}
 }
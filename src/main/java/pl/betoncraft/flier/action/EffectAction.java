@@ -28,7 +28,6 @@ import java.util.List;
 import java.util.Optional;
 
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import pl.betoncraft.flier.api.Flier;
 import pl.betoncraft.flier.api.content.Action;
@@ -36,6 +35,9 @@ import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * An action type which adds a specified effect.
@@ -45,8 +47,9 @@ import pl.betoncraft.flier.api.core.Owner;
 public class EffectAction extends DefaultAction {
 
 	private static final String DURATION = "duration";
+	private static final int DURATION_SLOT = ModificationManager.slot(DURATION);
 
-	private final List<Action> actions = new ArrayList<>();
+	private List<Action> actions = new ArrayList<>();
 	private final int duration;
 
 	public EffectAction(ConfigurationSection section, Optional<Owner> owner) throws LoadingException {
@@ -60,18 +63,17 @@ public class EffectAction extends DefaultAction {
 
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
-		new BukkitRunnable() {
-			private int i = (int) modMan.modifyNumber(DURATION, EffectAction.this.duration);
+		target.getGame().getTicker().register(Phase.USAGE, new Tickable() {
+			private int i = (int) modMan.modifyNumber(DURATION_SLOT, EffectAction.this.duration);
 			@Override
-			public void run() {
-				if (i-- == 0) {
-					cancel();
-				}
+			public boolean tick() {
+				boolean last = i-- == 0;
 				for (Action action : actions) {
 					action.act(target, source);
 				}
+				return !last;
 			}
-		}.runTaskTimer(Flier.getInstance(), 0, 1);
+		});
 		return true;
 	}
 
@@ -91,4 +93,13 @@ public class EffectAction extends DefaultAction {
 				.forEach(action -> action.removeModification(mod));
 	}
 
+	@Override
+	public Action replicate(Optional<Owner> owner) {
+		EffectAction copy = (EffectAction) super.replicate(owner);
+		copy.actions = new ArrayList<>(actions.size());
+		for (Action action : actions) {
+			copy.actions.add(action.replicate(owner));
+		}
+		return copy;
+	}
 }
@@ -31,6 +31,7 @@ import pl.betoncraft.flier.api.content.Engine;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Adds fuel to the player's engine.
@@ -40,6 +41,7 @@ import pl.betoncraft.flier.api.core.Owner;
 public class FuelAction extends DefaultAction {
 
 	private static final String AMOUNT = "amount";
+	private static final int AMOUNT_SLOT = ModificationManager.slot(AMOUNT);
 
 	private double amount;
 
@@ -51,7 +53,7 @@ public class FuelAction extends DefaultAction {
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
 		Engine engine = target.getKit().getEngine();
-		double amount = modMan.modifyNumber(AMOUNT, this.amount);
+		double amount = modMan.modifyNumber(AMOUNT_SLOT, this.amount);
 		if (amount >= 0) {
 			return engine.addFuel(amount);
 		} else {
@@ -31,6 +31,7 @@ import org.bukkit.configuration.ConfigurationSection;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Modifies player's health.
@@ -42,6 +43,9 @@ public class HealthAction extends DefaultAction {
 	private static final String AMOUNT = "amount";
 	private static final String DISTANCE_SCALE = "distance_scale";
 	private static final String MIN_AMOUNT = "min_amount";
+	private static final int AMOUNT_SLOT = ModificationManager.slot(AMOUNT);
+	private static final int DISTANCE_SCALE_SLOT = ModificationManager.slot(DISTANCE_SCALE);
+	private static final int MIN_AMOUNT_SLOT = ModificationManager.slot(MIN_AMOUNT);
 
 	private double amount;
 	private double distanceScale;
@@ -57,9 +61,9 @@ public class HealthAction extends DefaultAction {
 	@Override
 	@SuppressWarnings("deprecation")
 	public boolean act(InGamePlayer target, InGamePlayer source) {
-		double amount = modMan.modifyNumber(AMOUNT, this.amount);
-		double distanceScale = modMan.modifyNumber(DISTANCE_SCALE, this.distanceScale);
-		double minAmount = modMan.modifyNumber(MIN_AMOUNT, this.minAmount);
+		double amount = modMan.modifyNumber(AMOUNT_SLOT, this.amount);
+		double distanceScale = modMan.modifyNumber(DISTANCE_SCALE_SLOT, this.distanceScale);
+		double minAmount = modMan.modifyNumber(MIN_AMOUNT_SLOT, this.minAmount);
 		// minimum amount cannot exceed amount
 		// absolute values are taken since distance will decrease the damage
 		if (Math.abs(minAmount) > Math.abs(amount)) {
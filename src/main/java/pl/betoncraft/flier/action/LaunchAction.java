@@ -34,6 +34,7 @@ import pl.betoncraft.flier.api.Flier;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Launches players in the direction of looking.
@@ -43,6 +44,7 @@ import pl.betoncraft.flier.api.core.Owner;
 public class LaunchAction extends DefaultAction {
 	
 	private static final String SPEED = "speed";
+	private static final int SPEED_SLOT = ModificationManager.slot(SPEED);
 
 	private final double speed;
 
@@ -54,7 +56,7 @@ public class LaunchAction extends DefaultAction {
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
 		Runnable launch = () -> {
-			Vector vel = target.getPlayer().getLocation().getDirection().multiply(modMan.modifyNumber(SPEED, speed));
+			Vector vel = target.getPlayer().getLocation().getDirection().multiply(modMan.modifyNumber(SPEED_SLOT, speed));
 			target.getPlayer().setVelocity(vel);
 			if (!target.getPlayer().isGliding()) {
 				Bukkit.getScheduler().runTask(Flier.getInstance(), () -> {
@@ -30,6 +30,7 @@ import org.bukkit.configuration.ConfigurationSection;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Adds or removes money from player.
@@ -39,6 +40,7 @@ import pl.betoncraft.flier.api.core.Owner;
 public class MoneyAction extends DefaultAction {
 
 	private static final String MONEY = "money";
+	private static final int MONEY_SLOT = ModificationManager.slot(MONEY);
 
 	private final int money;
 
@@ -49,7 +51,7 @@ public class MoneyAction extends DefaultAction {
 
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
-		target.setMoney(target.getMoney() + (int) modMan.modifyNumber(MONEY, money));
+		target.setMoney(target.getMoney() + (int) modMan.modifyNumber(MONEY_SLOT, money));
 		return true;
 	}
 
@@ -34,6 +34,7 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import pl.betoncraft.flier.api.Flier;
+import pl.betoncraft.flier.api.content.Action;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
@@ -129,4 +130,12 @@ public class SprintStartingAction extends DefaultAction {
 		}
 	}
 
+	@Override
+	public Action replicate(Optional<Owner> owner) {
+		SprintStartingAction copy = (SprintStartingAction) super.replicate(owner);
+		copy.stopper = Optional.empty();
+		copy.direction = Optional.empty();
+		copy.lastLoc = Optional.empty();
+		return copy;
+	}
 }
@@ -25,12 +25,16 @@ package pl.betoncraft.flier.action;
 
 import java.util.Optional;
 
+import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 
+import pl.betoncraft.flier.api.content.Game;
 import pl.betoncraft.flier.api.content.Game.Attitude;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Targets other players with a compass.
@@ -40,6 +44,7 @@ import pl.betoncraft.flier.api.core.Owner;
 public class TargetAction extends DefaultAction {
 	
 	private static final String TARGET = "target";
+	private static final int TARGET_SLOT = ModificationManager.slot(TARGET);
 
 	private final Attitude target;
 	
@@ -51,23 +56,14 @@ public class TargetAction extends DefaultAction {
 	@Override
 	public boolean act(InGamePlayer player, InGamePlayer source) {
 		if (player.isPlaying()) {
-			InGamePlayer nearest = null;
-			double distance = Double.MAX_VALUE;
-			Attitude target = modMan.modifyEnum(TARGET, this.target);
-			for (InGamePlayer data : player.getGame().getPlayers().values()) {
-				if (data.equals(player)) {
-					continue;
-				}
-				if (player.getGame().getAttitude(data, player) == target) {
-					double dist = player.getLocation().distanceSquared(data.getLocation());
-					if (dist < distance) {
-						distance = dist;
-						nearest = data;
-					}
-				}
-			}
+			Game game = player.getGame();
+			Attitude target = modMan.modifyEnum(TARGET_SLOT, this.target);
+			Location loc = player.getLocation();
+			Target nearest = game.getTargetIndex().getNearest(loc.getX(), loc.getY(), loc.getZ(),
+					Double.POSITIVE_INFINITY, t -> t instanceof InGamePlayer && !t.equals(player) &&
+							game.getAttitude(t, player) == target);
 			if (nearest != null) {
-				player.getPlayer().setCompassTarget(nearest.getPlayer().getLocation());
+				player.getPlayer().setCompassTarget(((InGamePlayer) nearest).getPlayer().getLocation());
 			} else {
 				player.getPlayer().setCompassTarget(player.getGame().getCenter());
 			}
@@ -41,6 +41,7 @@ import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
 import pl.betoncraft.flier.api.core.Target;
 import pl.betoncraft.flier.core.DefaultAttacker;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Spawns a TNT which explodes immediately.
@@ -51,6 +52,8 @@ public class Bomb extends DefaultAttack {
 
 	private static final String POWER = "power";
 	private static final String FUSE = "fuse";
+	private static final int POWER_SLOT = ModificationManager.slot(POWER);
+	private static final int FUSE_SLOT = ModificationManager.slot(FUSE);
 	
 	private static BombListener listener;
 
@@ -75,8 +78,8 @@ public class Bomb extends DefaultAttack {
 		Attacker.saveAttacker(tnt, new DefaultAttacker(this, owner.get().getPlayer(), target, owner.get().getItem()));
 		tnt.setIsIncendiary(false);
 		tnt.setVelocity(target.getPlayer().getVelocity());
-		tnt.setYield((float) modMan.modifyNumber(POWER, yield));
-		tnt.setFuseTicks((int) modMan.modifyNumber(FUSE, fuse));
+		tnt.setYield((float) modMan.modifyNumber(POWER_SLOT, yield));
+		tnt.setFuseTicks((int) modMan.modifyNumber(FUSE_SLOT, fuse));
 		return true;
 	}
 	
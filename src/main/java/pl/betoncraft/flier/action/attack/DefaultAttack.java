@@ -30,11 +30,14 @@ import java.util.Optional;
 import org.bukkit.configuration.ConfigurationSection;
 
 import pl.betoncraft.flier.action.DefaultAction;
+import pl.betoncraft.flier.api.content.Action;
 import pl.betoncraft.flier.api.content.Attack;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
 import pl.betoncraft.flier.api.core.Usage;
 import pl.betoncraft.flier.core.DefaultUsage;
+import pl.betoncraft.flier.util.Fingerprint;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * A default Weapon implementation.
@@ -48,6 +51,10 @@ public abstract class DefaultAttack extends DefaultAction implements Attack {
 	private static final String SUICIDAL = "suicidal";
 	private static final String FINAL_HIT = "final";
 	private static final String ATTACK_USAGES = "attack_usages";
+	private static final int NO_DAMAGE_TICKS_SLOT = ModificationManager.slot(NO_DAMAGE_TICKS);
+	private static final int FRIENDLY_FIRE_SLOT = ModificationManager.slot(FRIENDLY_FIRE);
+	private static final int SUICIDAL_SLOT = ModificationManager.slot(SUICIDAL);
+	private static final int FINAL_HIT_SLOT = ModificationManager.slot(FINAL_HIT);
 	
 	protected final int noDamageTicks;
 	protected final boolean friendlyFire;
@@ -73,6 +80,10 @@ public abstract class DefaultAttack extends DefaultAction implements Attack {
 						String.format("Error in '%s' attack usage.", usageName)).initCause(e);
 			}
 		}
+		// sub-usages refer to other definitions
+		for (Usage usage : subUsages) {
+			fingerprint = Fingerprint.mix(fingerprint, usage.getFingerprint());
+		}
 	}
 	
 	@Override
@@ -82,22 +93,32 @@ public abstract class DefaultAttack extends DefaultAction implements Attack {
 	
 	@Override
 	public int getNoDamageTicks() {
-		return (int) modMan.modifyNumber(NO_DAMAGE_TICKS, noDamageTicks);
+		return (int) modMan.modifyNumber(NO_DAMAGE_TICKS_SLOT, noDamageTicks);
 	}
 	
 	@Override
 	public boolean causesFriendlyFire() {
-		return modMan.modifyBoolean(FRIENDLY_FIRE, friendlyFire);
+		return modMan.modifyBoolean(FRIENDLY_FIRE_SLOT, friendlyFire);
 	}
 	
 	@Override
 	public boolean isSuicidal() {
-		return modMan.modifyBoolean(SUICIDAL, suicidal);
+		return modMan.modifyBoolean(SUICIDAL_SLOT, suicidal);
 	}
 	
 	@Override
 	public boolean isFinalHit() {
-		return modMan.modifyBoolean(FINAL_HIT, finalHit);
+		return modMan.modifyBoolean(FINAL_HIT_SLOT, finalHit);
 	}
 
+	
+	@Override
+	public Action replicate(Optional<Owner> owner) {
+		DefaultAttack copy = (DefaultAttack) super.replicate(owner);
+		copy.subUsages = new ArrayList<>(subUsages.size());
+		for (Usage usage : subUsages) {
+			copy.subUsages.add(usage.replicate(owner));
+		}
+		return copy;
+	}
 }
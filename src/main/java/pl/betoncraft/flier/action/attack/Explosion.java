@@ -23,14 +23,20 @@
  */
 package pl.betoncraft.flier.action.attack;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 
+import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.Target;
 import pl.betoncraft.flier.core.DefaultAttacker;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Creates an explosion around the target. All players caught in the explosion's radius will be affected.
@@ -40,6 +46,7 @@ import pl.betoncraft.flier.core.DefaultAttacker;
 public class Explosion extends DefaultAttack {
 	
 	private final static String RADIUS = "radius";
+	private static final int RADIUS_SLOT = ModificationManager.slot(RADIUS);
 	
 	private final double radius;
 
@@ -51,10 +58,14 @@ public class Explosion extends DefaultAttack {
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
 		System.out.println("Exploding at " + target.getName() + " location");
-		double radius = modMan.modifyNumber(RADIUS, this.radius);
-		target.getGame().getTargets().values().stream()
-				.filter(t -> t.getLocation().distanceSquared(target.getLocation()) <= radius*radius)
-				.forEach(t -> t.handleHit(new DefaultAttacker(this, owner.get().getPlayer(), target, owner.get().getItem())));
+		double radius = modMan.modifyNumber(RADIUS_SLOT, this.radius);
+		Location center = target.getLocation();
+		List<Target> caught = new ArrayList<>();
+		target.getGame().getTargetIndex().getInRadius(center.getX(), center.getY(), center.getZ(), radius, caught);
+		Attacker attacker = new DefaultAttacker(this, owner.get().getPlayer(), target, owner.get().getItem());
+		for (Target t : caught) {
+			t.handleHit(attacker);
+		}
 		return true;
 	}
 
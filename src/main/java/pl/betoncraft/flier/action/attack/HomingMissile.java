@@ -24,6 +24,7 @@
 package pl.betoncraft.flier.action.attack;
 
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -37,7 +38,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import pl.betoncraft.flier.api.Flier;
@@ -46,9 +46,13 @@ import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
 import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
 import pl.betoncraft.flier.core.DefaultAttacker;
-import pl.betoncraft.flier.util.ImmutableVector;
+import pl.betoncraft.flier.util.ModificationManager;
+import pl.betoncraft.flier.util.Vec3;
 
 /**
  * A homing missile which targets flying players.
@@ -65,6 +69,12 @@ public class HomingMissile extends DefaultAttack {
 	private static final String ENTITY = "entity";
 	private static final String TARGET_FRIENDS = "target_friends";
 	private static final String TARGET_SELF = "target_self";
+	private static final int MANEUVERABILITY_SLOT = ModificationManager.slot(MANEUVERABILITY);
+	private static final int LIFETIME_SLOT = ModificationManager.slot(LIFETIME);
+	private static final int SPEED_SLOT = ModificationManager.slot(SPEED);
+	private static final int SEARCH_RADIUS_SLOT = ModificationManager.slot(SEARCH_RADIUS);
+	private static final int SEARCH_RANGE_SLOT = ModificationManager.slot(SEARCH_RANGE);
+	private static final int ENTITY_SLOT = ModificationManager.slot(ENTITY);
 	
 	private static MissileListener listener;
 
@@ -97,11 +107,11 @@ public class HomingMissile extends DefaultAttack {
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
 		Player player = target.getPlayer();
-		double speed = modMan.modifyNumber(SPEED, this.speed);
+		double speed = modMan.modifyNumber(SPEED_SLOT, this.speed);
 		Vector velocity = player.getLocation().getDirection().clone().multiply(speed);
 		Vector pointer = player.getLocation().getDirection().clone().multiply(player.getVelocity().length() * 3);
 		Location launch = player.getEyeLocation().clone().add(pointer);
-		Projectile missile = (Projectile) launch.getWorld().spawnEntity(launch, modMan.modifyEnum(ENTITY, entity));
+		Projectile missile = (Projectile) launch.getWorld().spawnEntity(launch, modMan.modifyEnum(ENTITY_SLOT, entity));
 		missile.setVelocity(velocity);
 		missile.setShooter(player);
 		try {
@@ -110,113 +120,121 @@ public class HomingMissile extends DefaultAttack {
 		missile.setGlowing(true);
 		Attacker.saveAttacker(missile, new DefaultAttacker(HomingMissile.this, owner.get().getPlayer(),
 				target, owner.get().getItem()));
-		new BukkitRunnable() {
+		target.getGame().getTicker().register(Phase.PROJECTILES, new Tickable() {
 			int i = 0;
-			Location lastLoc;
+			boolean moved = false;
 			Target nearest;
 			boolean foundTarget = false;
-			ImmutableVector vec = null;
-			int lifetime = (int) modMan.modifyNumber(LIFETIME, HomingMissile.this.lifetime);
-			int searchRange = (int) modMan.modifyNumber(SEARCH_RANGE, HomingMissile.this.searchRange);
-			double searchRadius = modMan.modifyNumber(SEARCH_RADIUS, HomingMissile.this.searchRadius);
-			double maneuverability = modMan.modifyNumber(MANEUVERABILITY, HomingMissile.this.maneuverability);
+			// vectors reused every tick
+			Location current = new Location(null, 0, 0, 0);
+			Vector out = new Vector();
+			Vec3 vec = null;
+			Vec3 last = new Vec3();
+			Vec3 position = new Vec3();
+			Vec3 direction = new Vec3();
+			Vec3 searchCenter = new Vec3();
+			Vec3 targetPos = new Vec3();
+			Vec3 aim = new Vec3();
+			int lifetime = (int) modMan.modifyNumber(LIFETIME_SLOT, HomingMissile.this.lifetime);
+			int searchRange = (int) modMan.modifyNumber(SEARCH_RANGE_SLOT, HomingMissile.this.searchRange);
+			double searchRadius = modMan.modifyNumber(SEARCH_RADIUS_SLOT, HomingMissile.this.searchRadius);
+			double maneuverability = modMan.modifyNumber(MANEUVERABILITY_SLOT, HomingMissile.this.maneuverability);
 			int radius = searchRange / 2;
 			int radiusSqr = radius * radius;
 			boolean friendlyFire = HomingMissile.this.targetFriends;
 			boolean suicidal = HomingMissile.this.targetSelf;
+			ParticleEmitter particles = target.getGame().getParticleEmitter();
+			Predicate<Target> targetable = t -> {
+				// skip the player if he shouldn't be targeted
+				Attitude attitude = t.getGame().getAttitude(t, owner.get().getPlayer());
+				if (attitude == Attitude.NEUTRAL) {
+					return false;
+				}
+				if (!friendlyFire && attitude == Attitude.FRIENDLY) {
+					return false;
+				}
+				if (!suicidal && owner.get().getPlayer().equals(t)) {
+					return false;
+				}
+				return true;
+			};
 			@Override
-			public void run() {
+			public boolean tick() {
 				// stop if the missile does not exist
 				if (missile.isDead() || !missile.isValid() || missile.getTicksLived() >= lifetime) {
-					cancel();
 					missile.remove();
-					return;
+					return false;
 				}
 				// stop if the missile did not move for 5 ticks
-				if (lastLoc != null && missile.getLocation().distanceSquared(lastLoc) == 0) {
+				Location loc = missile.getLocation(current);
+				position.set(loc);
+				if (moved && position.distanceSquared(last) == 0) {
 					i++;
 					if (i > 5) {
-						cancel();
 						missile.remove();
-						return;
+						return false;
 					}
 				} else {
 					i = 0;
 				}
-				lastLoc = missile.getLocation();
+				last.set(position);
+				moved = true;
 				// get missile velocity and store it
 				// velocity is held here to avoid corruption
 				if (vec == null) {
-					vec = ImmutableVector.fromVector(missile.getVelocity()).normalize().multiply(speed);
+					vec = new Vec3().set(missile.getVelocity()).normalize().multiply(speed);
 				}
 				// get the search area
-				ImmutableVector direction = vec.normalize();
-				Location searchCenter = missile.getLocation().clone().add(direction.multiply(radius).toVector());
-				// find a target in the area
-				Target missileTarget = null;
-				double distance = radiusSqr;
-				for (Target t : target.getGame().getTargets().values()) {
-					// skip the player if he shouldn't be targeted
-					Attitude attitude = t.getGame().getAttitude(t, owner.get().getPlayer());
-					if (attitude == Attitude.NEUTRAL) {
-						continue;
-					}
-					if (!friendlyFire && attitude == Attitude.FRIENDLY) {
-						continue;
-					}
-					if (!suicidal && owner.get().getPlayer().equals(t)) {
-						continue;
-					}
-					// get the nearest player
-					double d = t.getLocation().distanceSquared(searchCenter);
-					if (d < distance) {
-						missileTarget = t;
-						distance = d;
-						// TODO decoys will be trivial to implement if it always tracked
-						// nearest target, so this should probably be removed...
-						// 
-						// if the missile tracked someone previously and he's still in the area,
-						// it should track him even if he's not the closest one
-						if (nearest != null && t.equals(nearest)) {
-							break;
-						}
-					}
+				direction.set(vec).normalize();
+				searchCenter.set(direction).multiply(radius).add(position);
+				// if the missile tracked someone previously and he's still in the area,
+				// it should track him even if he's not the closest one
+				// TODO decoys will be trivial to implement if it always tracked
+				// nearest target, so this should probably be removed...
+				if (nearest == null || !targetable.test(nearest) ||
+						nearest.getPosition(targetPos).distanceSquared(searchCenter) >= radiusSqr) {
+					// find the nearest target in the area
+					nearest = target.getGame().getTargetIndex().getNearest(searchCenter.getX(),
+							searchCenter.getY(), searchCenter.getZ(), radius, targetable);
 				}
-				nearest = missileTarget;
-				ImmutableVector newVec;
 				if (nearest != null) {
 					// target found, fly towards it
 					foundTarget = true;
-					Location loc = nearest.getLocation();
-					Vector v = loc.subtract(missile.getLocation()).toVector().add(nearest.getVelocity());
-					ImmutableVector aim = ImmutableVector.fromVector(v).normalize().multiply(maneuverability);
-					newVec = direction.add(aim).normalize().multiply(speed);
+					nearest.getPosition(targetPos);
 					if (nearest instanceof InGamePlayer) {
-						int j = (int) (4.0 * nearest.getLocation().distance(missile.getLocation()) / searchRange);
+						double distance = Math.sqrt(position.distanceSquared(targetPos));
+						int j = (int) (4.0 * distance / searchRange);
 						j = j <= 0 ? 1 : j;
 						if (missile.getTicksLived() % j == 0) {
-							Vector soundLoc = missile.getLocation().subtract(
-									nearest.getLocation()).toVector().normalize().multiply(10);
-							((InGamePlayer) nearest).getPlayer().playSound(
-									nearest.getLocation().add(soundLoc),
+							// play the sound 10 blocks from the target, in the missile's direction
+							double m = 10 / distance;
+							Location soundLoc = new Location(loc.getWorld(),
+									targetPos.getX() + (position.getX() - targetPos.getX()) * m,
+									targetPos.getY() + (position.getY() - targetPos.getY()) * m,
+									targetPos.getZ() + (position.getZ() - targetPos.getZ()) * m);
+							target.getGame().getSoundDispatcher().play((InGamePlayer) nearest, soundLoc,
 									Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1, 1);
 						}
 					}
+					Vector v = nearest.getVelocity();
+					aim.set(targetPos).subtract(position).add(v.getX(), v.getY(), v.getZ())
+							.normalize().multiply(maneuverability);
+					vec.set(direction).add(aim).normalize().multiply(speed);
 				} else if (foundTarget) {
 					// target was lost, fly in circles
-					ImmutableVector d = new ImmutableVector(direction.getZ(), -direction.getY(), -direction.getX()).multiply(searchRadius);
-					newVec = direction.add(d).normalize().multiply(speed);
+					vec.set(direction).add(direction.getZ() * searchRadius, -direction.getY() * searchRadius,
+							-direction.getX() * searchRadius).normalize().multiply(speed);
 				} else {
 					// no target yet, fly straight
-					newVec = direction.multiply(speed);
+					vec.set(direction).multiply(speed);
 				}
-				// store new velocity to avoid corruption
-				vec = newVec;
-				missile.setVelocity(newVec.toVector());
+				missile.setVelocity(vec.toVector(out));
 				// spawn fire particle at rocket's location
-				missile.getLocation().getWorld().spawnParticle(Particle.FLAME, missile.getLocation(), 0);
+				particles.spawnTrail(loc.getWorld(), Particle.FLAME, position.getX(), position.getY(),
+						position.getZ(), 0, 0, 0, 0, 0);
+				return true;
 			}
-		}.runTaskTimer(Flier.getInstance(), 1, 1);
+		});
 		return true;
 	}
 	
@@ -30,20 +30,21 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.util.BlockIterator;
 import org.bukkit.util.Vector;
 
-import pl.betoncraft.flier.api.Flier;
+import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
-import pl.betoncraft.flier.api.core.Target;
-import pl.betoncraft.flier.api.core.UsableItem;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
+import pl.betoncraft.flier.api.core.ProjectileWorld;
+import pl.betoncraft.flier.api.core.ProjectileWorld.Shot;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
 import pl.betoncraft.flier.core.DefaultAttacker;
 import pl.betoncraft.flier.event.FlierProjectileLaunchEvent;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Burst shooting weapon with unguided particle-based bullets.
@@ -66,8 +67,12 @@ public class ParticleGun extends DefaultAttack {
 	private static final String EXTRA = "speed";
 	private static final String DENSITY = "density";
 	private static final String RANGE = "range";
+	private static final int BURST_AMOUNT_SLOT = ModificationManager.slot(BURST_AMOUNT);
+	private static final int BURST_TICKS_SLOT = ModificationManager.slot(BURST_TICKS);
+	private static final int SPREAD_SLOT = ModificationManager.slot(SPREAD);
+	private static final int PROJECTILE_SPEED_SLOT = ModificationManager.slot(PROJECTILE_SPEED);
+	private static final int PROXIMITY_SLOT = ModificationManager.slot(PROXIMITY);
 
-	private final Flier flier;
 	private final Random random;
 	private final int burstAmount;
 	private final int burstTicks;
@@ -86,7 +91,6 @@ public class ParticleGun extends DefaultAttack {
 	
 	public ParticleGun(ConfigurationSection section, Optional<Owner> owner) throws LoadingException {
 		super(section, owner);
-		flier = Flier.getInstance();
 		random = new Random();
 		burstAmount = loader.loadPositiveInt(BURST_AMOUNT);
 		burstTicks = loader.loadPositiveInt(BURST_TICKS);
@@ -107,200 +111,99 @@ public class ParticleGun extends DefaultAttack {
 	
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
-
-		new BukkitRunnable() {
-			
-			private int burstAmount = (int) modMan.modifyNumber(BURST_AMOUNT, ParticleGun.this.burstAmount);
-			private final int burstTicks = (int) modMan.modifyNumber(BURST_TICKS, ParticleGun.this.burstTicks);
-			private final double projectileSpeed = modMan.modifyNumber(PROJECTILE_SPEED, ParticleGun.this.projectileSpeed);
-			private final double proximity = Math.pow(modMan.modifyNumber(PROXIMITY, ParticleGun.this.proximity), 2);
-			private final double spread = modMan.modifyNumber(SPREAD, ParticleGun.this.spread);
-			
-			private double counter = 0;
-			private final double step = (double) burstAmount / (double) burstTicks;
-			
-			@Override
-			public void run() {
-				// cancel the runnable if there are no more bursts
-				if (burstAmount <= 0) {
-					cancel();
-					return;
-				}
-				
-				counter += step; // increase already fired bursts
-				int am = (int) Math.floor(counter); // get integral amount of already fired bursts
-				counter -= am; // remove those integral bursts from counter
-				burstAmount -= am;
-				
-				// get starting values
-				Location start = (target.getPlayer().isGliding() ?
-								target.getPlayer().getLocation() :
-								target.getPlayer().getEyeLocation()
-						).add(target.getPlayer().getVelocity())
-						.add(target.getPlayer().getLocation().getDirection());
-				
-				// launch projectiles
-				for (int i = 0; i < am; i++) {
-					new ParticleTracker(start.clone(), owner.get().getPlayer(),
-					        target, projectileSpeed, proximity, spread, range, owner.get().getItem());
-                         // target becomes the source
-					// call event for each projectile launched
-					Bukkit.getPluginManager().callEvent(new FlierProjectileLaunchEvent(target, ParticleGun.this));
-				}
-			}
-			
-		}.runTaskTimer(flier, 0, 1);
+		target.getGame().getTicker().register(Phase.PROJECTILES, new Burst(target));
 		return true;
 	}
 	
-	private class ParticleTracker extends BukkitRunnable {
+	/**
+	 * Launches bullets of a single burst into the ProjectileWorld, spread over
+	 * time. All these bullets share the same Attacker.
+	 */
+	private class Burst implements Tickable, Shot {
 		
-		private Location start;
-		private InGamePlayer creator;
-		private InGamePlayer source;
-		private double proximity;
-		private UsableItem weapon;
+		private final InGamePlayer target;
+		private final Attacker attacker;
+		private final ProjectileWorld world;
+		private final ParticleEmitter particles;
 		
-		private World world;
-		private Vector dir;
-		private Vector vel;
-		private double speed;
-		private double range;
-
-		private final BlockIterator tracer;
-		private Location end;
-		private Vector currentVel;
-		private double currentSpeed;
-		private double squared;
-		private boolean early = false;
+		private int burstAmount = (int) modMan.modifyNumber(BURST_AMOUNT_SLOT, ParticleGun.this.burstAmount);
+		private final int burstTicks = (int) modMan.modifyNumber(BURST_TICKS_SLOT, ParticleGun.this.burstTicks);
+		private final double projectileSpeed = modMan.modifyNumber(PROJECTILE_SPEED_SLOT, ParticleGun.this.projectileSpeed);
+		private final double proximity = modMan.modifyNumber(PROXIMITY_SLOT, ParticleGun.this.proximity);
+		private final double spread = modMan.modifyNumber(SPREAD_SLOT, ParticleGun.this.spread);
 		
-		public ParticleTracker(Location start, InGamePlayer creator, InGamePlayer source, double projectileSpeed, double proximity,
-				double spread, double range, UsableItem weapon) {
-			// get starting parameters
-			this.start = start;
-			this.creator = creator;
-			this.source = source;
-			this.proximity = proximity;
-			this.weapon = weapon;
-			this.range = range;
-			world = start.getWorld();
-			dir = start.getDirection();
-			
-			// calculate random spread
-			if (spread > 0) {
-				double x = random.nextGaussian();
-				double y = random.nextGaussian();
-				double z = random.nextGaussian();
-				Vector perpendicular = new Vector(x, y, z).normalize().multiply(spread);
-				dir.add(perpendicular).normalize();
-			}
-			
-			// create block tracer
-			tracer = new BlockIterator(world, start.toVector(), dir, 0, 0);
-			
-			// calculate velocity and speed
-			vel = dir.clone().multiply(projectileSpeed);
-			speed = projectileSpeed;
-			runTaskTimer(flier, 0, 1);
+		private double counter = 0;
+		private final double step = (double) burstAmount / (double) burstTicks;
+		
+		public Burst(InGamePlayer target) {
+			this.target = target;
+			// target becomes the source
+			attacker = new DefaultAttacker(ParticleGun.this, owner.get().getPlayer(), target, owner.get().getItem());
+			world = target.getGame().getProjectileWorld();
+			particles = target.getGame().getParticleEmitter();
 		}
 		
 		@Override
-		public void run() {
-			
-			currentVel = vel.clone();
-			currentSpeed = speed;
-			squared = speed * speed;
-			end = start.clone().add(currentVel);
-
-			// terminate the bullet if it's going out of loaded chunks
-			// this prevents loading chunks from file to get block solidness
-			if (!end.getChunk().isLoaded()) {
-				cancel();
-				return;
+		public boolean tick() {
+			// stop if there are no more bursts
+			if (burstAmount <= 0) {
+				return false;
 			}
 			
-			// check for any solid blocks in the path
-			while (tracer.hasNext()) {
-				Block block = tracer.next();
-				if (block.getType().isSolid()) {
-					// found an obstacle, early end
-					earlyEnd(block.getLocation());
-					break;
-				} else if (block.getLocation().distanceSquared(start) > squared) {
-					// this block is out of current tick's range
-					// we'll continue from here in the next tick
-					break;
-				}
+			counter += step; // increase already fired bursts
+			int am = (int) Math.floor(counter); // get integral amount of already fired bursts
+			counter -= am; // remove those integral bursts from counter
+			burstAmount -= am;
+			if (am == 0) {
+				return true;
 			}
 			
-			// check targets in proximity of the bullet's path
-			// we're looking only for the closest target
-			Target foundTarget = null;
-			double smallestDistance = squared;
-			for (Target target : creator.getGame().getTargets().values()) {
-				// don't hit the shooter
-				if (!target.isTargetable() || target.equals(creator)) {
-					continue;
-				}
-				Location loc = target.getLocation().clone();
-				double dist = loc.subtract(start).toVector().crossProduct(dir).lengthSquared();
-				if (dist < proximity) {
-					// found player in bullet's path
-					// loc is now a vector from start to player's location
-					double thisDistance = loc.lengthSquared();
-					if (thisDistance < smallestDistance) {
-						smallestDistance = thisDistance;
-						foundTarget = target;
-					}
-				}
-			}
-			// hit closest player
-			if (foundTarget != null) {
-				earlyEnd(foundTarget.getLocation());
-				foundTarget.getGame().handleHit(foundTarget,
-						new DefaultAttacker(ParticleGun.this, creator, source, weapon));
-			}
-			
-			// spawn particles 
-			int step = (int) (currentSpeed * density);
-			currentVel.multiply(1.0 / step);
-			for (int i = 0; i < step; i++) {
-				// this moves start so it becomes end,
-				// and can still be used on the next tick
-				start.add(currentVel);
-				world.spawnParticle(particle, start, amount, offsetX, offsetY, offsetZ, extra);
-			}
-			
-			if (early) {
-				world.spawnParticle(particle, start, 100, 0, 0, 0, 0.25);
-			}
+			// get starting values
+			Location start = (target.getPlayer().isGliding() ?
+							target.getPlayer().getLocation() :
+							target.getPlayer().getEyeLocation()
+					).add(target.getPlayer().getVelocity())
+					.add(target.getPlayer().getLocation().getDirection());
+			Vector look = start.getDirection();
 			
-			// decrease range and quit if it's out
-			range -= currentSpeed;
-			if (range <= 0) {
-				cancel();
+			// launch projectiles
+			for (int i = 0; i < am; i++) {
+				Vector dir = look.clone();
+				// calculate random spread
+				if (spread > 0) {
+					double x = random.nextGaussian();
+					double y = random.nextGaussian();
+					double z = random.nextGaussian();
+					Vector perpendicular = new Vector(x, y, z).normalize().multiply(spread);
+					dir.add(perpendicular).normalize();
+				}
+				world.launch(this, start, dir, projectileSpeed, proximity, range);
+				// call event for each projectile launched
+				Bukkit.getPluginManager().callEvent(new FlierProjectileLaunchEvent(target, ParticleGun.this));
 			}
+			return true;
 		}
 
-		/**
-		 * Calculates the point on the bullet's path closest to specified location.
-		 */
-		private void earlyEnd(Location loc) {
-			Vector p1 = start.toVector();
-			Vector p2 = end.toVector();
-			Vector q = loc.toVector();
-			
-			Vector u = p2.subtract(p1);
-			Vector pq = q.clone().subtract(p1);
-			Vector w2 = pq.subtract(u.multiply(pq.dot(u) / u.lengthSquared()));
-			
-			end = q.subtract(w2).toLocation(world);
-			currentVel = end.clone().subtract(start).toVector();
-			currentSpeed = currentVel.length();
-			squared = currentSpeed * currentSpeed;
-			early = true;
-			cancel();
+		@Override
+		public Attacker getAttacker() {
+			return attacker;
 		}
+
+		@Override
+		public double getDensity() {
+			return density;
+		}
+
+		@Override
+		public void spawnTrail(World world, double x, double y, double z) {
+			particles.spawnTrail(world, particle, x, y, z, amount, offsetX, offsetY, offsetZ, extra);
+		}
+
+		@Override
+		public void spawnImpact(World world, double x, double y, double z) {
+			particles.spawnBurst(world, particle, x, y, z, 100, 0, 0, 0, 0.25);
+		}
+		
 	}
 
 }
@@ -30,6 +30,8 @@ import java.util.Optional;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Explosive;
@@ -39,7 +41,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import pl.betoncraft.flier.api.Flier;
@@ -47,9 +48,16 @@ import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
+import pl.betoncraft.flier.api.core.ProjectileWorld;
+import pl.betoncraft.flier.api.core.ProjectileWorld.Shot;
 import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.api.core.Ticker;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
 import pl.betoncraft.flier.core.DefaultAttacker;
 import pl.betoncraft.flier.event.FlierProjectileLaunchEvent;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Burst shooting weapon with unguided projectile-based bullets.
@@ -62,6 +70,14 @@ public class ProjectileGun extends DefaultAttack {
 	private static final String BURST_AMOUNT = "burst_amount";
 	private static final String BURST_TICKS = "burst_ticks";
 	private static final String PROJECTILE_SPEED = "projectile_speed";
+	private static final String VIRTUAL = "virtual";
+	private static final String PARTICLE = "particle";
+	private static final String DENSITY = "density";
+	private static final String PROXIMITY = "proximity";
+	private static final int ENTITY_SLOT = ModificationManager.slot(ENTITY);
+	private static final int BURST_AMOUNT_SLOT = ModificationManager.slot(BURST_AMOUNT);
+	private static final int BURST_TICKS_SLOT = ModificationManager.slot(BURST_TICKS);
+	private static final int PROJECTILE_SPEED_SLOT = ModificationManager.slot(PROJECTILE_SPEED);
 	
 	private static ProjectileListener listener;
 
@@ -70,10 +86,18 @@ public class ProjectileGun extends DefaultAttack {
 	private final int burstTicks;
 	private final double projectileSpeed;
 	private final int range = 10 * 20;
+	private final boolean virtual;
+	private final Particle particle;
+	private final double density;
+	private final double proximity;
 	
 	public ProjectileGun(ConfigurationSection section, Optional<Owner> owner) throws LoadingException {
 		super(section, owner);
-		entity = loader.loadEnum(ENTITY, EntityType.class);
+		virtual = loader.loadBoolean(VIRTUAL, false);
+		entity = virtual ? null : loader.loadEnum(ENTITY, EntityType.class);
+		particle = loader.loadEnum(PARTICLE, Particle.CRIT, Particle.class);
+		density = loader.loadPositiveDouble(DENSITY, 0.5);
+		proximity = loader.loadPositiveDouble(PROXIMITY, 1.0);
 		burstAmount = loader.loadPositiveInt(BURST_AMOUNT);
 		burstTicks = loader.loadPositiveInt(BURST_TICKS);
 		projectileSpeed = loader.loadPositiveDouble(PROJECTILE_SPEED);
@@ -86,15 +110,27 @@ public class ProjectileGun extends DefaultAttack {
 	
 	@Override
 	public boolean act(InGamePlayer target, InGamePlayer source) {
+		if (virtual) {
+			target.getGame().getTicker().register(Phase.PROJECTILES, new VirtualBurst(target));
+			return true;
+		}
 		Player player = target.getPlayer();
-		int burstAmount = (int) modMan.modifyNumber(BURST_AMOUNT, this.burstAmount);
+		int burstAmount = (int) modMan.modifyNumber(BURST_AMOUNT_SLOT, this.burstAmount);
 		Map<Projectile, Vector> projectiles = new HashMap<>(burstAmount);
-		new BukkitRunnable() {
+		Ticker ticker = target.getGame().getTicker();
+		ticker.register(Phase.PROJECTILES, new Tickable() {
 			int counter = burstAmount;
-			double projectileSpeed = modMan.modifyNumber(PROJECTILE_SPEED, ProjectileGun.this.projectileSpeed);
-			EntityType entity = modMan.modifyEnum(ENTITY, ProjectileGun.this.entity);
+			int ticks = 0;
+			// modifications can lower it to 0, which would break the modulo
+			int burstTicks = Math.max(1, (int) modMan.modifyNumber(BURST_TICKS_SLOT, ProjectileGun.this.burstTicks));
+			double projectileSpeed = modMan.modifyNumber(PROJECTILE_SPEED_SLOT, ProjectileGun.this.projectileSpeed);
+			EntityType entity = modMan.modifyEnum(ENTITY_SLOT, ProjectileGun.this.entity);
 			@Override
-			public void run() {
+			public boolean tick() {
+				// fire only once every burstTicks
+				if (ticks++ % burstTicks != 0) {
+					return true;
+				}
 				Vector velocity = player.getLocation().getDirection().clone().multiply(projectileSpeed);
 				Vector pointer = player.getLocation().getDirection().clone().multiply(player.getVelocity().length() * 3);
 				Location launch = (player.isGliding() ? player.getLocation() : player.getEyeLocation())
@@ -115,30 +151,91 @@ public class ProjectileGun extends DefaultAttack {
 						target, owner.get().getItem()));
 				projectiles.put(projectile, velocity);
 				counter --;
-				if (counter <= 0) {
-					cancel();
-				}
 				// call event for each projectile launched
 				Bukkit.getPluginManager().callEvent(new FlierProjectileLaunchEvent(target, ProjectileGun.this));
+				return counter > 0;
 			}
-		}.runTaskTimer(Flier.getInstance(), 0, (int) modMan.modifyNumber(BURST_TICKS, burstTicks));
-		new BukkitRunnable() {
+		});
+		ticker.register(Phase.PROJECTILES, new Tickable() {
 			int life = 0;
 			@Override
-			public void run() {
+			public boolean tick() {
 				// update projectile path to prevent them from flying around
 				for (Entry<Projectile, Vector> entry : projectiles.entrySet()) {
 					entry.getKey().setVelocity(entry.getValue());
 				}
-				// cancel after the range has passed
-				if (++life >= range) {
-					cancel();
-				}
+				// stop after the range has passed
+				return ++life < range;
 			}
-		}.runTaskTimer(Flier.getInstance(), 0, 1);
+		});
 		return true;
 	}
 	
+	/**
+	 * Launches bullets of a single burst into the ProjectileWorld instead of
+	 * spawning projectile entities. The bullets fly with the same speed and
+	 * for the same time as projectiles would, and are displayed as particles.
+	 */
+	private class VirtualBurst implements Tickable, Shot {
+		
+		private final InGamePlayer target;
+		private final Attacker attacker;
+		private final ProjectileWorld world;
+		private final ParticleEmitter particles;
+		
+		private int counter = (int) modMan.modifyNumber(BURST_AMOUNT_SLOT, ProjectileGun.this.burstAmount);
+		private int ticks = 0;
+		// modifications can lower it to 0, which would break the modulo
+		private final int burstTicks = Math.max(1, (int) modMan.modifyNumber(BURST_TICKS_SLOT, ProjectileGun.this.burstTicks));
+		private final double projectileSpeed = modMan.modifyNumber(PROJECTILE_SPEED_SLOT, ProjectileGun.this.projectileSpeed);
+		
+		public VirtualBurst(InGamePlayer target) {
+			this.target = target;
+			// target becomes the source
+			attacker = new DefaultAttacker(ProjectileGun.this, owner.get().getPlayer(), target, owner.get().getItem());
+			world = target.getGame().getProjectileWorld();
+			particles = target.getGame().getParticleEmitter();
+		}
+		
+		@Override
+		public boolean tick() {
+			// fire only once every burstTicks
+			if (ticks++ % burstTicks != 0) {
+				return true;
+			}
+			Player player = target.getPlayer();
+			Vector direction = player.getLocation().getDirection();
+			Vector pointer = direction.clone().multiply(player.getVelocity().length() * 3);
+			Location launch = (player.isGliding() ? player.getLocation() : player.getEyeLocation()).add(pointer);
+			world.launch(this, launch, direction, projectileSpeed, proximity, projectileSpeed * range);
+			counter--;
+			// call event for each projectile launched
+			Bukkit.getPluginManager().callEvent(new FlierProjectileLaunchEvent(target, ProjectileGun.this));
+			return counter > 0;
+		}
+
+		@Override
+		public Attacker getAttacker() {
+			return attacker;
+		}
+
+		@Override
+		public double getDensity() {
+			return density;
+		}
+
+		@Override
+		public void spawnTrail(World world, double x, double y, double z) {
+			particles.spawnTrail(world, particle, x, y, z, 1, 0, 0, 0, 0);
+		}
+
+		@Override
+		public void spawnImpact(World world, double x, double y, double z) {
+			particles.spawnBurst(world, particle, x, y, z, 10, 0, 0, 0, 0.1);
+		}
+		
+	}
+	
 	public class ProjectileListener implements Listener {
 		
 		@EventHandler(priority=EventPriority.LOW)
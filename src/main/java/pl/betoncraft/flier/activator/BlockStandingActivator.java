@@ -51,7 +51,7 @@ public class BlockStandingActivator extends DefaultActivator {
 
 	@Override
 	public boolean isActive(InGamePlayer player, InGamePlayer source) {
-		return player.getLocation().add(0, -1, 0).getBlock().getType() == block;
+		return player.getState().getBlockBelow() == block;
 	}
 
 }
@@ -32,6 +32,7 @@ import pl.betoncraft.flier.api.content.Activator;
 import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.Modification.ModificationTarget;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.util.Fingerprint;
 import pl.betoncraft.flier.util.LangManager;
 import pl.betoncraft.flier.util.ModificationManager;
 import pl.betoncraft.flier.util.ValueLoader;
@@ -41,16 +42,18 @@ import pl.betoncraft.flier.util.ValueLoader;
  *
  * @author Jakub Sapalski
  */
-public abstract class DefaultActivator implements Activator {
+public abstract class DefaultActivator implements Activator, Cloneable {
 	
 	protected final String id;
 	protected final String name;
 	protected final ValueLoader loader;
-	protected final ModificationManager modMan;
-	protected final Optional<Owner> owner;
+	protected ModificationManager modMan;
+	protected Optional<Owner> owner;
+	protected final long fingerprint;
 	
 	public DefaultActivator(ConfigurationSection section, Optional<Owner> owner) {
 		id = section.getName();
+		fingerprint = Fingerprint.of(section);
 		loader = new ValueLoader(section);
 		modMan = new ModificationManager();
 		name = loader.loadString("name", id);
@@ -83,5 +86,23 @@ public abstract class DefaultActivator implements Activator {
 	public Optional<Owner> getOwner() {
 		return owner;
 	}
+	
+	@Override
+	public long getFingerprint() {
+		return fingerprint;
+	}
 
+	
+	@Override
+	public Activator replicate(Optional<Owner> owner) {
+		DefaultActivator copy;
+		try {
+			copy = (DefaultActivator) clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copy.owner = owner;
+		copy.modMan = new ModificationManager();
+		return copy;
+	}
 }
@@ -48,7 +48,7 @@ public class HoldingThisActivator extends DefaultActivator {
 
 	@Override
 	public boolean isActive(InGamePlayer player, InGamePlayer source) {
-		return player.isHolding(owner.get().getItem());
+		return owner.get().getItem().isItem(player.getState().getHeld(), player);
 	}
 
 }
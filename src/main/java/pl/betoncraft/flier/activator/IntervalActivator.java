@@ -27,6 +27,7 @@ import java.util.Optional;
 
 import org.bukkit.configuration.ConfigurationSection;
 
+import pl.betoncraft.flier.api.content.Activator;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
@@ -40,11 +41,13 @@ public class IntervalActivator extends DefaultActivator {
 	
 	private int counter = 0;
 	private final int interval;
+	private final int offset;
 
 	public IntervalActivator(ConfigurationSection section, Optional<Owner> owner) throws LoadingException {
 		super(section, owner);
 		interval = loader.loadPositiveInt("interval");
-		counter += loader.loadNonNegativeInt("offset", 0);
+		offset = loader.loadNonNegativeInt("offset", 0);
+		counter = offset;
 	}
 
 	@Override
@@ -52,4 +55,10 @@ public class IntervalActivator extends DefaultActivator {
 		return counter++ % interval == 0;
 	}
 
+	@Override
+	public Activator replicate(Optional<Owner> owner) {
+		IntervalActivator copy = (IntervalActivator) super.replicate(owner);
+		copy.counter = offset;
+		return copy;
+	}
 }
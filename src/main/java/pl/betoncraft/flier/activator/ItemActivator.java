@@ -52,10 +52,7 @@ public class ItemActivator extends DefaultActivator {
 
 	@Override
 	public boolean isActive(InGamePlayer player, InGamePlayer source) {
-		UsableItem found = player.getKit().getItems().stream()
-				.filter(i -> i.isSimilar(this.item))
-				.findFirst()
-				.orElse(null);
+		UsableItem found = player.getKit().getSimilarItem(item);
 		return found != null && found.getAmount() > 0;
 	}
 
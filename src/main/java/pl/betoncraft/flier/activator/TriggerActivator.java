@@ -30,6 +30,7 @@ import org.bukkit.configuration.ConfigurationSection;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.core.PlayerStateSnapshot;
 
 /**
  * Activates when the player has specified trigger on this tick.
@@ -39,15 +40,20 @@ import pl.betoncraft.flier.api.core.Owner;
 public class TriggerActivator extends DefaultActivator {
 	
 	private String trigger;
+	private long bit;
 
 	public TriggerActivator(ConfigurationSection section, Optional<Owner> owner) throws LoadingException {
 		super(section, owner);
 		trigger = loader.loadString("trigger");
+		bit = PlayerStateSnapshot.trigger(trigger);
+		if (bit == 0) {
+			throw new LoadingException("There are too many different triggers.");
+		}
 	}
 
 	@Override
 	public boolean isActive(InGamePlayer player, InGamePlayer source) {
-		return player.getTriggers().contains(trigger);
+		return player.getState().hasTrigger(bit);
 	}
 
 }
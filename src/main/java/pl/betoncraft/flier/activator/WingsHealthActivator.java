@@ -31,6 +31,7 @@ import pl.betoncraft.flier.api.content.Wings;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Activates if wings health is in range.
@@ -42,6 +43,9 @@ public class WingsHealthActivator extends DefaultActivator {
 	private static final String NUMBER_TYPE = "number_type";
 	private static final String MAX = "max";
 	private static final String MIN = "min";
+	private static final int NUMBER_TYPE_SLOT = ModificationManager.slot(NUMBER_TYPE);
+	private static final int MAX_SLOT = ModificationManager.slot(MAX);
+	private static final int MIN_SLOT = ModificationManager.slot(MIN);
 
 	private double min;
 	private double max;
@@ -63,12 +67,12 @@ public class WingsHealthActivator extends DefaultActivator {
 		Wings wings = player.getKit().getWings();
 		double health = wings.getHealth();
 		double maxHealth = wings.getMaxHealth();
-		switch (modMan.modifyEnum(NUMBER_TYPE, type)) {
+		switch (modMan.modifyEnum(NUMBER_TYPE_SLOT, type)) {
 		case ABSOLUTE:
-			return health >= modMan.modifyNumber(MIN, min) && health <= modMan.modifyNumber(MAX, max);
+			return health >= modMan.modifyNumber(MIN_SLOT, min) && health <= modMan.modifyNumber(MAX_SLOT, max);
 		case PERCENTAGE:
 			double percentage = health / maxHealth * 100;
-			return percentage >= modMan.modifyNumber(MIN, min) && percentage <= modMan.modifyNumber(MAX, max);
+			return percentage >= modMan.modifyNumber(MIN_SLOT, min) && percentage <= modMan.modifyNumber(MAX_SLOT, max);
 		}
 		return false;
 	}
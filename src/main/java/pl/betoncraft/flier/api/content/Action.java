@@ -23,10 +23,13 @@
  */
 package pl.betoncraft.flier.api.content;
 
+import java.util.Optional;
+
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.Named;
 import pl.betoncraft.flier.api.core.Owned;
+import pl.betoncraft.flier.api.core.Owner;
 
 /**
  * Represents an action which can happen for an InGamePlayer.
@@ -85,4 +88,22 @@ public interface Action extends Named, Owned {
 	 */
 	public void removeModification(Modification mod);
 
+	/**
+	 * Returns the structural fingerprint of this Action. Actions loaded from
+	 * the same definition have equal fingerprints.
+	 * 
+	 * @return 64-bit fingerprint of this Action
+	 */
+	public long getFingerprint();
+
+	/**
+	 * Creates a new Action from the same definition for another owner,
+	 * without loading it again. Modifications are not copied.
+	 * 
+	 * @param owner
+	 *            optional owner of the new Action
+	 * @return the copy of this Action
+	 */
+	public Action replicate(Optional<Owner> owner);
+
 }
@@ -23,10 +23,13 @@
  */
 package pl.betoncraft.flier.api.content;
 
+import java.util.Optional;
+
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.Named;
 import pl.betoncraft.flier.api.core.Owned;
+import pl.betoncraft.flier.api.core.Owner;
 
 /**
  * Represents a condition, under which a Usage can be activated.
@@ -59,4 +62,22 @@ public interface Activator extends Named, Owned {
 	 */
 	public void removeModification(Modification mod);
 
+	/**
+	 * Returns the structural fingerprint of this Activator. Activators loaded
+	 * from the same definition have equal fingerprints.
+	 * 
+	 * @return 64-bit fingerprint of this Activator
+	 */
+	public long getFingerprint();
+
+	/**
+	 * Creates a new Activator from the same definition for another owner,
+	 * without loading it again. Modifications are not copied.
+	 * 
+	 * @param owner
+	 *            optional owner of the new Activator
+	 * @return the copy of this Activator
+	 */
+	public Activator replicate(Optional<Owner> owner);
+
 }
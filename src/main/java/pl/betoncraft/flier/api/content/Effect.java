@@ -29,6 +29,7 @@ import java.util.Optional;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Matcher;
 import pl.betoncraft.flier.api.core.Named;
+import pl.betoncraft.flier.core.MatchingEvent;
 import pl.betoncraft.flier.util.EffectListener.EventType;
 
 /**
@@ -58,4 +59,13 @@ public interface Effect extends Named {
 	 */
 	public List<Matcher> getMatchers();
 
+	/**
+	 * Checks whenever this Effect's Matchers match the event.
+	 * 
+	 * @param event
+	 *            the MatchingEvent to match
+	 * @return whenever the Effect matches this MatchingEvent
+	 */
+	public boolean matches(MatchingEvent event);
+
 }
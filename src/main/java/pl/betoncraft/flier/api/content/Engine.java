@@ -26,6 +26,7 @@ package pl.betoncraft.flier.api.content;
 import org.bukkit.util.Vector;
 
 import pl.betoncraft.flier.api.core.Item;
+import pl.betoncraft.flier.util.Vec3;
 
 /**
  * Represents an engine, which speeds players up.
@@ -34,17 +35,40 @@ import pl.betoncraft.flier.api.core.Item;
  */
 public interface Engine extends Item {
 
+	/**
+	 * Applies the Engine's acceleration to player's velocity, using his head
+	 * direction. Use it to implement your Engine's mechanics. The velocity is
+	 * modified in place and the direction must stay unchanged.
+	 * Implementations must override either this method or the deprecated
+	 * {@link #launch(Vector, Vector)}.
+	 * 
+	 * @param velocity
+	 *            velocity of the player, to be modified
+	 * @param direction
+	 *            unit direction where the player is looking
+	 * @return the passed velocity vector
+	 */
+	public default Vec3 launch(Vec3 velocity, Vec3 direction) {
+		return velocity.set(launch(velocity.toVector(), direction.toVector()));
+	}
+
 	/**
 	 * Calculates the Engine's acceleration vector from player's velocity and
-	 * head direction vectors. Use it to implement your Engine's mechanics.
+	 * head direction vectors.
 	 * 
 	 * @param velocity
 	 *            velocity Vector of the player
 	 * @param direction
 	 *            direction Vector where the player is looking
 	 * @return the modified velocity Vector
+	 * @deprecated creates new objects every tick, override
+	 *             {@link #launch(Vec3, Vec3)} instead; this method will be
+	 *             removed in the next release
 	 */
-	public Vector launch(Vector velocity, Vector direction);
+	@Deprecated
+	public default Vector launch(Vector velocity, Vector direction) {
+		return launch(new Vec3().set(velocity), new Vec3().set(direction)).toVector();
+	}
 
 	/**
 	 * @return the maximum amount of stored fuel
@@ -87,4 +111,12 @@ public interface Engine extends Item {
 	 */
 	public void refill();
 
+	/**
+	 * Creates a new Engine from the same definition, without loading it
+	 * again. The copy has full fuel and no Modifications.
+	 * 
+	 * @return the copy of this Engine
+	 */
+	public Engine replicate();
+
 }
@@ -36,7 +36,12 @@ import pl.betoncraft.flier.api.core.Arena;
 import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Named;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
+import pl.betoncraft.flier.api.core.ProjectileWorld;
+import pl.betoncraft.flier.api.core.SoundDispatcher;
 import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.api.core.TargetIndex;
+import pl.betoncraft.flier.api.core.Ticker;
 import pl.betoncraft.flier.event.FlierGameEndEvent.GameEndCause;
 
 /**
@@ -100,6 +105,9 @@ public interface Game extends Named {
 	public Map<UUID, InGamePlayer> getPlayers();
 
 	/**
+	 * Returns all targets in this Game. After adding or removing a Target the
+	 * {@link TargetIndex} of this Game must be invalidated.
+	 * 
 	 * @return a map containing all targets in this Game by their UUID
 	 */
 	public Map<UUID, Target> getTargets();
@@ -239,4 +247,33 @@ public interface Game extends Named {
 	 */
 	public boolean hasRounds();
 
+	/**
+	 * Returns the Ticker of this Game. Everything which needs to be updated
+	 * every tick while this Game exists should register itself there instead
+	 * of scheduling its own task.
+	 * 
+	 * @return the Ticker driving this Game
+	 */
+	public Ticker getTicker();
+
+	/**
+	 * @return the ProjectileWorld simulating entity-less bullets in this Game
+	 */
+	public ProjectileWorld getProjectileWorld();
+
+	/**
+	 * @return the TargetIndex for spatial queries over Targets of this Game
+	 */
+	public TargetIndex getTargetIndex();
+
+	/**
+	 * @return the ParticleEmitter sending particles to players of this Game
+	 */
+	public ParticleEmitter getParticleEmitter();
+
+	/**
+	 * @return the SoundDispatcher playing sounds to players of this Game
+	 */
+	public SoundDispatcher getSoundDispatcher();
+
 }
@@ -27,6 +27,7 @@ import org.bukkit.util.Vector;
 
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Item;
+import pl.betoncraft.flier.util.Vec3;
 
 /**
  * Represents wings - elytra item with statistics.
@@ -36,14 +37,37 @@ import pl.betoncraft.flier.api.core.Item;
 public interface Wings extends Item {
 
 	/**
-	 * Calculates modified player's velocity vector. Use this method to apply
-	 * your wings' flight model.
+	 * Modifies player's velocity vector. Use this method to apply your wings'
+	 * flight model. The velocity is modified in place, without creating new
+	 * objects, since this is called every tick for every flying player.
+	 * Implementations must override either this method or the deprecated
+	 * {@link #applyFlightModifications(InGamePlayer)}.
+	 * 
+	 * @param data
+	 *            the Player whose modified velocity must be calculated
+	 * @param velocity
+	 *            current velocity of the player, to be modified
+	 * @return the passed velocity vector
+	 */
+	public default Vec3 applyFlightModifications(InGamePlayer data, Vec3 velocity) {
+		return velocity.set(applyFlightModifications(data));
+	}
+
+	/**
+	 * Calculates player's velocity vector after applying your wings' flight
+	 * model.
 	 * 
 	 * @param data
 	 *            the Player whose modified velocity must be calculated
 	 * @return new velocity Vector
+	 * @deprecated creates new objects every tick, override
+	 *             {@link #applyFlightModifications(InGamePlayer, Vec3)}
+	 *             instead; this method will be removed in the next release
 	 */
-	public Vector applyFlightModifications(InGamePlayer data);
+	@Deprecated
+	public default Vector applyFlightModifications(InGamePlayer data) {
+		return applyFlightModifications(data, new Vec3().set(data.getPlayer().getVelocity())).toVector();
+	}
 
 	/**
 	 * @return maximum health of the wings
@@ -91,4 +115,12 @@ public interface Wings extends Item {
 	 */
 	public void refill();
 
+	/**
+	 * Creates new Wings from the same definition, without loading them again.
+	 * The copy has full health and no Modifications.
+	 * 
+	 * @return the copy of these Wings
+	 */
+	public Wings replicate();
+
 }
@@ -23,14 +23,9 @@
  */
 package pl.betoncraft.flier.api.core;
 
-import java.util.List;
-
 import org.bukkit.entity.Entity;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
 
-import pl.betoncraft.flier.api.Flier;
-import pl.betoncraft.flier.core.DefaultAttacker;
+import pl.betoncraft.flier.util.AttackerRegistry;
 
 /**
  * Groups together the Damager used in the attack, the author of the attack and
@@ -40,11 +35,6 @@ import pl.betoncraft.flier.core.DefaultAttacker;
  */
 public interface Attacker {
 
-	public static final String DAMAGER = "flier-damager";
-	public static final String CREATOR = "flier-creator";
-	public static final String SOURCE = "flier-source";
-	public static final String WEAPON = "flier-weapon";
-
 	/**
 	 * @return the Damager used in the attack
 	 */
@@ -69,7 +59,7 @@ public interface Attacker {
 	public UsableItem getWeapon();
 
 	/**
-	 * Reads the Attacker from the projectile. It will return null if the
+	 * Reads the Attacker of the projectile. It will return null if the
 	 * projectile source is not a Damager.
 	 * 
 	 * @param entity
@@ -77,20 +67,12 @@ public interface Attacker {
 	 * @return Attacker or null
 	 */
 	public static Attacker getAttacker(Entity entity) {
-		List<MetadataValue> listD = entity.getMetadata(DAMAGER);
-		List<MetadataValue> listC = entity.getMetadata(CREATOR);
-		List<MetadataValue> listS = entity.getMetadata(SOURCE);
-		List<MetadataValue> listW = entity.getMetadata(WEAPON);
-		Damager d = listD == null || listD.isEmpty() ? null : (Damager) listD.get(0).value();
-		InGamePlayer c = listC == null || listC.isEmpty() ? null : (InGamePlayer) listC.get(0).value();
-		InGamePlayer s = listS == null || listS.isEmpty() ? null : (InGamePlayer) listS.get(0).value();
-		UsableItem w = listW == null || listW.isEmpty() ? null : (UsableItem) listW.get(0).value();
-		return new DefaultAttacker(d, c, s, w);
+		return AttackerRegistry.get(entity);
 	}
 
 	/**
-	 * Adds Damager to metadata of the projectile, so Flier can handle it once
-	 * it hits someone.
+	 * Saves the Attacker of the projectile, so Flier can handle it once it hits
+	 * someone. It's forgotten when the projectile is removed.
 	 * 
 	 * @param entity
 	 *            projectile which was launched by Damager
@@ -98,10 +80,7 @@ public interface Attacker {
 	 *            Damager which is the source of that projectile
 	 */
 	public static void saveAttacker(Entity entity, Attacker attacker) {
-		entity.setMetadata(DAMAGER, new FixedMetadataValue(Flier.getInstance(), attacker.getDamager()));
-		entity.setMetadata(CREATOR, new FixedMetadataValue(Flier.getInstance(), attacker.getCreator()));
-		entity.setMetadata(SOURCE, new FixedMetadataValue(Flier.getInstance(), attacker.getSource()));
-		entity.setMetadata(WEAPON, new FixedMetadataValue(Flier.getInstance(), attacker.getWeapon()));
+		AttackerRegistry.put(entity, attacker);
 	}
 
 }
\ No newline at end of file
@@ -33,8 +33,43 @@ import pl.betoncraft.flier.event.FlierPlayerKillEvent.KillType;
  */
 public interface DatabaseManager {
 
+	/**
+	 * Writes all queued statistics and closes the connection.
+	 */
 	public void disconnect();
 
+	/**
+	 * Queues a kill to be saved in the database. Kills are written in batches
+	 * by a background task, so this method never waits for the database.
+	 * 
+	 * @param game
+	 *            the Game in which the kill happened
+	 * @param killed
+	 *            the player who was killed
+	 * @param killer
+	 *            the player who made the kill, can be null
+	 * @param weapon
+	 *            the weapon used to make the kill, can be null
+	 * @param type
+	 *            type of the kill
+	 */
 	public void saveKill(Game game, InGamePlayer killed, InGamePlayer killer, UsableItem weapon, KillType type);
 
+	/**
+	 * @return the number of kills waiting to be written to the database
+	 */
+	public int getQueuedKills();
+
+	/**
+	 * @return the number of kills which were not saved because the queue was
+	 *         full
+	 */
+	public long getDroppedKills();
+
+	/**
+	 * @return the time in nanoseconds it took to write the last batch of
+	 *         kills to the database
+	 */
+	public long getLastFlushTime();
+
 }
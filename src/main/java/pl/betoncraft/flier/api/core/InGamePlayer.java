@@ -29,6 +29,8 @@ import java.util.Map;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
+import pl.betoncraft.flier.core.PlayerStateSnapshot;
+
 /**
  * Represents a player who is in a Game.
  *
@@ -50,6 +52,12 @@ public interface InGamePlayer extends Target {
 	 */
 	public List<String> getTriggers();
 
+	/**
+	 * @return the state of the player taken at the start of UsableItems
+	 *         usage in this tick
+	 */
+	public PlayerStateSnapshot getState();
+
 	/**
 	 * @return the UsableItem which is currently held by the player
 	 */
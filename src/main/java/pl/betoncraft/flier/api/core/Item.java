@@ -38,6 +38,18 @@ public interface Item extends Named {
 	 */
 	public ItemStack getItem(InGamePlayer player);
 
+	/**
+	 * Checks if the ItemStack is this item, without creating a new ItemStack.
+	 * 
+	 * @param stack
+	 *            the ItemStack to check, can be null
+	 * @param player
+	 *            the player for whom the item was translated
+	 * @return true if the ItemStack is similar to the one returned by
+	 *         {@link #getItem(InGamePlayer)}
+	 */
+	public boolean isItem(ItemStack stack, InGamePlayer player);
+
 	/**
 	 * @return weight of an item
 	 */
@@ -48,9 +60,18 @@ public interface Item extends Named {
 	 */
 	public int slot();
 
+	/**
+	 * Returns the structural fingerprint of this item. It covers the item's
+	 * definition and everything it's made of, but not its mutable values.
+	 * 
+	 * @return 64-bit fingerprint of this item
+	 */
+	public long getFingerprint();
+
 	/**
 	 * Compares two items by their default values (ignores mutable values). This
-	 * returns true for replicated items.
+	 * returns true for replicated items. It's the same as comparing their
+	 * fingerprints.
 	 * 
 	 * @param key
 	 *            another item to compare
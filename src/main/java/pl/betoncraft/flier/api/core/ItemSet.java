@@ -120,4 +120,14 @@ public interface ItemSet extends Named {
 	 */
 	public boolean refills();
 
+	/**
+	 * Creates a new ItemSet from the same definition for another player, with
+	 * all its items replicated.
+	 * 
+	 * @param owner
+	 *            the player owning the new ItemSet
+	 * @return the copy of this ItemSet
+	 */
+	public ItemSet replicate(InGamePlayer owner);
+
 }
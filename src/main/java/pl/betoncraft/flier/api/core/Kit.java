@@ -94,6 +94,17 @@ public interface Kit {
 	 */
 	public List<UsableItem> getItems();
 
+	/**
+	 * Finds the current item similar to the specified one. Items are looked
+	 * up by their fingerprints, so this doesn't iterate over the list.
+	 * 
+	 * @param item
+	 *            the item to look for
+	 * @return the similar item from the current list, or null if there is
+	 *         none
+	 */
+	public UsableItem getSimilarItem(Item item);
+
 	/**
 	 * Removes one specified UsableItem from the inventory.
 	 * 
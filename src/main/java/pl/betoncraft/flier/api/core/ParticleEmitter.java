@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.api.core;
+
+import org.bukkit.Particle;
+import org.bukkit.World;
+
+/**
+ * Sends particles of a Game only to its players. Particles are not broadcast
+ * to everyone near the location, but to each player within the view distance
+ * of the Game separately. Trails are thinned with distance and the total
+ * amount of particles sent in a single tick is limited by the Game's budget.
+ *
+ * @author Jakub Sapalski
+ */
+public interface ParticleEmitter {
+
+	/**
+	 * Displays a single point of a trail. Trail points are dropped for
+	 * distant players and when the Game exceeds its particle budget, so they
+	 * should be spawned densely enough to still look good after thinning.
+	 * 
+	 * @param world
+	 *            world in which the particle is displayed
+	 * @param particle
+	 *            type of the particle
+	 * @param x
+	 *            X coordinate of the particle
+	 * @param y
+	 *            Y coordinate of the particle
+	 * @param z
+	 *            Z coordinate of the particle
+	 * @param amount
+	 *            amount of particles, 0 makes offsets a direction
+	 * @param offsetX
+	 *            X offset of the particles
+	 * @param offsetY
+	 *            Y offset of the particles
+	 * @param offsetZ
+	 *            Z offset of the particles
+	 * @param extra
+	 *            extra data of the particle, usually its speed
+	 */
+	public void spawnTrail(World world, Particle particle, double x, double y, double z, int amount,
+			double offsetX, double offsetY, double offsetZ, double extra);
+
+	/**
+	 * Displays a burst of particles, like an impact or an explosion. Every
+	 * player within the view distance sees the burst, but the amount of its
+	 * particles is reduced with distance and when the Game exceeds its
+	 * particle budget.
+	 * 
+	 * @param world
+	 *            world in which the particles are displayed
+	 * @param particle
+	 *            type of the particles
+	 * @param x
+	 *            X coordinate of the burst
+	 * @param y
+	 *            Y coordinate of the burst
+	 * @param z
+	 *            Z coordinate of the burst
+	 * @param amount
+	 *            amount of particles, 0 makes offsets a direction
+	 * @param offsetX
+	 *            X offset of the particles
+	 * @param offsetY
+	 *            Y offset of the particles
+	 * @param offsetZ
+	 *            Z offset of the particles
+	 * @param extra
+	 *            extra data of the particles, usually their speed
+	 */
+	public void spawnBurst(World world, Particle particle, double x, double y, double z, int amount,
+			double offsetX, double offsetY, double offsetZ, double extra);
+
+	/**
+	 * @return the amount of particles sent to players in the last finished
+	 *         tick
+	 */
+	public int getLastTickParticles();
+
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.api.core;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+/**
+ * Simulates simple, entity-less bullets in a Game. Bullets fly in a straight
+ * line, stop on solid blocks and hit the closest Target near their path.
+ *
+ * @author Jakub Sapalski
+ */
+public interface ProjectileWorld {
+
+	/**
+	 * Describes a group of bullets launched together, for example in one burst
+	 * of a weapon. It decides how these bullets look and who is responsible
+	 * for their hits.
+	 */
+	public interface Shot {
+
+		/**
+		 * @return the Attacker used when a bullet from this Shot hits a Target
+		 */
+		public Attacker getAttacker();
+
+		/**
+		 * @return the amount of trail points displayed on each block of the
+		 *         bullet's path
+		 */
+		public double getDensity();
+
+		/**
+		 * Displays a single point of the bullet's trail.
+		 * 
+		 * @param world
+		 *            world in which the bullet flies
+		 * @param x
+		 *            X coordinate of the point
+		 * @param y
+		 *            Y coordinate of the point
+		 * @param z
+		 *            Z coordinate of the point
+		 */
+		public void spawnTrail(World world, double x, double y, double z);
+
+		/**
+		 * Displays the impact of the bullet, when it hits a block or a Target.
+		 * 
+		 * @param world
+		 *            world in which the bullet flies
+		 * @param x
+		 *            X coordinate of the impact
+		 * @param y
+		 *            Y coordinate of the impact
+		 * @param z
+		 *            Z coordinate of the impact
+		 */
+		public void spawnImpact(World world, double x, double y, double z);
+
+	}
+
+	/**
+	 * Launches a new bullet. It will start moving on the next tick.
+	 * 
+	 * @param shot
+	 *            the Shot this bullet belongs to
+	 * @param start
+	 *            the starting location of the bullet
+	 * @param direction
+	 *            the direction of the bullet, it doesn't need to be normalized
+	 * @param speed
+	 *            the distance traveled by the bullet in one tick
+	 * @param proximity
+	 *            maximum distance from the bullet's path at which a Target is
+	 *            hit
+	 * @param range
+	 *            the distance after which the bullet disappears
+	 */
+	public void launch(Shot shot, Location start, Vector direction, double speed, double proximity, double range);
+
+	/**
+	 * @return the amount of bullets currently flying
+	 */
+	public int getProjectileCount();
+
+	/**
+	 * Removes all flying bullets.
+	 */
+	public void clear();
+
+}
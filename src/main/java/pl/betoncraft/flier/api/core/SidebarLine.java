@@ -35,4 +35,11 @@ public interface SidebarLine {
 	 */
 	public String getText();
 
+	/**
+	 * @return the amount of ticks between refreshing this line
+	 */
+	public default int getInterval() {
+		return 4;
+	}
+
 }
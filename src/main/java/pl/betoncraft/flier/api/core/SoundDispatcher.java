@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.api.core;
+
+import org.bukkit.Location;
+import org.bukkit.Sound;
+
+/**
+ * Plays sounds of a Game to its players. Sounds are sent to each player
+ * separately instead of being broadcast by the world. The same sound is sent
+ * to a single player at most once per tick and the amount of sounds a player
+ * can receive is limited by the Game's settings.
+ *
+ * @author Jakub Sapalski
+ */
+public interface SoundDispatcher {
+
+	/**
+	 * Plays the sound to a single player.
+	 * 
+	 * @param player
+	 *            the player who will hear the sound
+	 * @param location
+	 *            location at which the sound is played
+	 * @param sound
+	 *            type of the sound
+	 * @param volume
+	 *            volume of the sound
+	 * @param pitch
+	 *            pitch of the sound
+	 */
+	public void play(InGamePlayer player, Location location, Sound sound, float volume, float pitch);
+
+	/**
+	 * Plays the sound to every player of the Game at their own locations.
+	 * 
+	 * @param sound
+	 *            type of the sound
+	 * @param volume
+	 *            volume of the sound
+	 * @param pitch
+	 *            pitch of the sound
+	 */
+	public void playToAll(Sound sound, float volume, float pitch);
+
+	/**
+	 * Plays the sound at the location to every player of the Game who can
+	 * hear it from there.
+	 * 
+	 * @param location
+	 *            location at which the sound is played
+	 * @param sound
+	 *            type of the sound
+	 * @param volume
+	 *            volume of the sound, which also determines how far it can be
+	 *            heard
+	 * @param pitch
+	 *            pitch of the sound
+	 */
+	public void playAround(Location location, Sound sound, float volume, float pitch);
+
+}
@@ -27,6 +27,7 @@ import org.bukkit.Location;
 import org.bukkit.util.Vector;
 
 import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.util.Vec3;
 
 /**
  * Represents a target which can be hit by Damager.
@@ -60,6 +61,20 @@ public interface Target {
 	 */
 	public Location getLocation();
 
+	/**
+	 * Writes the Target's location into the passed vector, without creating
+	 * new objects. Use it in code running every tick. By default it copies
+	 * {@link #getLocation()}, override it if the location is created on each
+	 * call.
+	 * 
+	 * @param out
+	 *            the vector to overwrite
+	 * @return the passed vector
+	 */
+	public default Vec3 getPosition(Vec3 out) {
+		return out.set(getLocation());
+	}
+
 	/**
 	 * @return the current velocity of the Target
 	 */
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.api.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Spatial index of all Targets in a Game. Positions of Targets are copied at
+ * most once per tick, so queries don't need to check every Target's location
+ * separately. Filters passed to queries must not query the index themselves.
+ *
+ * @author Jakub Sapalski
+ */
+public interface TargetIndex {
+
+	/**
+	 * Finds the Target closest to the starting point among Targets which are
+	 * near the path. The path starts at the specified point and goes in the
+	 * specified direction. A Target is near the path if its distance from the
+	 * line is lower than proximity and its distance from the start is lower
+	 * than length.
+	 * 
+	 * @param x
+	 *            X coordinate of the starting point
+	 * @param y
+	 *            Y coordinate of the starting point
+	 * @param z
+	 *            Z coordinate of the starting point
+	 * @param dirX
+	 *            X coordinate of the normalized direction
+	 * @param dirY
+	 *            Y coordinate of the normalized direction
+	 * @param dirZ
+	 *            Z coordinate of the normalized direction
+	 * @param length
+	 *            maximum distance of the Target from the starting point
+	 * @param proximity
+	 *            maximum distance of the Target from the path
+	 * @param filter
+	 *            only Targets accepted by this filter are considered
+	 * @return the closest Target on the path or null if there is none
+	 */
+	public Target getClosestOnPath(double x, double y, double z, double dirX, double dirY, double dirZ,
+			double length, double proximity, Predicate<Target> filter);
+
+	/**
+	 * Adds all Targets within the radius around the point to the collection.
+	 * 
+	 * @param x
+	 *            X coordinate of the center
+	 * @param y
+	 *            Y coordinate of the center
+	 * @param z
+	 *            Z coordinate of the center
+	 * @param radius
+	 *            the radius
+	 * @param result
+	 *            collection to which found Targets will be added
+	 */
+	public void getInRadius(double x, double y, double z, double radius, Collection<? super Target> result);
+
+	/**
+	 * Returns up to k Targets nearest to the point, sorted by their distance.
+	 * 
+	 * @param x
+	 *            X coordinate of the point
+	 * @param y
+	 *            Y coordinate of the point
+	 * @param z
+	 *            Z coordinate of the point
+	 * @param k
+	 *            maximum amount of returned Targets
+	 * @param maxDistance
+	 *            maximum distance of returned Targets, can be infinite
+	 * @param filter
+	 *            only Targets accepted by this filter are considered
+	 * @return the list of nearest Targets
+	 */
+	public List<Target> getNearest(double x, double y, double z, int k, double maxDistance,
+			Predicate<Target> filter);
+
+	/**
+	 * Returns the Target nearest to the point.
+	 * 
+	 * @param x
+	 *            X coordinate of the point
+	 * @param y
+	 *            Y coordinate of the point
+	 * @param z
+	 *            Z coordinate of the point
+	 * @param maxDistance
+	 *            maximum distance of the Target, can be infinite
+	 * @param filter
+	 *            only Targets accepted by this filter are considered
+	 * @return the nearest Target or null if there is none
+	 */
+	public Target getNearest(double x, double y, double z, double maxDistance, Predicate<Target> filter);
+
+	/**
+	 * Marks the index as outdated, so it's rebuilt before the next query. It
+	 * must be called when Targets are added to or removed from the Game.
+	 */
+	public void invalidate();
+
+}
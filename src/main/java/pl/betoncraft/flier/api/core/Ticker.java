@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.api.core;
+
+/**
+ * Drives everything that happens in a Game on each server tick. Instead of
+ * scheduling separate tasks, objects living in the Game register Tickables
+ * here and they are called in the order of Phases.
+ *
+ * @author Jakub Sapalski
+ */
+public interface Ticker {
+
+	/**
+	 * Phases of a single tick, in the order in which they are run.
+	 */
+	public enum Phase {
+
+		/**
+		 * Game rules and player input, like the time limit or the waiting room.
+		 */
+		TRIGGERS,
+
+		/**
+		 * Using UsableItems and running lasting Actions.
+		 */
+		USAGE,
+
+		/**
+		 * Flight physics: wings, engines and fuel.
+		 */
+		PHYSICS,
+
+		/**
+		 * Flying bullets and missiles.
+		 */
+		PROJECTILES,
+
+		/**
+		 * Bonus checking and animations.
+		 */
+		BONUSES,
+
+		/**
+		 * Displaying information to players.
+		 */
+		HUD,
+
+	}
+
+	/**
+	 * Something that needs to be updated every tick.
+	 */
+	public interface Tickable {
+
+		/**
+		 * Called once per tick in the Phase this Tickable was registered in.
+		 * 
+		 * @return true if this Tickable should be called on the next tick,
+		 *         false if it should be removed
+		 */
+		public boolean tick();
+
+	}
+
+	/**
+	 * Registers the Tickable in the specified Phase. It will be called
+	 * starting from the next tick, until it returns false or the Ticker is
+	 * stopped.
+	 * 
+	 * @param phase
+	 *            the Phase in which the Tickable will be called
+	 * @param tickable
+	 *            the Tickable to register
+	 */
+	public void register(Phase phase, Tickable tickable);
+
+	/**
+	 * @return the number of ticks which have passed since this Ticker was
+	 *         started
+	 */
+	public int getCurrentTick();
+
+	/**
+	 * @return the time in nanoseconds it took to run all Tickables in the last
+	 *         finished tick
+	 */
+	public long getLastTickDuration();
+
+	/**
+	 * @return the amount of bytes allocated while running all Tickables in the
+	 *         last finished tick, or 0 if the JVM can't measure it
+	 */
+	public long getLastTickAllocations();
+
+	/**
+	 * Stops the Ticker and drops all registered Tickables. It cannot be
+	 * started again.
+	 */
+	public void stop();
+
+}
@@ -118,4 +118,15 @@ public interface UsableItem extends Item {
 	 */
 	public void refill();
 
+	/**
+	 * Creates a new UsableItem from the same definition for another player,
+	 * without loading it again. The copy has the starting values of the
+	 * definition and no Modifications.
+	 * 
+	 * @param owner
+	 *            the player owning the new UsableItem
+	 * @return the copy of this UsableItem
+	 */
+	public UsableItem replicate(InGamePlayer owner);
+
 }
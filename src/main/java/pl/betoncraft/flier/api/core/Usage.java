@@ -24,6 +24,7 @@
 package pl.betoncraft.flier.api.core;
 
 import java.util.List;
+import java.util.Optional;
 
 import pl.betoncraft.flier.api.content.Action;
 import pl.betoncraft.flier.api.content.Activator;
@@ -78,4 +79,23 @@ public interface Usage extends Named {
 	 */
 	public boolean canUse(InGamePlayer player);
 
+	/**
+	 * Returns the structural fingerprint of this Usage. It covers the Usage's
+	 * definition and the fingerprints of its Activators and Actions, so
+	 * Usages with equal fingerprints behave the same way.
+	 * 
+	 * @return 64-bit fingerprint of this Usage
+	 */
+	public long getFingerprint();
+
+	/**
+	 * Creates a new Usage from the same definition for another owner, with
+	 * its Activators and Actions replicated as well.
+	 * 
+	 * @param owner
+	 *            optional owner of the new Usage
+	 * @return the copy of this Usage
+	 */
+	public Usage replicate(Optional<Owner> owner);
+
 }
@@ -42,6 +42,8 @@ import pl.betoncraft.flier.api.content.Game;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
 import pl.betoncraft.flier.event.FlierCollectBonusEvent;
 import pl.betoncraft.flier.util.LangManager;
 import pl.betoncraft.flier.util.ValueLoader;
@@ -68,7 +70,7 @@ public abstract class DefaultBonus implements Bonus {
 	protected BukkitRunnable starter;
 	protected Game game;
 	protected int ticks = 0;
-	protected BukkitRunnable ticker;
+	protected Tickable ticker;
 	
 	public DefaultBonus(ConfigurationSection section, Game game, Optional<Owner> owner) throws LoadingException {
 		id = section.getName();
@@ -175,13 +177,18 @@ public abstract class DefaultBonus implements Bonus {
 	@Override
 	public void start() {
 		available = true;
-		ticker = new BukkitRunnable() {
+		ticker = new Tickable() {
 			@Override
-			public void run() {
+			public boolean tick() {
+				// replaced or removed on stop
+				if (ticker != this) {
+					return false;
+				}
 				ticks++;
+				return true;
 			}
 		};
-		ticker.runTaskTimer(Flier.getInstance(), 0, 1);
+		game.getTicker().register(Phase.BONUSES, ticker);
 		release();
 	}
 	
@@ -191,10 +198,7 @@ public abstract class DefaultBonus implements Bonus {
 			starter.cancel();
 			starter = null;
 		}
-		if (ticker != null) {
-			ticker.cancel();
-			ticker = null;
-		}
+		ticker = null;
 		block();
 	}
 	
@@ -23,17 +23,20 @@
  */
 package pl.betoncraft.flier.bonus;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import pl.betoncraft.flier.api.Flier;
 import pl.betoncraft.flier.api.content.Game;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
+import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
 
 /**
  * A Bonus without physical manifestation, activated by proximity.
@@ -44,43 +47,57 @@ public class ProximityBonus extends DefaultBonus {
 
 	protected Location location;
 	protected final double distance;
-	protected BukkitRunnable checker;
+	protected final double searchRadius;
+	protected final List<Target> nearby = new ArrayList<>();
+	protected Tickable checker;
 
 	public ProximityBonus(ConfigurationSection section, Game game, Optional<Owner> owner) throws LoadingException {
 		super(section, game, owner);
-		distance = Math.pow(loader.loadNonNegativeDouble("distance"), 2);
+		double radius = loader.loadNonNegativeDouble("distance");
+		distance = Math.pow(radius, 2);
+		// the index uses the middle of player's body and the distance is
+		// measured from the feet, so a slightly bigger area is searched
+		searchRadius = radius + 1;
 		location = game.getArena().getLocationSet(loader.loadString("location")).getSingle();
 	}
 	
 	public void check() {
-		for (InGamePlayer player : game.getPlayers().values()) {
-			if (player != null &&
-					player.isPlaying() &&
+		nearby.clear();
+		game.getTargetIndex().getInRadius(location.getX(), location.getY(), location.getZ(), searchRadius, nearby);
+		for (Target target : nearby) {
+			if (!(target instanceof InGamePlayer)) {
+				continue;
+			}
+			InGamePlayer player = (InGamePlayer) target;
+			if (player.isPlaying() &&
 					player.getPlayer().getLocation().distanceSquared(location) <= distance) {
 				apply(player);
 			}
 		}
+		nearby.clear();
 	}
 	
 	@Override
 	public void release() {
 		super.release();
-		checker = new BukkitRunnable() {
+		checker = new Tickable() {
 			@Override
-			public void run() {
+			public boolean tick() {
+				// replaced or removed on block
+				if (checker != this) {
+					return false;
+				}
 				check();
+				return true;
 			}
 		};
-		checker.runTaskTimer(Flier.getInstance(), 1, 1);
+		game.getTicker().register(Phase.BONUSES, checker);
 	}
 	
 	@Override
 	public void block() {
 		super.block();
-		if (checker != null) {
-			checker.cancel();
-			checker = null;
-		}
+		checker = null;
 	}
 
 }
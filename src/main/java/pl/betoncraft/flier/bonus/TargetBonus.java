@@ -34,6 +34,7 @@ import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
 import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.core.EventRouter;
 
 /**
  * An entity based Bonus type which also gets collected upon being hit with a
@@ -55,6 +56,8 @@ public class TargetBonus extends EntityBonus implements Target {
 		super.release();
 		entity.setInvulnerable(false);
 		game.getTargets().put(entity.getUniqueId(), this);
+		EventRouter.addTarget(entity.getUniqueId(), game);
+		game.getTargetIndex().invalidate();
 	}
 	
 	@Override
@@ -62,6 +65,8 @@ public class TargetBonus extends EntityBonus implements Target {
 		super.block();
 		if (entity != null) {
 			game.getTargets().remove(entity.getUniqueId());
+			EventRouter.removeTarget(entity.getUniqueId());
+			game.getTargetIndex().invalidate();
 		}
 	}
 
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.permissions.Permission;
+
+import pl.betoncraft.flier.api.core.CommandArgument;
+import pl.betoncraft.flier.util.LangManager;
+import pl.betoncraft.flier.util.Profiler;
+import pl.betoncraft.flier.util.Profiler.Histogram;
+
+/**
+ * Toggles the Profiler and displays its measurements.
+ *
+ * @author Jakub Sapalski
+ */
+public class ProfileArgument implements CommandArgument {
+	
+	private static final int TOP = 5;
+	
+	private Permission permission = new Permission("flier.admin.profile");
+
+	@Override
+	public void parse(CommandSender sender, String currentCommand, Iterator<String> it) {
+		String arg = it.hasNext() ? it.next() : null;
+		if ("on".equalsIgnoreCase(arg)) {
+			Profiler.setEnabled(true);
+			LangManager.sendMessage(sender, "profiler_enabled");
+			return;
+		}
+		if ("off".equalsIgnoreCase(arg)) {
+			Profiler.setEnabled(false);
+			LangManager.sendMessage(sender, "profiler_disabled");
+			return;
+		}
+		String[] scopes = Profiler.getScopes();
+		if (scopes.length == 0) {
+			LangManager.sendMessage(sender, Profiler.isEnabled() ? "profiler_no_data" : "profiler_not_enabled");
+			return;
+		}
+		if (arg == null) {
+			for (String scope : scopes) {
+				display(sender, scope);
+			}
+		} else if (Arrays.asList(scopes).contains(arg)) {
+			display(sender, arg);
+		} else {
+			CommandArgument.displayObjects(sender, "object_game", arg, new HashSet<>(Arrays.asList(scopes)));
+		}
+	}
+	
+	private void display(CommandSender sender, String scope) {
+		sender.sendMessage(String.format("%s== %s ==", ChatColor.GOLD, scope));
+		for (Entry<String, Map<String, Histogram>> category : Profiler.getData(scope).entrySet()) {
+			List<Entry<String, Histogram>> entries = new ArrayList<>(category.getValue().entrySet());
+			// items and actions are displayed from the most expensive ones
+			boolean ranked = category.getKey().equals(Profiler.ITEM) || category.getKey().equals(Profiler.ACTION);
+			if (ranked) {
+				entries.sort((a, b) -> Long.compare(b.getValue().getTotal(), a.getValue().getTotal()));
+				if (entries.size() > TOP) {
+					entries = entries.subList(0, TOP);
+				}
+			}
+			for (Entry<String, Histogram> entry : entries) {
+				Histogram h = entry.getValue();
+				sender.sendMessage(String.format("%s%s %s: %s%dx, total %.1f ms, avg %.3f ms, p99 %.3f ms, max %.3f ms",
+						ChatColor.YELLOW, category.getKey(), entry.getKey(), ChatColor.WHITE, h.getCount(),
+						h.getTotal() / 1000000.0, h.getAverage() / 1000000.0, h.getPercentile(0.99) / 1000000.0,
+						h.getMax() / 1000000.0));
+			}
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "profile";
+	}
+
+	@Override
+	public List<String> getAliases() {
+		return Arrays.asList(new String[]{getName(), "p"});
+	}
+
+	@Override
+	public String getDescription(CommandSender sender) {
+		return LangManager.getMessage(sender, "profile_desc");
+	}
+
+	@Override
+	public String getHelp(CommandSender sender) {
+		return "[on/off/game]";
+	}
+
+	@Override
+	public Permission getPermission() {
+		return permission;
+	}
+
+	@Override
+	public User getUser() {
+		return User.ANYONE;
+	}
+
+}
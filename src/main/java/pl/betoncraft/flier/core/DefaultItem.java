@@ -23,7 +23,10 @@
  */
 package pl.betoncraft.flier.core;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import org.bukkit.ChatColor;
@@ -36,6 +39,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Item;
 import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.util.Fingerprint;
 import pl.betoncraft.flier.util.LangManager;
 import pl.betoncraft.flier.util.ModificationManager;
 import pl.betoncraft.flier.util.ValueLoader;
@@ -45,23 +49,32 @@ import pl.betoncraft.flier.util.ValueLoader;
  *
  * @author Jakub Sapalski
  */
-public abstract class DefaultItem implements Item {
+public abstract class DefaultItem implements Item, Cloneable {
 
 	private static final String WEIGHT = "weight";
+	private static final int WEIGHT_SLOT = ModificationManager.slot(WEIGHT);
+	
+	// ItemStacks built for each definition and language, dropped together
+	// with the definition section on reload
+	private static final Map<ConfigurationSection, Map<String, ItemStack>> templates = new WeakHashMap<>();
 
 	protected final String id;
 	protected final String name;
 	protected final ValueLoader loader;
-	protected final ModificationManager modMan;
+	protected ModificationManager modMan;
 
 	protected final Material material;
 	protected final String rawName;
 	protected final List<String> rawLore;
 	protected final double weight;
 	protected final int slot;
+	protected final Map<String, ItemStack> itemTemplates;
+	protected long fingerprint;
 
 	public DefaultItem(ConfigurationSection section) throws LoadingException {
 		id = section.getName();
+		fingerprint = Fingerprint.of(section);
+		itemTemplates = templates.computeIfAbsent(section, k -> new HashMap<>());
 		loader = new ValueLoader(section);
 		modMan = new ModificationManager();
 		name = loader.loadString("name", id);
@@ -82,9 +95,37 @@ public abstract class DefaultItem implements Item {
 		return name.startsWith("$") ? LangManager.getMessage(player, name.substring(1)) : name;
 	}
 
-	@SuppressWarnings("deprecation")
 	@Override
 	public ItemStack getItem(InGamePlayer player) {
+		return getTemplate(player).clone();
+	}
+	
+	@Override
+	public boolean isItem(ItemStack stack, InGamePlayer player) {
+		if (stack == null) {
+			return false;
+		}
+		ItemStack template = getTemplate(player);
+		// comparing types first skips building the meta for most stacks
+		return stack.getType() == template.getType() && template.isSimilar(stack);
+	}
+	
+	/**
+	 * Returns the shared ItemStack of this item in the player's language. It
+	 * must not be modified.
+	 */
+	protected ItemStack getTemplate(InGamePlayer player) {
+		String lang = player.getLanguage();
+		ItemStack template = itemTemplates.get(lang);
+		if (template == null) {
+			template = buildItem(player);
+			itemTemplates.put(lang, template);
+		}
+		return template;
+	}
+
+	@SuppressWarnings("deprecation")
+	protected ItemStack buildItem(InGamePlayer player) {
 		String name = rawName.startsWith("$") ?
 				LangManager.getMessage(player, rawName.substring(1)) :
 				ChatColor.translateAlternateColorCodes('&', rawName);
@@ -108,7 +149,7 @@ public abstract class DefaultItem implements Item {
 
 	@Override
 	public double getWeight() {
-		return modMan.modifyNumber(WEIGHT, weight);
+		return modMan.modifyNumber(WEIGHT_SLOT, weight);
 	}
 
 	@Override
@@ -116,13 +157,31 @@ public abstract class DefaultItem implements Item {
 		return slot;
 	}
 	
+	@Override
+	public long getFingerprint() {
+		return fingerprint;
+	}
+	
 	@Override
 	public boolean isSimilar(Item item) {
-		if (item instanceof DefaultItem) {
-			DefaultItem defItem = (DefaultItem) item;
-			return id.equals(defItem.id);
-		}
-		return false;
+		return item != null && item.getFingerprint() == fingerprint;
 	}
 
+	/**
+	 * Copies this item for replication. The copy shares the definition and
+	 * has its own, empty ModificationManager. Subclasses must reset their
+	 * mutable values themselves.
+	 * 
+	 * @return the shallow copy of this item
+	 */
+	protected DefaultItem copy() {
+		DefaultItem copy;
+		try {
+			copy = (DefaultItem) clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copy.modMan = new ModificationManager();
+		return copy;
+	}
 }
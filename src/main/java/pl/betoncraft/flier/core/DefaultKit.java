@@ -27,18 +27,24 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import pl.betoncraft.flier.api.content.Engine;
 import pl.betoncraft.flier.api.content.Wings;
 import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.Item;
 import pl.betoncraft.flier.api.core.ItemSet;
 import pl.betoncraft.flier.api.core.Kit;
 import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.SetApplier;
 import pl.betoncraft.flier.api.core.UsableItem;
 
@@ -53,6 +59,9 @@ public class DefaultKit implements Kit {
 	private final InGamePlayer owner;
 	
 	private Compiled compiled;
+	private final Set<String> dirty = new HashSet<>();
+	private boolean batch = false;
+	private boolean batchRefill = false;
 
 	private final Map<String, ItemSet> current = new HashMap<>();
 	private final Map<String, List<SetApplier>> stored = new HashMap<>();
@@ -79,64 +88,141 @@ public class DefaultKit implements Kit {
 		load();
 	}
 	
+	/**
+	 * The contents of all current ItemSets combined together. It's updated
+	 * incrementally: when a category changes, only items and modifications of
+	 * that category are taken back and added again.
+	 */
 	private class Compiled {
 
 		private Optional<String> name = Optional.empty();
 		private Engine engine;
 		private Wings wings;
 		private List<UsableItem> items = new ArrayList<>();
-
-		private Compiled(Collection<ItemSet> sets, boolean refill) {
-			for (ItemSet set : sets) {
-				if (set.getClassName().isPresent()) {
-					name = set.getClassName();
+		// items on the list by their fingerprints
+		private final Map<Long, UsableItem> byFingerprint = new HashMap<>();
+		
+		// items and modifications compiled from each category
+		private final Map<String, List<UsableItem>> categoryItems = new HashMap<>();
+		private final Map<String, List<Modification>> categoryMods = new HashMap<>();
+		// the item on the list into which each compiled item was merged
+		private final Map<UsableItem, UsableItem> entries = new IdentityHashMap<>();
+		// amounts added to other items by merged items
+		private final Map<UsableItem, Integer> merged = new IdentityHashMap<>();
+		// all compiled modifications with the number of categories having them
+		private final Map<Modification, Integer> mods = new HashMap<>();
+		// items which appeared on the list during the current update
+		private final Set<UsableItem> fresh = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		private void update(Collection<String> categories, boolean refill) {
+			// take back items of changed categories
+			for (String category : categories) {
+				List<UsableItem> oldItems = categoryItems.remove(category);
+				if (oldItems != null) {
+					for (UsableItem item : oldItems) {
+						retract(item);
+					}
 				}
-				// don't override existing stuff with nulls!
-				engine = set.getEngine() == null ? engine : set.getEngine();
-				if (engine != null) {
-					engine.clearModifications();
+			}
+			// update the modification counts
+			List<Modification> removed = new ArrayList<>();
+			List<Modification> added = new ArrayList<>();
+			for (String category : categories) {
+				List<Modification> oldMods = categoryMods.remove(category);
+				if (oldMods != null) {
+					for (Modification mod : oldMods) {
+						int count = mods.get(mod);
+						if (count == 1) {
+							mods.remove(mod);
+							removed.add(mod);
+						} else {
+							mods.put(mod, count - 1);
+						}
+					}
 				}
-				wings = set.getWings() == null ? wings : set.getWings();
-				if (wings != null) {
-					wings.clearModifications();
+			}
+			for (String category : categories) {
+				ItemSet set = current.get(category);
+				if (set == null) {
+					continue;
 				}
-				List<UsableItem> items = set.getItems();
-				loop: for (UsableItem newItem : items) {
-					for (UsableItem existingItem : this.items) {
-						if (existingItem.isSimilar(newItem)) {
-							existingItem.setAmount(existingItem.getAmount() + newItem.getAmount());
-							existingItem.clearModifications();
-							continue loop;
+				List<Modification> newMods = new ArrayList<>(set.getModifications());
+				categoryMods.put(category, newMods);
+				for (Modification mod : newMods) {
+					Integer count = mods.get(mod);
+					if (count == null) {
+						mods.put(mod, 1);
+						// removed and added again, it stays in place
+						if (!removed.remove(mod)) {
+							added.add(mod);
 						}
+					} else {
+						mods.put(mod, count + 1);
 					}
-					newItem.clearModifications();
-					this.items.add(newItem);
 				}
 			}
-			// apply modifications
-			sets.forEach(set -> set.getModifications().forEach(mod -> {
-				switch (mod.getTarget()) {
-				case ENGINE:
-					if (mod.getNames().contains(engine.getID())) {
-						engine.addModification(mod);
-					}
-					break;
-				case WINGS:
-					if (mod.getNames().contains(wings.getID())) {
-						wings.addModification(mod);
+			// add items of changed categories
+			for (String category : categories) {
+				ItemSet set = current.get(category);
+				if (set == null) {
+					continue;
+				}
+				List<UsableItem> newItems = new ArrayList<>(set.getItems());
+				categoryItems.put(category, newItems);
+				for (UsableItem item : newItems) {
+					merge(item);
+				}
+			}
+			// engine, wings and class name come from the last set having them
+			Engine newEngine = null;
+			Wings newWings = null;
+			name = Optional.empty();
+			for (ItemSet set : current.values()) {
+				if (set.getClassName().isPresent()) {
+					name = set.getClassName();
+				}
+				// don't override existing stuff with nulls!
+				newEngine = set.getEngine() == null ? newEngine : set.getEngine();
+				newWings = set.getWings() == null ? newWings : set.getWings();
+			}
+			boolean engineChanged = newEngine != engine;
+			boolean wingsChanged = newWings != wings;
+			// update modifications of things which were already compiled
+			List<UsableItem> kept = items;
+			if (!fresh.isEmpty()) {
+				kept = new ArrayList<>(items.size());
+				for (UsableItem item : items) {
+					if (!fresh.contains(item)) {
+						kept.add(item);
 					}
-					break;
-				case USABLE_ITEM:
-					items.stream()
-							.filter(item -> mod.getNames().contains(item.getID()))
-							.forEach(item -> item.addModification(mod));
-					break;
-				case ACTION:
-				case ACTIVATOR:
-					items.forEach(item -> item.addModification(mod));
-					break;
 				}
-			}));
+			}
+			Engine keptEngine = engineChanged ? null : engine;
+			Wings keptWings = wingsChanged ? null : wings;
+			for (Modification mod : removed) {
+				modify(mod, false, keptEngine, keptWings, kept);
+			}
+			for (Modification mod : added) {
+				modify(mod, true, keptEngine, keptWings, kept);
+			}
+			// new things get all modifications
+			engine = newEngine;
+			wings = newWings;
+			if (engineChanged && engine != null) {
+				engine.clearModifications();
+			}
+			if (wingsChanged && wings != null) {
+				wings.clearModifications();
+			}
+			for (UsableItem item : fresh) {
+				item.clearModifications();
+			}
+			if (engineChanged || wingsChanged || !fresh.isEmpty()) {
+				for (Modification mod : mods.keySet()) {
+					modify(mod, true, engineChanged ? engine : null, wingsChanged ? wings : null, fresh);
+				}
+			}
+			fresh.clear();
 			// optionally refill all items
 			if (refill) {
 				for (UsableItem item : items) {
@@ -151,6 +237,113 @@ public class DefaultKit implements Kit {
 			}
 		}
 		
+		/**
+		 * Adds the item to the list or merges it into a similar one.
+		 */
+		private void merge(UsableItem item) {
+			UsableItem entry = byFingerprint.get(item.getFingerprint());
+			if (entry != null) {
+				int before = entry.getAmount();
+				entry.setAmount(before + item.getAmount());
+				entries.put(item, entry);
+				// remember what was really added, the maximum could be reached
+				merged.put(item, entry.getAmount() - before);
+				return;
+			}
+			items.add(item);
+			byFingerprint.put(item.getFingerprint(), item);
+			entries.put(item, item);
+			fresh.add(item);
+		}
+		
+		/**
+		 * Takes back the item from the list or from the item it was merged
+		 * into.
+		 */
+		private void retract(UsableItem item) {
+			UsableItem entry = entries.remove(item);
+			if (entry == null) {
+				return;
+			}
+			if (entry != item) {
+				entry.setAmount(Math.max(0, entry.getAmount() - merged.remove(item)));
+				return;
+			}
+			// items merged into this one need to find another place
+			List<UsableItem> dependents = new ArrayList<>();
+			for (Entry<UsableItem, UsableItem> e : entries.entrySet()) {
+				if (e.getValue() == item) {
+					dependents.add(e.getKey());
+				}
+			}
+			for (UsableItem dependent : dependents) {
+				entries.remove(dependent);
+				item.setAmount(Math.max(0, item.getAmount() - merged.remove(dependent)));
+			}
+			for (Iterator<UsableItem> it = items.iterator(); it.hasNext();) {
+				if (it.next() == item) {
+					it.remove();
+					break;
+				}
+			}
+			fresh.remove(item);
+			byFingerprint.remove(item.getFingerprint());
+			// the item can come back if its set was only changed
+			for (Modification mod : mods.keySet()) {
+				modify(mod, false, null, null, Collections.singletonList(item));
+			}
+			for (UsableItem dependent : dependents) {
+				merge(dependent);
+			}
+		}
+		
+		/**
+		 * Adds or removes the modification on matching things.
+		 */
+		private void modify(Modification mod, boolean add, Engine engine, Wings wings, Collection<UsableItem> items) {
+			switch (mod.getTarget()) {
+			case ENGINE:
+				if (engine != null && mod.getNames().contains(engine.getID())) {
+					if (add) {
+						engine.addModification(mod);
+					} else {
+						engine.removeModification(mod);
+					}
+				}
+				break;
+			case WINGS:
+				if (wings != null && mod.getNames().contains(wings.getID())) {
+					if (add) {
+						wings.addModification(mod);
+					} else {
+						wings.removeModification(mod);
+					}
+				}
+				break;
+			case USABLE_ITEM:
+				for (UsableItem item : items) {
+					if (mod.getNames().contains(item.getID())) {
+						if (add) {
+							item.addModification(mod);
+						} else {
+							item.removeModification(mod);
+						}
+					}
+				}
+				break;
+			case ACTION:
+			case ACTIVATOR:
+				for (UsableItem item : items) {
+					if (add) {
+						item.addModification(mod);
+					} else {
+						item.removeModification(mod);
+					}
+				}
+				break;
+			}
+		}
+		
 		public Engine getEngine() {
 			return engine;
 		}
@@ -167,11 +360,44 @@ public class DefaultKit implements Kit {
 	
 	private void load() {
 		current.clear();
-		stored.values().forEach(list -> list.forEach(applier -> addCurrent(applier)));
+		dirty.clear();
+		compiled = new Compiled();
+		addAll(stored);
+	}
+	
+	/**
+	 * Adds all appliers to current sets, compiling the kit only once at the
+	 * end.
+	 */
+	private void addAll(Map<String, List<SetApplier>> appliers) {
+		batch = true;
+		try {
+			appliers.values().forEach(list -> list.forEach(applier -> addCurrent(applier)));
+		} finally {
+			batch = false;
+		}
+		if (!dirty.isEmpty()) {
+			compile(batchRefill);
+		}
+		batchRefill = false;
+	}
+	
+	/**
+	 * Marks the category as changed and updates the compiled kit, unless
+	 * appliers are being added in a batch.
+	 */
+	private void compile(String category, boolean refill) {
+		dirty.add(category);
+		if (batch) {
+			batchRefill |= refill;
+			return;
+		}
+		compile(refill);
 	}
 	
 	private void compile(boolean refill) {
-		compiled = new Compiled(current.values(), refill);
+		compiled.update(dirty, refill);
+		dirty.clear();
 	}
 	
 	@Override
@@ -194,11 +420,13 @@ public class DefaultKit implements Kit {
 		Engine e = compiled.engine;
 		if (e != null) {
 			compiled.engine = null;
-			for (Iterator<ItemSet> i = current.values().iterator(); i.hasNext();) {
-				ItemSet set = i.next();
+			for (Iterator<Entry<String, ItemSet>> i = current.entrySet().iterator(); i.hasNext();) {
+				Entry<String, ItemSet> entry = i.next();
+				ItemSet set = entry.getValue();
 				set.setEngine(null);
 				if (set.isEmpty()) {
 					i.remove();
+					dirty.add(entry.getKey());
 				}
 			}
 			return true;
@@ -217,11 +445,13 @@ public class DefaultKit implements Kit {
 		Wings w = compiled.wings;
 		if (w != null) {
 			compiled.wings = null;
-			for (Iterator<ItemSet> i = current.values().iterator(); i.hasNext();) {
-				ItemSet set = i.next();
+			for (Iterator<Entry<String, ItemSet>> i = current.entrySet().iterator(); i.hasNext();) {
+				Entry<String, ItemSet> entry = i.next();
+				ItemSet set = entry.getValue();
 				set.setWings(null);
 				if (set.isEmpty()) {
 					i.remove();
+					dirty.add(entry.getKey());
 				}
 			}
 			return true;
@@ -235,27 +465,30 @@ public class DefaultKit implements Kit {
 		return compiled.getItems();
 	}
 	
+	@Override
+	public UsableItem getSimilarItem(Item item) {
+		return compiled.byFingerprint.get(item.getFingerprint());
+	}
+	
 	@Override
 	public boolean removeItem(UsableItem removeItem) {
 		int newAmount = 0;
 		boolean found = false;
 		// find the item on the compiled list
-		for (Iterator<UsableItem> it = compiled.getItems().iterator(); it.hasNext();) {
-			UsableItem item = it.next();
-			if (item.isSimilar(removeItem)) {
-				newAmount = item.getAmount() - 1;
-				if (newAmount > 0) {
-					item.setAmount(newAmount);
-				} else {
-					item.setAmount(0);
-				}
-				found = true;
-				break;
+		UsableItem compiledItem = getSimilarItem(removeItem);
+		if (compiledItem != null) {
+			newAmount = compiledItem.getAmount() - 1;
+			if (newAmount > 0) {
+				compiledItem.setAmount(newAmount);
+			} else {
+				compiledItem.setAmount(0);
 			}
+			found = true;
 		}
 		// removing from the compiled list isn't necessary, it's read-only
-		if (found) loop: for (Iterator<ItemSet> itSet = current.values().iterator(); itSet.hasNext();) {
-			ItemSet set = itSet.next();
+		if (found) loop: for (Iterator<Entry<String, ItemSet>> itSet = current.entrySet().iterator(); itSet.hasNext();) {
+			Entry<String, ItemSet> entry = itSet.next();
+			ItemSet set = entry.getValue();
 			for (Iterator<UsableItem> itItem = set.getItems().iterator(); itItem.hasNext();) {
 				UsableItem item = itItem.next();
 				if (item.isSimilar(removeItem)) {
@@ -266,6 +499,8 @@ public class DefaultKit implements Kit {
 						// empty ItemSets should be removed, no need to keep them
 						if (set.isEmpty()) {
 							itSet.remove();
+							// it will be taken back on the next compilation
+							dirty.add(entry.getKey());
 						}
 					}
 					break loop;
@@ -282,7 +517,7 @@ public class DefaultKit implements Kit {
 			load();
 			break;
 		case COMBINE:
-			stored.values().forEach(list -> list.forEach(applier -> addCurrent(applier)));
+			addAll(stored);
 			break;
 		case NOTHING: // nothing
 		}
@@ -355,7 +590,7 @@ public class DefaultKit implements Kit {
 			}
 		}
 		if (result != AddResult.ALREADY_MAXED && result != AddResult.ALREADY_EMPTIED && result != AddResult.SKIPPED) {
-			compile(set.refills());
+			compile(category, set.refills());
 		}
 		return result;
 	}
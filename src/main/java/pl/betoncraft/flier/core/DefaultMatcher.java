@@ -23,10 +23,16 @@
  */
 package pl.betoncraft.flier.core;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import pl.betoncraft.flier.api.core.Matcher;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
+import pl.betoncraft.flier.core.MatchingEvent.Key;
+import pl.betoncraft.flier.core.MatchingEvent.Kind;
 
 /**
  * Default implementation of the Matcher.
@@ -103,4 +109,63 @@ public class DefaultMatcher implements Matcher {
 		return bool;
 	}
 
+	/**
+	 * Compiles the Matchers into a single predicate, which reads attributes of
+	 * the MatchingEvent directly. Matchers which can't match any attribute
+	 * will never match.
+	 * 
+	 * @param matchers
+	 *            the list of Matchers
+	 * @return the predicate testing all Matchers
+	 */
+	public static Predicate<MatchingEvent> compile(List<Matcher> matchers) {
+		Predicate<MatchingEvent> result = null;
+		for (Matcher matcher : matchers) {
+			Predicate<MatchingEvent> predicate = compile(matcher);
+			result = result == null ? predicate : result.and(predicate);
+		}
+		return result == null ? event -> true : result;
+	}
+
+	private static Predicate<MatchingEvent> compile(Matcher matcher) {
+		Key key = Key.of(matcher.getName());
+		Kind kind = matcher.getType() == Type.STRING ? Kind.STRING :
+				matcher.getType() == Type.BOOLEAN ? Kind.BOOLEAN : Kind.NUMBER;
+		if (key == null || key.getAttribute().getKind() != kind) {
+			return event -> false;
+		}
+		String prefix = key.getPrefix();
+		Attribute attribute = key.getAttribute();
+		switch (matcher.getType()) {
+		case STRING:
+			if (matcher.getStrings().size() == 1) {
+				String string = matcher.getStrings().get(0);
+				return event -> string.equals(event.getValue(prefix, attribute));
+			}
+			Set<String> strings = new HashSet<>(matcher.getStrings());
+			return event -> {
+				Object value = event.getValue(prefix, attribute);
+				return value != null && strings.contains(value);
+			};
+		case NUMBER_EXACT:
+			double exact = matcher.exactNumber();
+			return event -> {
+				Object value = event.getValue(prefix, attribute);
+				return value != null && (Double) value == exact;
+			};
+		case NUMBER_SECTION:
+			double min = matcher.minNumber();
+			double max = matcher.maxNumber();
+			return event -> {
+				Object value = event.getValue(prefix, attribute);
+				return value != null && (Double) value > min && (Double) value < max;
+			};
+		case BOOLEAN:
+			Boolean bool = matcher.bool();
+			return event -> bool.equals(event.getValue(prefix, attribute));
+		default:
+			return event -> false;
+		}
+	}
+
 }
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.Arrays;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
+import pl.betoncraft.flier.util.ValueLoader;
+
+/**
+ * Default ParticleEmitter implementation. Locations of the Game's players are
+ * collected once at the beginning of each tick and every particle is checked
+ * against them. Trails are thinned with a per-player accumulator, so the
+ * points which are sent stay evenly spread. When the Game requests more
+ * particles than its budget allows, the density of all particles is lowered
+ * on the next tick so they fit in it, and slowly raised back afterwards.
+ *
+ * @author Jakub Sapalski
+ */
+public class DefaultParticleEmitter implements ParticleEmitter, Tickable {
+
+	private static final String VIEW_DISTANCE = "particles.view_distance";
+	private static final String BUDGET = "particles.budget";
+	private static final int INITIAL_CAPACITY = 16;
+	// part of the view distance in which trails are not thinned
+	private static final double DETAIL_DISTANCE = 0.25;
+	// density can't drop below this, so trails never disappear completely
+	private static final double MIN_DENSITY = 0.05;
+	// density regained on each tick below the budget
+	private static final double RECOVERY = 0.05;
+	// particles are dropped only above this multiple of the budget, when
+	// the density can't keep up with a sudden spike
+	private static final int HARD_LIMIT = 2;
+
+	private final Game game;
+	private final double viewDistanceSquared;
+	private final double detailDistance;
+	private final double detailDistanceSquared;
+	private final int budget;
+	private final int hardLimit;
+
+	// players which can see particles, collected on each tick
+	private int count = 0;
+	private Player[] players = new Player[INITIAL_CAPACITY];
+	private World[] worlds = new World[INITIAL_CAPACITY];
+	private double[] x = new double[INITIAL_CAPACITY];
+	private double[] y = new double[INITIAL_CAPACITY];
+	private double[] z = new double[INITIAL_CAPACITY];
+	private double[] credit = new double[INITIAL_CAPACITY];
+
+	private double density = 1;
+	// particles which would be sent with full density
+	private double requested = 0;
+	private int sent = 0;
+	private int lastSent = 0;
+
+	public DefaultParticleEmitter(Game game, ValueLoader loader) throws LoadingException {
+		this.game = game;
+		double viewDistance = loader.loadPositiveDouble(VIEW_DISTANCE, 64.0);
+		viewDistanceSquared = viewDistance * viewDistance;
+		detailDistance = viewDistance * DETAIL_DISTANCE;
+		detailDistanceSquared = detailDistance * detailDistance;
+		budget = loader.loadPositiveInt(BUDGET, 4000);
+		hardLimit = budget * HARD_LIMIT;
+		game.getTicker().register(Phase.TRIGGERS, this);
+	}
+
+	@Override
+	public boolean tick() {
+		// adjust the density to the amount of particles requested in the last
+		// tick, so the same amount would fit in the budget
+		double target = requested > budget ? Math.max(MIN_DENSITY, budget / requested) : 1;
+		if (target < density) {
+			density = target;
+		} else if (density < target) {
+			density = Math.min(target, density + RECOVERY);
+		}
+		lastSent = sent;
+		sent = 0;
+		requested = 0;
+		// collect current locations of players
+		int i = 0;
+		for (InGamePlayer data : game.getPlayers().values()) {
+			Player player = data.getPlayer();
+			if (!player.isOnline()) {
+				continue;
+			}
+			if (i == players.length) {
+				grow();
+			}
+			if (players[i] != player) {
+				credit[i] = 0;
+			}
+			Location loc = player.getLocation();
+			players[i] = player;
+			worlds[i] = loc.getWorld();
+			x[i] = loc.getX();
+			y[i] = loc.getY();
+			z[i] = loc.getZ();
+			i++;
+		}
+		// forget players who left since the last tick
+		if (i < count) {
+			Arrays.fill(players, i, count, null);
+			Arrays.fill(worlds, i, count, null);
+		}
+		count = i;
+		return true;
+	}
+
+	@Override
+	public void spawnTrail(World world, Particle particle, double x, double y, double z, int amount,
+			double offsetX, double offsetY, double offsetZ, double extra) {
+		for (int i = 0; i < count; i++) {
+			double distance = distanceSquared(i, world, x, y, z);
+			if (distance > viewDistanceSquared) {
+				continue;
+			}
+			double detail = detail(distance);
+			requested += detail * Math.max(amount, 1);
+			credit[i] += density * detail;
+			if (credit[i] < 1 || sent >= hardLimit) {
+				continue;
+			}
+			credit[i] -= 1;
+			players[i].spawnParticle(particle, x, y, z, amount, offsetX, offsetY, offsetZ, extra);
+			sent += Math.max(amount, 1);
+		}
+	}
+
+	@Override
+	public void spawnBurst(World world, Particle particle, double x, double y, double z, int amount,
+			double offsetX, double offsetY, double offsetZ, double extra) {
+		for (int i = 0; i < count; i++) {
+			double distance = distanceSquared(i, world, x, y, z);
+			if (distance > viewDistanceSquared) {
+				continue;
+			}
+			double detail = detail(distance);
+			requested += detail * Math.max(amount, 1);
+			if (sent >= hardLimit) {
+				continue;
+			}
+			// amount of 0 means a single directional particle, it's not scaled
+			int scaled = amount == 0 ? 0 : Math.max(1, (int) Math.round(amount * density * detail));
+			players[i].spawnParticle(particle, x, y, z, scaled, offsetX, offsetY, offsetZ, extra);
+			sent += Math.max(scaled, 1);
+		}
+	}
+
+	@Override
+	public int getLastTickParticles() {
+		return lastSent;
+	}
+
+	/**
+	 * @return squared distance between the player and the point, or infinity
+	 *         if the player is in another world
+	 */
+	private double distanceSquared(int i, World world, double x, double y, double z) {
+		if (!world.equals(worlds[i])) {
+			return Double.POSITIVE_INFINITY;
+		}
+		double dx = this.x[i] - x, dy = this.y[i] - y, dz = this.z[i] - z;
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	/**
+	 * @return the part of particles which should be displayed at this squared
+	 *         distance from the player, before applying the density
+	 */
+	private double detail(double distanceSquared) {
+		if (distanceSquared <= detailDistanceSquared) {
+			return 1;
+		}
+		return detailDistance / Math.sqrt(distanceSquared);
+	}
+
+	private void grow() {
+		int size = players.length * 2;
+		players = Arrays.copyOf(players, size);
+		worlds = Arrays.copyOf(worlds, size);
+		x = Arrays.copyOf(x, size);
+		y = Arrays.copyOf(y, size);
+		z = Arrays.copyOf(z, size);
+		credit = Arrays.copyOf(credit, size);
+	}
+
+}
@@ -37,16 +37,10 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scoreboard.DisplaySlot;
-import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Score;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
 import org.bukkit.util.Vector;
 
-import com.google.common.collect.Lists;
-
 import pl.betoncraft.flier.api.Flier;
 import pl.betoncraft.flier.api.content.Action;
 import pl.betoncraft.flier.api.content.Activator;
@@ -60,12 +54,16 @@ import pl.betoncraft.flier.api.core.FancyStuffWrapper;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Kit;
 import pl.betoncraft.flier.api.core.SidebarLine;
+import pl.betoncraft.flier.api.core.Ticker;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
 import pl.betoncraft.flier.api.core.UsableItem;
 import pl.betoncraft.flier.api.core.Usage;
 import pl.betoncraft.flier.event.FlierEngineUseEvent;
 import pl.betoncraft.flier.event.FlierPlayerHitEvent;
 import pl.betoncraft.flier.util.LangManager;
+import pl.betoncraft.flier.util.Profiler;
 import pl.betoncraft.flier.util.Utils;
+import pl.betoncraft.flier.util.Vec3;
 
 /**
  * Stores data about the player.
@@ -80,12 +78,23 @@ public class DefaultPlayer implements InGamePlayer {
 	private String lang;
 	private Scoreboard oldSb;
 	private Scoreboard sb;
+	private Hud hud;
 	private FancyStuffWrapper fancyStuff;
-	private BukkitRunnable ticker;
+	private boolean cleared = false;
 	private int tickCounter = 0;
 
 	private boolean isPlaying;
 	private List<String> triggers = new ArrayList<>();
+	private long triggerBits = 0;
+	private final PlayerStateSnapshot tickState = new PlayerStateSnapshot();
+	private final PlayerStateSnapshot hitState = new PlayerStateSnapshot();
+	private PlayerStateSnapshot state = tickState;
+	private final InventorySync inventory = new InventorySync();
+	// reused by physics code to avoid creating new objects every tick
+	private final Location location = new Location(null, 0, 0, 0);
+	private final Vector velocity = new Vector();
+	private final Vec3 flightVelocity = new Vec3();
+	private final Vec3 flightDirection = new Vec3();
 	private int noDamageTicks = 0;
 	private List<SidebarLine> lines = new LinkedList<>();
 	private Attacker lastHit = null;
@@ -101,25 +110,59 @@ public class DefaultPlayer implements InGamePlayer {
 		oldSb = player.getScoreboard();
 		sb = Bukkit.getScoreboardManager().getNewScoreboard();
 		fancyStuff = flier.getFancyStuff();
-		Objective stats = sb.registerNewObjective("stats", "dummy");
-		stats.setDisplaySlot(DisplaySlot.SIDEBAR);
-		stats.setDisplayName("Stats");
+		hud = new Hud(player, sb, fancyStuff);
 		Utils.clearPlayer(player);
 		updateKit();
-		ticker = new BukkitRunnable() {
-			@Override
-			public void run() {
-				fastTick();
-				if (tickCounter % 4 == 0) {
-					slowTick();
-				}
-				tickCounter++;
+		Ticker ticker = game.getTicker();
+		String scope = game.getID();
+		ticker.register(Phase.USAGE, () -> {
+			if (cleared) {
+				return false;
+			}
+			long start = Profiler.start();
+			usageTick();
+			Profiler.stop(scope, Profiler.PLAYER, "usage", start);
+			return true;
+		});
+		ticker.register(Phase.PHYSICS, () -> {
+			if (cleared) {
+				return false;
 			}
-		};
-		ticker.runTaskTimer(flier, 1, 1);
+			long start = Profiler.start();
+			physicsTick();
+			Profiler.stop(scope, Profiler.PLAYER, "physics", start);
+			return true;
+		});
+		ticker.register(Phase.HUD, () -> {
+			if (cleared) {
+				return false;
+			}
+			long start = Profiler.start();
+			displayReloadingTime();
+			hud.updateSidebar(lines);
+			Profiler.stop(scope, Profiler.PLAYER, "hud", start);
+			if (tickCounter % 4 == 0) {
+				start = Profiler.start();
+				slowTick();
+				Profiler.stop(scope, Profiler.PLAYER, "slow", start);
+			}
+			tickCounter++;
+			return true;
+		});
 	}
 
-	public void fastTick() {
+	public void usageTick() {
+		if (isPlaying()) {
+			// manage UsableItems
+			tickState.update(player, triggerBits);
+			use();
+			triggers.clear();
+			triggerBits = 0;
+			noDamageTicks--;
+		}
+	}
+
+	public void physicsTick() {
 		if (isPlaying()) {
 			boolean hasWings = hasWings();
 			boolean wingsDead = kit.getWings().getHealth() == 0;
@@ -150,17 +193,10 @@ public class DefaultPlayer implements InGamePlayer {
 			if (!isAccelerating()) { // is not accelerating
 				regenerateFuel();
 			}
-			
-			// manage UsableItems
-			use();
-			triggers.clear();
-			noDamageTicks--;
 		}
-		displayReloadingTime();
 	}
 
 	public void slowTick() {
-		updateStats();
 		updateActionBar();
 		if (!sb.equals(player.getScoreboard())) {
 			player.setScoreboard(sb);
@@ -191,18 +227,18 @@ public class DefaultPlayer implements InGamePlayer {
 					color = ChatColor.RED.toString();
 				}
 				String ammoChar = LangManager.getMessage(this, "ammo_char");
-				String full = "";
+				StringBuilder bar = new StringBuilder(color.length() + 2 + maxAmmo * ammoChar.length());
+				bar.append(color);
 				for (int i = 0; i < ammo; i++) {
-					full += ammoChar;
+					bar.append(ammoChar);
 				}
-				String empty = "";
+				bar.append(ChatColor.BLACK);
 				for (int i = 0; i < maxAmmo - ammo; i++) {
-					empty += ammoChar;
+					bar.append(ammoChar);
 				}
-				fancyStuff.sendActionBar(player,
-						LangManager.getMessage(this, "actionbar_ammo", color + full + ChatColor.BLACK + empty));
+				hud.setActionBar(LangManager.getMessage(this, "actionbar_ammo", bar.toString()), 4);
 			} else {
-				fancyStuff.sendActionBar(player, "");
+				hud.setActionBar("", 4);
 			}
 		}
 	}
@@ -216,6 +252,7 @@ public class DefaultPlayer implements InGamePlayer {
 	public void addTrigger(String name) {
 		if (isPlaying()) {
 			triggers.add(name);
+			triggerBits |= PlayerStateSnapshot.trigger(name);
 		}
 	}
 	
@@ -224,6 +261,11 @@ public class DefaultPlayer implements InGamePlayer {
 		return triggers;
 	}
 	
+	@Override
+	public PlayerStateSnapshot getState() {
+		return state;
+	}
+	
 	@Override
 	public boolean handleHit(Attacker attacker) {
 		Damager damager = attacker.getDamager();
@@ -272,18 +314,27 @@ public class DefaultPlayer implements InGamePlayer {
 				}
 			}
 		}
-		loop: for (Usage usage : damager.getSubUsages()) {
-			if (!usage.canUse(this)) {
-				continue;
-			}
-			for (Activator activator : usage.getActivators()) {
-				if (!activator.isActive(this, source == null ? this : source)) {
-					continue loop;
+		// hits happen between ticks, so sub-usages need the current state
+		// instead of the one taken at the beginning of the tick
+		PlayerStateSnapshot previous = state;
+		hitState.update(player, triggerBits);
+		state = hitState;
+		try {
+			loop: for (Usage usage : damager.getSubUsages()) {
+				if (!usage.canUse(this)) {
+					continue;
+				}
+				for (Activator activator : usage.getActivators()) {
+					if (!activator.isActive(this, source == null ? this : source)) {
+						continue loop;
+					}
+				}
+				for (Action action : usage.getActions()) {
+					action.act(this, source == null ? this : source);
 				}
 			}
-			for (Action action : usage.getActions()) {
-				action.act(this, source == null ? this : source);
-			}
+		} finally {
+			state = previous;
 		}
 		return true;
 	}
@@ -300,13 +351,13 @@ public class DefaultPlayer implements InGamePlayer {
 	
 	@Override
 	public UsableItem getHeldItem() {
-		if (player.getInventory().getItemInMainHand() == null ||
-				player.getInventory().getItemInMainHand().getType() == Material.AIR) {
+		ItemStack stack = player.getInventory().getItemInMainHand();
+		if (stack == null || stack.getType() == Material.AIR) {
 			return null;
 		}
 		int heldSlot = player.getInventory().getHeldItemSlot();
 		for (UsableItem item : kit.getItems()) {
-			if (item.slot() == heldSlot && isHolding(item)) {
+			if (item.slot() == heldSlot && item.isItem(stack, this)) {
 				return item;
 			}
 		}
@@ -316,7 +367,7 @@ public class DefaultPlayer implements InGamePlayer {
 	@Override
 	public boolean isHolding(UsableItem item) {
 		ItemStack stack = player.getInventory().getItemInMainHand();
-		return item == null && stack == null || (item != null && stack != null && item.getItem(this).isSimilar(stack));
+		return item == null && stack == null || (item != null && item.isItem(stack, this));
 	}
 	
 	@Override
@@ -326,22 +377,18 @@ public class DefaultPlayer implements InGamePlayer {
 	
 	@Override
 	public void consumeItem(UsableItem match) {
-		UsableItem item = kit.getItems().stream()
-				.filter(i -> i.isSimilar(match))
-				.findFirst()
-				.orElse(null);
+		UsableItem item = kit.getSimilarItem(match);
 		if (item == null) {
 			return;
 		}
 		int slot = item.slot();
 		int amount = item.getAmount();
 		ItemStack stack = player.getInventory().getItem(slot);
-		ItemStack compare = item.getItem(this);
 		// if the stack was not on the correct slot or there was another item, find the correct one
-		if (stack == null || !stack.isSimilar(compare)) {
+		if (!item.isItem(stack, this)) {
 			ItemStack[] inv = player.getInventory().getContents();
 			for (int i = 0; i < inv.length; i++) {
-				if (inv[i] != null && compare.isSimilar(inv[i])) {
+				if (item.isItem(inv[i], this)) {
 					stack = inv[i];
 					slot = i; // remember the current slot, so we can remove it
 					break;
@@ -383,9 +430,15 @@ public class DefaultPlayer implements InGamePlayer {
 	
 	@Override
 	public Location getLocation() {
-		return player.getLocation().toVector()
-			.midpoint(player.getEyeLocation().toVector())
-			.toLocation(player.getLocation().getWorld());
+		// middle of the body, between the feet and the eyes
+		Location loc = player.getLocation(location);
+		return new Location(loc.getWorld(), loc.getX(), loc.getY() + player.getEyeHeight() / 2, loc.getZ());
+	}
+	
+	@Override
+	public Vec3 getPosition(Vec3 out) {
+		Location loc = player.getLocation(location);
+		return out.set(loc.getX(), loc.getY() + player.getEyeHeight() / 2, loc.getZ());
 	}
 	
 	@Override
@@ -431,31 +484,7 @@ public class DefaultPlayer implements InGamePlayer {
 	
 	@Override
 	public void updateKit() {
-		Engine engine = kit.getEngine();
-		Wings wings = kit.getWings();
-		List<UsableItem> items = kit.getItems();
-		player.getInventory().clear();
-		player.getInventory().setItemInOffHand(engine.getItem(this));
-		player.getInventory().setChestplate(wings.getItem(this));
-		for (UsableItem item : items) {
-			int amount = item.getAmount();
-			int slot = item.slot();
-			ItemStack itemStack = item.getItem(this);
-			itemStack.setAmount(amount);
-			if (slot >= 0) {
-				player.getInventory().setItem(slot, itemStack);
-			} else {
-				ItemStack[] content = player.getInventory().getContents();
-				int i = 9;
-				while (i < 36) {
-					if (content[i] == null) {
-						content[i] = itemStack;
-						break;
-					}
-				}
-				player.getInventory().setContents(content);
-			}
-		}
+		inventory.sync(this, kit);
 	}
 	
 	@Override
@@ -520,7 +549,7 @@ public class DefaultPlayer implements InGamePlayer {
 	
 	@Override
 	public void clearPlayer() {
-		ticker.cancel();
+		cleared = true;
 		Utils.clearPlayer(player);
 		player.setScoreboard(oldSb);
 	}
@@ -538,7 +567,10 @@ public class DefaultPlayer implements InGamePlayer {
 		if (event.isCancelled()) {
 			return;
 		}
-		getPlayer().setVelocity(engine.launch(getPlayer().getVelocity(), getPlayer().getLocation().getDirection()));
+		Location loc = player.getLocation(location);
+		Vec3 direction = flightDirection.setDirection(loc.getYaw(), loc.getPitch());
+		Vec3 velocity = engine.launch(flightVelocity.set(player.getVelocity()), direction);
+		player.setVelocity(velocity.toVector(this.velocity));
 //		startGlowing(engine.getGlowTime());
 	}
 	
@@ -564,49 +596,9 @@ public class DefaultPlayer implements InGamePlayer {
 	}
 	
 	private boolean hasWings() {
-		ItemStack wings = kit.getWings().getItem(this);
-		ItemStack chestPlate = player.getInventory().getChestplate();
-		if (chestPlate != null && chestPlate.isSimilar(wings)) {
-			return true;
-		}
-		ItemStack slot = player.getInventory().getItem(1);
-		if (slot != null && slot.isSimilar(wings)) {
-			return true;
-		}
-		return false;
-	}
-	
-	private void updateStats() {
-		int i = 0;
-		for (SidebarLine line : Lists.reverse(lines)) {
-			String text = line.getText();
-			if (text.length() > 16) {
-				text = text.substring(0, 16);
-			}
-			setStatistic(i++, text);
-		}
-		while (i < ChatColor.values().length) {
-			setStatistic(i++, null);
-		}
-	}
-	
-	private void setStatistic(int index, String string) {
-		if (index >= ChatColor.values().length) {
-			return;
-		}
-		String name = ChatColor.values()[index].toString();
-		if (string != null) {
-			Score score = sb.getObjective(DisplaySlot.SIDEBAR).getScore(name);
-			score.setScore(index);
-			Team team = sb.getEntryTeam(name);
-			if (team == null) {
-				team = sb.registerNewTeam(name);
-				team.addEntry(name);
-			}
-			team.setPrefix(string);
-		} else {
-			sb.resetScores(name);
-		}
+		Wings wings = kit.getWings();
+		return wings.isItem(player.getInventory().getChestplate(), this) ||
+				wings.isItem(player.getInventory().getItem(1), this);
 	}
 	
 	private void displayReloadingTime() {
@@ -619,7 +611,7 @@ public class DefaultPlayer implements InGamePlayer {
 			}
 		}
 		if (item == null || item.getAmount() == 0) {
-			player.setExp(0.9999f);
+			hud.setExp(0.9999f);
 			return;
 		}
 		int ticks = item.getCooldown();
@@ -630,7 +622,7 @@ public class DefaultPlayer implements InGamePlayer {
 		} else {
 			amount = (float) (max - ticks) / (float) max;
 		}
-		player.setExp(amount);
+		hud.setExp(amount);
 		
 	}
 
@@ -643,11 +635,11 @@ public class DefaultPlayer implements InGamePlayer {
 	}
 
 	private void modifyFlight() {
-		Vector velocity = kit.getWings().applyFlightModifications(this);
-		if (Double.isNaN(velocity.length())) {
-			velocity = new Vector();
+		Vec3 velocity = kit.getWings().applyFlightModifications(this, flightVelocity.set(player.getVelocity()));
+		if (velocity.isNaN()) {
+			velocity.set(0, 0, 0);
 		}
-		player.setVelocity(velocity);
+		player.setVelocity(velocity.toVector(this.velocity));
 	}
 	
 	private void use() {
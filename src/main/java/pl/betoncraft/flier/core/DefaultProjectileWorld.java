@@ -0,0 +1,359 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+import pl.betoncraft.flier.api.Flier;
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.core.Attacker;
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.ProjectileWorld;
+import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.api.core.TargetIndex;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
+import pl.betoncraft.flier.util.Profiler;
+import pl.betoncraft.flier.util.Vec3;
+
+/**
+ * Default ProjectileWorld implementation. Bullets are stored in parallel
+ * arrays and all of them are moved in a single loop on each tick. Slots of
+ * finished bullets are reused by moving the last bullet in their place.
+ *
+ * @author Jakub Sapalski
+ */
+public class DefaultProjectileWorld implements ProjectileWorld, Tickable {
+	
+	private static final int INITIAL_CAPACITY = 64;
+	
+	private final Game game;
+	private final TargetIndex index;
+	
+	// bullets
+	private int count = 0;
+	private Shot[] shots = new Shot[INITIAL_CAPACITY];
+	private World[] worlds = new World[INITIAL_CAPACITY];
+	private double[] x = new double[INITIAL_CAPACITY];
+	private double[] y = new double[INITIAL_CAPACITY];
+	private double[] z = new double[INITIAL_CAPACITY];
+	private double[] dirX = new double[INITIAL_CAPACITY];
+	private double[] dirY = new double[INITIAL_CAPACITY];
+	private double[] dirZ = new double[INITIAL_CAPACITY];
+	private double[] speed = new double[INITIAL_CAPACITY];
+	private double[] range = new double[INITIAL_CAPACITY];
+	private double[] proximity = new double[INITIAL_CAPACITY];
+	
+	// block tracing state, next block to check and distances to its borders
+	private int[] blockX = new int[INITIAL_CAPACITY];
+	private int[] blockY = new int[INITIAL_CAPACITY];
+	private int[] blockZ = new int[INITIAL_CAPACITY];
+	private double[] borderX = new double[INITIAL_CAPACITY];
+	private double[] borderY = new double[INITIAL_CAPACITY];
+	private double[] borderZ = new double[INITIAL_CAPACITY];
+	
+	// targets which can be hit by the currently moved bullet
+	private InGamePlayer creator;
+	private final Predicate<Target> hittable = target -> target.isTargetable() && !target.equals(creator);
+	
+	// state of the currently moved bullet
+	private double endX, endY, endZ;
+	private double velX, velY, velZ;
+	private double currentSpeed;
+	private double squared;
+	private boolean early;
+	private final Vec3 hitPosition = new Vec3();
+
+	public DefaultProjectileWorld(Game game) {
+		this.game = game;
+		index = game.getTargetIndex();
+		game.getTicker().register(Phase.PROJECTILES, this);
+	}
+
+	@Override
+	public void launch(Shot shot, Location start, Vector direction, double speed, double proximity, double range) {
+		if (count == shots.length) {
+			grow();
+		}
+		double length = direction.length();
+		double dx = direction.getX() / length;
+		double dy = direction.getY() / length;
+		double dz = direction.getZ() / length;
+		int i = count++;
+		shots[i] = shot;
+		worlds[i] = start.getWorld();
+		x[i] = start.getX();
+		y[i] = start.getY();
+		z[i] = start.getZ();
+		dirX[i] = dx;
+		dirY[i] = dy;
+		dirZ[i] = dz;
+		this.speed[i] = speed;
+		this.range[i] = range;
+		this.proximity[i] = proximity;
+		blockX[i] = floor(x[i]);
+		blockY[i] = floor(y[i]);
+		blockZ[i] = floor(z[i]);
+		borderX[i] = border(x[i], blockX[i], dx);
+		borderY[i] = border(y[i], blockY[i], dy);
+		borderZ[i] = border(z[i], blockZ[i], dz);
+	}
+
+	@Override
+	public int getProjectileCount() {
+		return count;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(shots, 0, count, null);
+		Arrays.fill(worlds, 0, count, null);
+		count = 0;
+	}
+
+	@Override
+	public boolean tick() {
+		if (count == 0) {
+			return true;
+		}
+		long start = Profiler.start();
+		// iterating backwards, so bullets moved into freed slots were already
+		// handled and bullets launched in the meantime wait for the next tick
+		for (int i = count - 1; i >= 0; i--) {
+			// hit handling could have cleared this world
+			if (i >= count) {
+				continue;
+			}
+			boolean flying;
+			try {
+				flying = move(i);
+			} catch (RuntimeException e) {
+				// a single broken bullet must not stop all others
+				Flier.getInstance().getLogger().log(Level.WARNING,
+						String.format("Error while moving a bullet in '%s' game.", game.getID()), e);
+				flying = false;
+			}
+			if (!flying && i < count) {
+				remove(i);
+			}
+		}
+		creator = null;
+		Profiler.stop(game.getID(), Profiler.WORLD, "projectiles", start);
+		return true;
+	}
+	
+	/**
+	 * Moves the bullet by one tick.
+	 * 
+	 * @return whenever the bullet is still flying
+	 */
+	private boolean move(int i) {
+		World world = worlds[i];
+		Shot shot = shots[i];
+		double sx = x[i], sy = y[i], sz = z[i];
+		double dx = dirX[i], dy = dirY[i], dz = dirZ[i];
+		currentSpeed = speed[i];
+		squared = currentSpeed * currentSpeed;
+		velX = dx * currentSpeed;
+		velY = dy * currentSpeed;
+		velZ = dz * currentSpeed;
+		endX = sx + velX;
+		endY = sy + velY;
+		endZ = sz + velZ;
+		early = false;
+		
+		// terminate the bullet if it's going out of loaded chunks
+		// this prevents loading chunks from file to get block solidness
+		if (!world.isChunkLoaded(floor(endX) >> 4, floor(endZ) >> 4)) {
+			return false;
+		}
+		
+		// check for any solid blocks in the path
+		while (true) {
+			int bx = blockX[i], by = blockY[i], bz = blockZ[i];
+			nextBlock(i);
+			if (world.getBlockAt(bx, by, bz).getType().isSolid()) {
+				// found an obstacle, early end
+				earlyEnd(sx, sy, sz, bx, by, bz);
+				break;
+			} else if (distanceSquared(bx, by, bz, sx, sy, sz) > squared) {
+				// this block is out of current tick's range
+				// we'll continue from here in the next tick
+				break;
+			}
+		}
+		
+		// check targets in proximity of the bullet's path
+		// we're looking only for the closest target, but not the shooter
+		Attacker attacker = shot.getAttacker();
+		creator = attacker.getCreator();
+		Target target = index.getClosestOnPath(sx, sy, sz, dx, dy, dz, currentSpeed, proximity[i], hittable);
+		// hit closest target
+		if (target != null) {
+			target.getPosition(hitPosition);
+			earlyEnd(sx, sy, sz, hitPosition.getX(), hitPosition.getY(), hitPosition.getZ());
+			target.getGame().handleHit(target, attacker);
+			if (i >= count) {
+				return false;
+			}
+		}
+		
+		// spawn particles
+		int step = (int) (currentSpeed * shot.getDensity());
+		double stepX = velX / step, stepY = velY / step, stepZ = velZ / step;
+		for (int s = 0; s < step; s++) {
+			// this moves start so it becomes end,
+			// and can still be used on the next tick
+			sx += stepX;
+			sy += stepY;
+			sz += stepZ;
+			shot.spawnTrail(world, sx, sy, sz);
+		}
+		x[i] = sx;
+		y[i] = sy;
+		z[i] = sz;
+		
+		if (early) {
+			shot.spawnImpact(world, sx, sy, sz);
+			return false;
+		}
+		
+		// decrease range and quit if it's out
+		range[i] -= currentSpeed;
+		return range[i] > 0;
+	}
+
+	/**
+	 * Moves the end of the current bullet's path to the point on that path
+	 * closest to specified location.
+	 */
+	private void earlyEnd(double sx, double sy, double sz, double qx, double qy, double qz) {
+		double ux = endX - sx, uy = endY - sy, uz = endZ - sz;
+		double px = qx - sx, py = qy - sy, pz = qz - sz;
+		double t = (px * ux + py * uy + pz * uz) / (ux * ux + uy * uy + uz * uz);
+		velX = ux * t;
+		velY = uy * t;
+		velZ = uz * t;
+		endX = sx + velX;
+		endY = sy + velY;
+		endZ = sz + velZ;
+		squared = velX * velX + velY * velY + velZ * velZ;
+		currentSpeed = Math.sqrt(squared);
+		early = true;
+	}
+	
+	/**
+	 * Advances the block tracer of the bullet to the next block on its path.
+	 */
+	private void nextBlock(int i) {
+		double bx = borderX[i], by = borderY[i], bz = borderZ[i];
+		if (bx < by && bx < bz) {
+			blockX[i] += dirX[i] > 0 ? 1 : -1;
+			borderX[i] += 1 / Math.abs(dirX[i]);
+		} else if (by < bz) {
+			blockY[i] += dirY[i] > 0 ? 1 : -1;
+			borderY[i] += 1 / Math.abs(dirY[i]);
+		} else {
+			blockZ[i] += dirZ[i] > 0 ? 1 : -1;
+			borderZ[i] += 1 / Math.abs(dirZ[i]);
+		}
+	}
+	
+	/**
+	 * Distance along the direction from the coordinate to the border of its
+	 * block on a single axis.
+	 */
+	private static double border(double coord, int block, double dir) {
+		if (dir > 0) {
+			return (block + 1 - coord) / dir;
+		} else if (dir < 0) {
+			return (coord - block) / -dir;
+		} else {
+			return Double.POSITIVE_INFINITY;
+		}
+	}
+	
+	private static double distanceSquared(double ax, double ay, double az, double bx, double by, double bz) {
+		double dx = ax - bx, dy = ay - by, dz = az - bz;
+		return dx * dx + dy * dy + dz * dz;
+	}
+	
+	private static int floor(double value) {
+		int floor = (int) value;
+		return floor > value ? floor - 1 : floor;
+	}
+	
+	private void remove(int i) {
+		int last = --count;
+		if (i != last) {
+			shots[i] = shots[last];
+			worlds[i] = worlds[last];
+			x[i] = x[last];
+			y[i] = y[last];
+			z[i] = z[last];
+			dirX[i] = dirX[last];
+			dirY[i] = dirY[last];
+			dirZ[i] = dirZ[last];
+			speed[i] = speed[last];
+			range[i] = range[last];
+			proximity[i] = proximity[last];
+			blockX[i] = blockX[last];
+			blockY[i] = blockY[last];
+			blockZ[i] = blockZ[last];
+			borderX[i] = borderX[last];
+			borderY[i] = borderY[last];
+			borderZ[i] = borderZ[last];
+		}
+		shots[last] = null;
+		worlds[last] = null;
+	}
+	
+	private void grow() {
+		int size = shots.length * 2;
+		shots = Arrays.copyOf(shots, size);
+		worlds = Arrays.copyOf(worlds, size);
+		x = Arrays.copyOf(x, size);
+		y = Arrays.copyOf(y, size);
+		z = Arrays.copyOf(z, size);
+		dirX = Arrays.copyOf(dirX, size);
+		dirY = Arrays.copyOf(dirY, size);
+		dirZ = Arrays.copyOf(dirZ, size);
+		speed = Arrays.copyOf(speed, size);
+		range = Arrays.copyOf(range, size);
+		proximity = Arrays.copyOf(proximity, size);
+		blockX = Arrays.copyOf(blockX, size);
+		blockY = Arrays.copyOf(blockY, size);
+		blockZ = Arrays.copyOf(blockZ, size);
+		borderX = Arrays.copyOf(borderX, size);
+		borderY = Arrays.copyOf(borderY, size);
+		borderZ = Arrays.copyOf(borderZ, size);
+	}
+
+}
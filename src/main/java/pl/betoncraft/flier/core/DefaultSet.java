@@ -46,7 +46,7 @@ import pl.betoncraft.flier.util.ValueLoader;
  *
  * @author Jakub Sapalski
  */
-public class DefaultSet implements ItemSet {
+public class DefaultSet implements ItemSet, Cloneable {
 	
 	protected ValueLoader loader;
 
@@ -204,4 +204,23 @@ public class DefaultSet implements ItemSet {
 	public boolean refills() {
 		return refills;
 	}
+	
+	@Override
+	public ItemSet replicate(InGamePlayer owner) {
+		DefaultSet copy;
+		try {
+			copy = (DefaultSet) clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copy.engine = engine == null ? null : engine.replicate();
+		copy.wings = wings == null ? null : wings.replicate();
+		copy.items = new ArrayList<>(items.size());
+		for (UsableItem item : items) {
+			copy.items.add(item.replicate(owner));
+		}
+		copy.mods = new ArrayList<>(mods);
+		copy.modsRemoved = false;
+		return copy;
+	}
 }
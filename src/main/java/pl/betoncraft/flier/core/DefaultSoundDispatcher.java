@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.SoundDispatcher;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
+import pl.betoncraft.flier.util.ValueLoader;
+
+/**
+ * Default SoundDispatcher implementation. For each player it remembers the
+ * tick in which every sound type was last sent and how many sounds were sent
+ * in the current tick. Sounds of the same type are considered identical,
+ * regardless of their location, volume and pitch.
+ *
+ * @author Jakub Sapalski
+ */
+public class DefaultSoundDispatcher implements SoundDispatcher, Tickable {
+
+	private static final String PER_TICK = "sounds.per_tick";
+	private static final String INTERVAL = "sounds.interval";
+	private static final Sound[] SOUNDS = Sound.values();
+	// far enough in the past to never block a sound
+	private static final int NEVER = Integer.MIN_VALUE / 2;
+	// vanilla distance at which sounds with volume up to 1 can be heard
+	private static final double HEARING_DISTANCE = 16;
+	private static final int SWEEP_TICKS = 20;
+
+	private final Game game;
+	private final int perTick;
+	private final int interval;
+	private final Map<InGamePlayer, Recipient> recipients = new HashMap<>();
+
+	public DefaultSoundDispatcher(Game game, ValueLoader loader) throws LoadingException {
+		this.game = game;
+		perTick = loader.loadPositiveInt(PER_TICK, 8);
+		// sounds in the same tick are always merged
+		interval = Math.max(1, loader.loadNonNegativeInt(INTERVAL, 0));
+		game.getTicker().register(Phase.HUD, this);
+	}
+
+	/**
+	 * Sounds recently sent to a single player.
+	 */
+	private static class Recipient {
+
+		private final int[] last = new int[SOUNDS.length];
+		private int tick = NEVER;
+		private int count = 0;
+
+		private Recipient() {
+			Arrays.fill(last, NEVER);
+		}
+
+	}
+
+	@Override
+	public boolean tick() {
+		// forget players who left the game
+		if (game.getTicker().getCurrentTick() % SWEEP_TICKS == 0 && !recipients.isEmpty()) {
+			recipients.keySet().retainAll(game.getPlayers().values());
+		}
+		return true;
+	}
+
+	@Override
+	public void play(InGamePlayer player, Location location, Sound sound, float volume, float pitch) {
+		if (allow(player, sound)) {
+			player.getPlayer().playSound(location, sound, volume, pitch);
+		}
+	}
+
+	@Override
+	public void playToAll(Sound sound, float volume, float pitch) {
+		for (InGamePlayer data : game.getPlayers().values()) {
+			if (allow(data, sound)) {
+				Player player = data.getPlayer();
+				player.playSound(player.getLocation(), sound, volume, pitch);
+			}
+		}
+	}
+
+	@Override
+	public void playAround(Location location, Sound sound, float volume, float pitch) {
+		double distance = volume > 1 ? HEARING_DISTANCE * volume : HEARING_DISTANCE;
+		double squared = distance * distance;
+		for (InGamePlayer data : game.getPlayers().values()) {
+			Location loc = data.getPlayer().getLocation();
+			if (!location.getWorld().equals(loc.getWorld()) || loc.distanceSquared(location) > squared) {
+				continue;
+			}
+			if (allow(data, sound)) {
+				data.getPlayer().playSound(location, sound, volume, pitch);
+			}
+		}
+	}
+
+	/**
+	 * Checks the limits of the player and records the sound if it can be
+	 * played.
+	 * 
+	 * @return whenever the sound can be sent to the player
+	 */
+	private boolean allow(InGamePlayer player, Sound sound) {
+		Recipient recipient = recipients.get(player);
+		if (recipient == null) {
+			recipient = new Recipient();
+			recipients.put(player, recipient);
+		}
+		int now = game.getTicker().getCurrentTick();
+		if (recipient.tick != now) {
+			recipient.tick = now;
+			recipient.count = 0;
+		}
+		int index = sound.ordinal();
+		if (now - recipient.last[index] < interval || recipient.count >= perTick) {
+			return false;
+		}
+		recipient.last[index] = now;
+		recipient.count++;
+		return true;
+	}
+
+}
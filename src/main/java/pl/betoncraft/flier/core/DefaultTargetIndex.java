@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.api.core.TargetIndex;
+import pl.betoncraft.flier.util.Vec3;
+
+/**
+ * Default TargetIndex implementation, using a uniform grid. Target positions
+ * are copied into arrays, sorted by their cell and the cells are put into a
+ * small hash table. It's rebuilt lazily, at most once per tick, unless it's
+ * invalidated.
+ *
+ * @author Jakub Sapalski
+ */
+public class DefaultTargetIndex implements TargetIndex {
+	
+	// cells are 16 blocks wide
+	private static final int CELL_SHIFT = 4;
+	
+	private final Game game;
+	private int builtTick = -1;
+	
+	// snapshot of targets, sorted by cells
+	private int count = 0;
+	private Target[] targets = new Target[16];
+	private double[] xs = new double[16];
+	private double[] ys = new double[16];
+	private double[] zs = new double[16];
+	private long[] keys = new long[16];
+	
+	// cell hash table, pointing to ranges in the snapshot
+	private int mask = 0;
+	private int cells = 0;
+	private long[] cellKeys = new long[0];
+	private int[] cellFrom = new int[0];
+	private int[] cellTo = new int[0];
+	
+	// indexes of candidates found by the last search
+	private int found = 0;
+	private int[] candidates = new int[16];
+	
+	// location of the target being indexed
+	private final Vec3 position = new Vec3();
+
+	public DefaultTargetIndex(Game game) {
+		this.game = game;
+	}
+
+	@Override
+	public Target getClosestOnPath(double x, double y, double z, double dirX, double dirY, double dirZ,
+			double length, double proximity, Predicate<Target> filter) {
+		search(x - length, y - length, z - length, x + length, y + length, z + length);
+		double proximitySqr = proximity * proximity;
+		double smallest = length * length;
+		Target closest = null;
+		for (int c = 0; c < found; c++) {
+			int i = candidates[c];
+			// vector from start to the target
+			double lx = xs[i] - x;
+			double ly = ys[i] - y;
+			double lz = zs[i] - z;
+			double distance = lx * lx + ly * ly + lz * lz;
+			if (distance >= smallest) {
+				continue;
+			}
+			// squared distance from the path is the length of cross product
+			double cx = ly * dirZ - lz * dirY;
+			double cy = lz * dirX - lx * dirZ;
+			double cz = lx * dirY - ly * dirX;
+			if (cx * cx + cy * cy + cz * cz < proximitySqr && filter.test(targets[i])) {
+				smallest = distance;
+				closest = targets[i];
+			}
+		}
+		return closest;
+	}
+
+	@Override
+	public void getInRadius(double x, double y, double z, double radius, Collection<? super Target> result) {
+		search(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius);
+		double radiusSqr = radius * radius;
+		for (int c = 0; c < found; c++) {
+			int i = candidates[c];
+			if (distanceSquared(i, x, y, z) <= radiusSqr) {
+				result.add(targets[i]);
+			}
+		}
+	}
+
+	@Override
+	public List<Target> getNearest(double x, double y, double z, int k, double maxDistance,
+			Predicate<Target> filter) {
+		if (k <= 0) {
+			return Collections.emptyList();
+		}
+		search(x - maxDistance, y - maxDistance, z - maxDistance, x + maxDistance, y + maxDistance, z + maxDistance);
+		double maxSqr = maxDistance * maxDistance;
+		// insertion into a short sorted array, k is expected to be small
+		int size = 0;
+		int[] best = new int[Math.min(k, found)];
+		double[] distances = new double[best.length];
+		for (int c = 0; c < found; c++) {
+			int i = candidates[c];
+			double distance = distanceSquared(i, x, y, z);
+			if (distance > maxSqr || (size == best.length && distance >= distances[size - 1])) {
+				continue;
+			}
+			if (!filter.test(targets[i])) {
+				continue;
+			}
+			int pos = size < best.length ? size++ : size - 1;
+			while (pos > 0 && distances[pos - 1] > distance) {
+				best[pos] = best[pos - 1];
+				distances[pos] = distances[pos - 1];
+				pos--;
+			}
+			best[pos] = i;
+			distances[pos] = distance;
+		}
+		List<Target> list = new ArrayList<>(size);
+		for (int j = 0; j < size; j++) {
+			list.add(targets[best[j]]);
+		}
+		return list;
+	}
+
+	@Override
+	public Target getNearest(double x, double y, double z, double maxDistance, Predicate<Target> filter) {
+		search(x - maxDistance, y - maxDistance, z - maxDistance, x + maxDistance, y + maxDistance, z + maxDistance);
+		double smallest = maxDistance * maxDistance;
+		Target nearest = null;
+		for (int c = 0; c < found; c++) {
+			int i = candidates[c];
+			double distance = distanceSquared(i, x, y, z);
+			if (distance <= smallest && filter.test(targets[i])) {
+				smallest = distance;
+				nearest = targets[i];
+			}
+		}
+		return nearest;
+	}
+
+	@Override
+	public void invalidate() {
+		builtTick = -1;
+	}
+	
+	private double distanceSquared(int i, double x, double y, double z) {
+		double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+		return dx * dx + dy * dy + dz * dz;
+	}
+	
+	/**
+	 * Puts indexes of all targets in cells intersecting with the box into
+	 * candidates array.
+	 */
+	private void search(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		rebuild();
+		found = 0;
+		if (count == 0) {
+			return;
+		}
+		// visiting cells one by one only makes sense if there are fewer of them
+		// than there are filled cells, otherwise just check all targets
+		double volume = ((double) cell(maxX) - cell(minX) + 1) * ((double) cell(maxY) - cell(minY) + 1) *
+				((double) cell(maxZ) - cell(minZ) + 1);
+		if (volume > cells) {
+			for (int i = 0; i < count; i++) {
+				if (xs[i] >= minX && xs[i] <= maxX && ys[i] >= minY && ys[i] <= maxY &&
+						zs[i] >= minZ && zs[i] <= maxZ) {
+					candidates[found++] = i;
+				}
+			}
+			return;
+		}
+		int fromX = cell(minX), toX = cell(maxX);
+		int fromY = cell(minY), toY = cell(maxY);
+		int fromZ = cell(minZ), toZ = cell(maxZ);
+		for (int cx = fromX; cx <= toX; cx++) {
+			for (int cy = fromY; cy <= toY; cy++) {
+				for (int cz = fromZ; cz <= toZ; cz++) {
+					int slot = find(key(cx, cy, cz));
+					if (slot < 0) {
+						continue;
+					}
+					for (int i = cellFrom[slot]; i < cellTo[slot]; i++) {
+						candidates[found++] = i;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Copies positions of all targets and builds the grid, if it wasn't done
+	 * on this tick yet.
+	 */
+	private void rebuild() {
+		int tick = game.getTicker().getCurrentTick();
+		if (tick == builtTick) {
+			return;
+		}
+		builtTick = tick;
+		Arrays.fill(targets, 0, count, null);
+		int size = game.getTargets().size();
+		if (targets.length < size) {
+			int length = size * 2;
+			targets = new Target[length];
+			xs = new double[length];
+			ys = new double[length];
+			zs = new double[length];
+			keys = new long[length];
+			candidates = new int[length];
+		}
+		count = 0;
+		for (Target target : game.getTargets().values()) {
+			target.getPosition(position);
+			double x = position.getX(), y = position.getY(), z = position.getZ();
+			long key = key(cell(x), cell(y), cell(z));
+			// insertion sort by cell, there are not many targets
+			int pos = count++;
+			while (pos > 0 && keys[pos - 1] > key) {
+				targets[pos] = targets[pos - 1];
+				xs[pos] = xs[pos - 1];
+				ys[pos] = ys[pos - 1];
+				zs[pos] = zs[pos - 1];
+				keys[pos] = keys[pos - 1];
+				pos--;
+			}
+			targets[pos] = target;
+			xs[pos] = x;
+			ys[pos] = y;
+			zs[pos] = z;
+			keys[pos] = key;
+		}
+		// hash table with capacity of at least twice the amount of targets
+		int capacity = Integer.highestOneBit(Math.max(count, 4) * 2 - 1) << 1;
+		if (cellKeys.length < capacity) {
+			cellKeys = new long[capacity];
+			cellFrom = new int[capacity];
+			cellTo = new int[capacity];
+		} else {
+			capacity = cellKeys.length;
+			Arrays.fill(cellTo, 0);
+		}
+		mask = capacity - 1;
+		cells = 0;
+		for (int i = 0; i < count; i++) {
+			if (i > 0 && keys[i] == keys[i - 1]) {
+				continue;
+			}
+			int slot = hash(keys[i]);
+			while (cellTo[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			int end = i + 1;
+			while (end < count && keys[end] == keys[i]) {
+				end++;
+			}
+			cellKeys[slot] = keys[i];
+			cellFrom[slot] = i;
+			cellTo[slot] = end;
+			cells++;
+		}
+	}
+	
+	private int find(long key) {
+		int slot = hash(key);
+		while (cellTo[slot] != 0) {
+			if (cellKeys[slot] == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+	
+	private int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+	
+	private static int cell(double coord) {
+		int block = (int) Math.floor(coord);
+		return block >> CELL_SHIFT;
+	}
+	
+	private static long key(int cx, int cy, int cz) {
+		return ((long) (cx & 0x1FFFFF) << 42) | ((long) (cy & 0x1FFFFF) << 21) | (cz & 0x1FFFFF);
+	}
+
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.bukkit.scheduler.BukkitRunnable;
+
+import pl.betoncraft.flier.api.Flier;
+import pl.betoncraft.flier.api.core.Ticker;
+import pl.betoncraft.flier.util.Profiler;
+
+/**
+ * Default Ticker implementation, running all Tickables of a Game in a single
+ * scheduled task.
+ *
+ * @author Jakub Sapalski
+ */
+public class DefaultTicker extends BukkitRunnable implements Ticker {
+	
+	private static final Phase[] PHASES = Phase.values();
+	private static final String[] PHASE_NAMES = new String[PHASES.length];
+	static {
+		for (int i = 0; i < PHASES.length; i++) {
+			PHASE_NAMES[i] = PHASES[i].name().toLowerCase();
+		}
+	}
+	private static final String TICK_WARNING = "tick_warning";
+	private static final int WARNING_INTERVAL = 20 * 30;
+	
+	private final String owner;
+	private final long warningNanos;
+	private final com.sun.management.ThreadMXBean allocations;
+	private int lastWarning = -WARNING_INTERVAL;
+	private long lastDuration = 0;
+	private long lastAllocated = 0;
+	private List<List<Tickable>> tickables = createLists();
+	private List<List<Tickable>> pending = createLists();
+	private int currentTick = 0;
+	private boolean stopped = false;
+	
+	/**
+	 * Creates a new Ticker. Tickables can be registered right away, but they
+	 * won't be called before the Ticker is started.
+	 * 
+	 * @param owner
+	 *            name of the owner of this Ticker, used in error messages
+	 */
+	public DefaultTicker(String owner) {
+		this.owner = owner;
+		warningNanos = Flier.getInstance().getConfig().getLong(TICK_WARNING) * 1000000;
+		// allocation counting is available only on HotSpot-based JVMs
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean &&
+				((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+			allocations = (com.sun.management.ThreadMXBean) bean;
+		} else {
+			allocations = null;
+		}
+	}
+	
+	/**
+	 * Starts calling registered Tickables on every tick.
+	 */
+	public void start() {
+		runTaskTimer(Flier.getInstance(), 1, 1);
+	}
+	
+	private static List<List<Tickable>> createLists() {
+		List<List<Tickable>> lists = new ArrayList<>(PHASES.length);
+		for (int i = 0; i < PHASES.length; i++) {
+			lists.add(new ArrayList<>());
+		}
+		return lists;
+	}
+
+	@Override
+	public void run() {
+		long start = System.nanoTime();
+		long allocated = allocated();
+		runPhases();
+		if (stopped) {
+			return;
+		}
+		lastDuration = System.nanoTime() - start;
+		lastAllocated = allocated() - allocated;
+		if (warningNanos > 0 && lastDuration > warningNanos && currentTick - lastWarning >= WARNING_INTERVAL) {
+			lastWarning = currentTick;
+			Flier.getInstance().getLogger().warning(String.format(
+					"Tick %d in '%s' took %.2f ms and allocated %d kB, running %s.", currentTick, owner,
+					lastDuration / 1000000.0, lastAllocated / 1024, describe()));
+		}
+		currentTick++;
+	}
+	
+	private long allocated() {
+		return allocations == null ? 0 : allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	private String describe() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < PHASES.length; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(tickables.get(i).size()).append(' ').append(PHASE_NAMES[i]);
+		}
+		return builder.toString();
+	}
+	
+	private void runPhases() {
+		// Tickables registered since the last tick join their phases now,
+		// so the lists are never modified while being iterated
+		for (int i = 0; i < PHASES.length; i++) {
+			List<Tickable> waiting = pending.get(i);
+			if (!waiting.isEmpty()) {
+				tickables.get(i).addAll(waiting);
+				waiting.clear();
+			}
+		}
+		for (int i = 0; i < PHASES.length; i++) {
+			long start = Profiler.start();
+			List<Tickable> list = tickables.get(i);
+			int size = list.size();
+			int kept = 0;
+			for (int j = 0; j < size; j++) {
+				Tickable tickable = list.get(j);
+				boolean keep = tick(tickable);
+				// one of the Tickables could have stopped the game
+				if (stopped) {
+					return;
+				}
+				if (keep) {
+					list.set(kept++, tickable);
+				}
+			}
+			list.subList(kept, size).clear();
+			Profiler.stop(owner, Profiler.PHASE, PHASE_NAMES[i], start);
+		}
+	}
+	
+	private boolean tick(Tickable tickable) {
+		try {
+			return tickable.tick();
+		} catch (RuntimeException e) {
+			Flier.getInstance().getLogger().log(Level.WARNING,
+					String.format("Error while ticking in '%s', removing the faulty element.", owner), e);
+			return false;
+		}
+	}
+
+	@Override
+	public void register(Phase phase, Tickable tickable) {
+		if (stopped) {
+			return;
+		}
+		pending.get(phase.ordinal()).add(tickable);
+	}
+
+	@Override
+	public int getCurrentTick() {
+		return currentTick;
+	}
+	
+	@Override
+	public long getLastTickDuration() {
+		return lastDuration;
+	}
+	
+	@Override
+	public long getLastTickAllocations() {
+		return lastAllocated;
+	}
+
+	@Override
+	public void stop() {
+		if (stopped) {
+			return;
+		}
+		stopped = true;
+		try {
+			cancel();
+		} catch (IllegalStateException e) {
+			// the Ticker was never started
+		}
+		// drop references instead of clearing, so it doesn't depend on the amount
+		tickables = createLists();
+		pending = createLists();
+	}
+
+}
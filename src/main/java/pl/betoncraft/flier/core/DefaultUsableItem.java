@@ -33,13 +33,16 @@ import org.bukkit.configuration.ConfigurationSection;
 import pl.betoncraft.flier.api.content.Action;
 import pl.betoncraft.flier.api.content.Activator;
 import pl.betoncraft.flier.api.core.InGamePlayer;
-import pl.betoncraft.flier.api.core.Item;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.Modification.ModificationTarget;
+import pl.betoncraft.flier.api.core.Owner;
 import pl.betoncraft.flier.api.core.UsableItem;
 import pl.betoncraft.flier.api.core.Usage;
 import pl.betoncraft.flier.event.FlierUseEvent;
+import pl.betoncraft.flier.util.Fingerprint;
+import pl.betoncraft.flier.util.ModificationManager;
+import pl.betoncraft.flier.util.Profiler;
 
 /**
  * Default implementation of UsableItem.
@@ -50,12 +53,20 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 	
 	private static final String AMMO = "ammo";
 	private static final String CONSUMABLE = "consumable";
+	private static final String AMOUNT = "amount";
+	private static final String MAX_AMOUNT = "max_amount";
+	private static final String MIN_AMOUNT = "min_amount";
+	private static final int AMMO_SLOT = ModificationManager.slot(AMMO);
+	private static final int CONSUMABLE_SLOT = ModificationManager.slot(CONSUMABLE);
+	private static final int AMOUNT_SLOT = ModificationManager.slot(AMOUNT);
+	private static final int MAX_AMOUNT_SLOT = ModificationManager.slot(MAX_AMOUNT);
+	private static final int MIN_AMOUNT_SLOT = ModificationManager.slot(MIN_AMOUNT);
 
-	protected final InGamePlayer owner;
+	protected InGamePlayer owner;
 	protected final int startingCooldown;
 	protected final boolean consumable;
 	protected final int maxAmmo;
-	protected final List<Usage> usages = new ArrayList<>();
+	protected List<Usage> usages = new ArrayList<>();
 	protected final int defAmount;
 	protected final int maxAmount;
 	protected final int minAmount;
@@ -72,9 +83,9 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 		consumable = loader.loadBoolean(CONSUMABLE, false);
 		maxAmmo = loader.loadNonNegativeInt(AMMO, 0);
 		ammo = maxAmmo;
-		defAmount = loader.loadPositiveInt("amount", 1);
-		maxAmount = loader.loadNonNegativeInt("max_amount", 0);
-		minAmount = loader.loadNonNegativeInt("min_amount", 0);
+		defAmount = loader.loadPositiveInt(AMOUNT, 1);
+		maxAmount = loader.loadNonNegativeInt(MAX_AMOUNT, 0);
+		minAmount = loader.loadNonNegativeInt(MIN_AMOUNT, 0);
 		amount = defAmount;
 		ConfigurationSection usagesSection = section.getConfigurationSection("usages");
 		if (usagesSection != null) for (String id : usagesSection.getKeys(false)) {
@@ -85,6 +96,10 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 				throw (LoadingException) new LoadingException(String.format("Error in '%s' usage.", id)).initCause(e);
 			}
 		}
+		// usages refer to other definitions
+		for (Usage usage : usages) {
+			fingerprint = Fingerprint.mix(fingerprint, usage.getFingerprint());
+		}
 	}
 
 	@Override
@@ -104,12 +119,12 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 	
 	@Override
 	public boolean isConsumable() {
-		return modMan.modifyBoolean(CONSUMABLE, consumable);
+		return modMan.modifyBoolean(CONSUMABLE_SLOT, consumable);
 	}
 
 	@Override
 	public int getMaxAmmo() {
-		return (int) modMan.modifyNumber(AMMO, maxAmmo);
+		return (int) modMan.modifyNumber(AMMO_SLOT, maxAmmo);
 	}
 
 	@Override
@@ -155,17 +170,17 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 	
 	@Override
 	public int getMaxAmount() {
-		return (int) modMan.modifyNumber("max_amount", maxAmount);
+		return (int) modMan.modifyNumber(MAX_AMOUNT_SLOT, maxAmount);
 	}
 	
 	@Override
 	public int getMinAmount() {
-		return (int) modMan.modifyNumber("min_amount", minAmount);
+		return (int) modMan.modifyNumber(MIN_AMOUNT_SLOT, minAmount);
 	}
 	
 	@Override
 	public int getDefAmount() {
-		return (int) modMan.modifyNumber("amount", defAmount);
+		return (int) modMan.modifyNumber(AMOUNT_SLOT, defAmount);
 	}
 
 	@Override
@@ -179,13 +194,14 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 			time--;
 		}
 		boolean used = false;
+		long start = Profiler.start();
 		if (isReady()) {
 			usages:
 			for (Usage usage : usages) {
-				if (!usage.canUse(owner)) {
+				if (getMaxAmmo() > 0 && ammo - usage.getAmmoUse() < 0) {
 					continue;
 				}
-				if (getMaxAmmo() > 0 && ammo - usage.getAmmoUse() < 0) {
+				if (!usage.canUse(owner)) {
 					continue;
 				}
 				for (Activator activator : usage.getActivators()) {
@@ -206,24 +222,16 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 				}
 				setAmmo(ammo - usage.getAmmoUse());
 				for (Action action : usage.getActions()) {
+					long actionStart = Profiler.start();
 					action.act(owner, owner);
+					Profiler.stop(owner.getGame().getID(), Profiler.ACTION, action.getID(), actionStart);
 				}
 			}
 		}
+		Profiler.stop(owner.getGame().getID(), Profiler.ITEM, id, start);
 		return used;
 	}
 	
-	@Override
-	public boolean isSimilar(Item item) {
-		if (item instanceof DefaultUsableItem && super.isSimilar(item)) {
-			DefaultUsableItem usable = (DefaultUsableItem) item;
-			return usable.consumable == consumable &&
-					usable.maxAmmo == maxAmmo &&
-					usable.usages.stream().allMatch(thatUsage -> usages.stream().anyMatch(thisUsage -> thatUsage.equals(thisUsage)));
-		}
-		return false;
-	}
-	
 	@Override
 	public void refill() {
 		ammo = getMaxAmmo();
@@ -263,4 +271,19 @@ public class DefaultUsableItem extends DefaultItem implements UsableItem {
 	public void clearModifications() {
 		modMan.clear();
 	}
+	
+	@Override
+	public UsableItem replicate(InGamePlayer owner) {
+		DefaultUsableItem copy = (DefaultUsableItem) copy();
+		copy.owner = owner;
+		copy.amount = defAmount;
+		copy.ammo = maxAmmo;
+		copy.whole = copy.time = startingCooldown;
+		Optional<Owner> itemOwner = Optional.of(new DefaultOwner(owner, copy));
+		copy.usages = new ArrayList<>(usages.size());
+		for (Usage usage : usages) {
+			copy.usages.add(usage.replicate(itemOwner));
+		}
+		return copy;
+	}
 }
@@ -37,8 +37,8 @@ import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Owner;
 import pl.betoncraft.flier.api.core.Usage;
+import pl.betoncraft.flier.util.Fingerprint;
 import pl.betoncraft.flier.util.LangManager;
-import pl.betoncraft.flier.util.Position;
 import pl.betoncraft.flier.util.ValueLoader;
 
 /**
@@ -46,15 +46,17 @@ import pl.betoncraft.flier.util.ValueLoader;
  *
  * @author Jakub Sapalski
  */
-public class DefaultUsage implements Usage {
+public class DefaultUsage implements Usage, Cloneable {
 	
 	protected final String id;
 	protected final String name;
 	protected final ValueLoader loader;
 	
-	protected int cooldown;
-	protected int ammoUse;
+	protected final int cooldown;
+	protected final int ammoUse;
 	protected final Usage.Where where;
+	protected final int positions;
+	protected final long fingerprint;
 	protected List<Activator> activators = new ArrayList<>();
 	protected List<Action> actions = new ArrayList<>();
 	
@@ -65,6 +67,7 @@ public class DefaultUsage implements Usage {
 		cooldown = loader.loadNonNegativeInt("cooldown", 0);
 		ammoUse = loader.loadInt("ammo_use", 0);
 		where = loader.loadEnum("where", Usage.Where.EVERYWHERE, Usage.Where.class);
+		positions = PlayerStateSnapshot.positionMask(where);
 		Flier flier = Flier.getInstance();
 		for (String activator : section.getStringList("activators")) {
 			activators.add(flier.getActivator(activator, owner));
@@ -72,6 +75,14 @@ public class DefaultUsage implements Usage {
 		for (String action : section.getStringList("actions")) {
 			actions.add(flier.getAction(action, owner));
 		}
+		long hash = Fingerprint.of(section);
+		for (Activator activator : activators) {
+			hash = Fingerprint.mix(hash, activator.getFingerprint());
+		}
+		for (Action action : actions) {
+			hash = Fingerprint.mix(hash, action.getFingerprint());
+		}
+		fingerprint = hash;
 	}
 
 	@Override
@@ -111,34 +122,44 @@ public class DefaultUsage implements Usage {
 
 	@Override
 	public boolean canUse(InGamePlayer player) {
-		return Position.check(player.getPlayer(), where);
+		return player.getState().isIn(positions);
+	}
+
+	@Override
+	public long getFingerprint() {
+		return fingerprint;
 	}
 
 	@Override
 	public boolean equals(Object usage) {
 		if (usage instanceof DefaultUsage) {
-			DefaultUsage def = (DefaultUsage) usage;
-			boolean actionsMatch = true;
-			boolean activatorsMatch = true;
-			if (def.actions.size() == actions.size()) for (int i = 0; i < actions.size(); i++) {
-				if (!actions.get(i).equals(def.actions.get(i))) {
-					actionsMatch = false;
-					break;
-				}
-			}
-			if (def.activators.size() == activators.size()) for (int i = 0; i < activators.size(); i++) {
-				if (!activators.get(i).equals(def.activators.get(i))) {
-					activatorsMatch = false;
-					break;
-				}
-			}
-			return def.cooldown == cooldown &&
-					def.ammoUse == ammoUse &&
-					actionsMatch &&
-					activatorsMatch;
-					
+			return ((DefaultUsage) usage).fingerprint == fingerprint;
 		}
 		return false;
 	}
 
+	@Override
+	public int hashCode() {
+		return Long.hashCode(fingerprint);
+	}
+
+	@Override
+	public Usage replicate(Optional<Owner> owner) {
+		DefaultUsage copy;
+		try {
+			copy = (DefaultUsage) clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copy.activators = new ArrayList<>(activators.size());
+		for (Activator activator : activators) {
+			copy.activators.add(activator.replicate(owner));
+		}
+		copy.actions = new ArrayList<>(actions.size());
+		for (Action action : actions) {
+			copy.actions.add(action.replicate(owner));
+		}
+		return copy;
+	}
+
 }
@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.entity.EntityRegainHealthEvent;
+import org.bukkit.event.entity.FoodLevelChangeEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerPickupItemEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+
+import pl.betoncraft.flier.api.Flier;
+import pl.betoncraft.flier.api.content.Game;
+import pl.betoncraft.flier.api.core.Attacker;
+import pl.betoncraft.flier.game.DefaultGame;
+import pl.betoncraft.flier.lobby.DefaultLobby;
+
+/**
+ * Receives Bukkit events for all Games and Lobbies and passes each of them only
+ * to the Game or Lobby which owns the involved entity. Lobbies own their
+ * players, Games own their Targets.
+ *
+ * @author Jakub Sapalski
+ */
+public class EventRouter implements Listener {
+
+	private static final Map<UUID, DefaultLobby> lobbies = new HashMap<>();
+	private static final Map<UUID, DefaultGame> games = new HashMap<>();
+
+	private static EventRouter router;
+
+	private EventRouter() {}
+
+	/**
+	 * Registers the router as a listener.
+	 */
+	public static void start() {
+		if (router == null) {
+			router = new EventRouter();
+			Bukkit.getPluginManager().registerEvents(router, Flier.getInstance());
+		}
+	}
+
+	/**
+	 * Routes events of the player to the Lobby.
+	 * 
+	 * @param uuid
+	 *            UUID of the player
+	 * @param lobby
+	 *            the Lobby with this player
+	 */
+	public static void addPlayer(UUID uuid, DefaultLobby lobby) {
+		lobbies.put(uuid, lobby);
+	}
+
+	/**
+	 * Stops routing events of the player to the Lobby.
+	 * 
+	 * @param uuid
+	 *            UUID of the player
+	 */
+	public static void removePlayer(UUID uuid) {
+		lobbies.remove(uuid);
+	}
+
+	/**
+	 * Routes events of the Target's entity to the Game.
+	 * 
+	 * @param uuid
+	 *            UUID of the Target's entity
+	 * @param game
+	 *            the Game with this Target
+	 */
+	public static void addTarget(UUID uuid, Game game) {
+		if (game instanceof DefaultGame) {
+			games.put(uuid, (DefaultGame) game);
+		}
+	}
+
+	/**
+	 * Stops routing events of the Target's entity.
+	 * 
+	 * @param uuid
+	 *            UUID of the Target's entity
+	 */
+	public static void removeTarget(UUID uuid) {
+		games.remove(uuid);
+	}
+
+	/**
+	 * Stops routing events of all Targets of the Game.
+	 * 
+	 * @param game
+	 *            the Game
+	 */
+	public static void removeGame(Game game) {
+		games.values().removeIf(g -> g == game);
+	}
+
+	@EventHandler(priority = EventPriority.LOW)
+	public void onEarlyInteract(PlayerInteractEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onClick(event);
+		}
+	}
+
+	@EventHandler(priority = EventPriority.HIGH)
+	public void onInteract(PlayerInteractEvent event) {
+		UUID uuid = event.getPlayer().getUniqueId();
+		DefaultLobby lobby = lobbies.get(uuid);
+		if (lobby != null) {
+			lobby.onInteract(event);
+		}
+		DefaultGame game = games.get(uuid);
+		if (game != null) {
+			game.onClick(event);
+		}
+	}
+
+	@EventHandler
+	public void onLobbyDamage(EntityDamageEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getEntity().getUniqueId());
+		if (lobby != null) {
+			lobby.onDamage(event);
+		}
+		if (event instanceof EntityDamageByEntityEvent) {
+			DefaultLobby other = lobbies.get(((EntityDamageByEntityEvent) event).getDamager().getUniqueId());
+			if (other != null && other != lobby) {
+				other.onDamage(event);
+			}
+		}
+	}
+
+	@EventHandler(priority = EventPriority.HIGHEST)
+	public void onGameDamage(EntityDamageEvent event) {
+		DefaultGame game = games.get(event.getEntity().getUniqueId());
+		if (game != null) {
+			game.onDamage(event);
+		}
+		if (event instanceof EntityDamageByEntityEvent) {
+			DefaultGame other = games.get(((EntityDamageByEntityEvent) event).getDamager().getUniqueId());
+			if (other != null && other != game) {
+				other.onDamage(event);
+			}
+		}
+	}
+
+	@EventHandler
+	public void onBlockExplode(EntityExplodeEvent event) {
+		// Flier explosions don't destroy blocks
+		if (Attacker.getAttacker(event.getEntity()) != null) {
+			event.blockList().clear();
+		}
+	}
+
+	@EventHandler
+	public void onInvInteract(InventoryClickEvent event) {
+		DefaultGame game = games.get(event.getWhoClicked().getUniqueId());
+		if (game != null) {
+			game.onInvInteract(event);
+		}
+	}
+
+	@EventHandler
+	public void onLeave(PlayerQuitEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onLeave(event);
+		}
+	}
+
+	@EventHandler
+	public void onItemFrame(PlayerInteractEntityEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onItemFrame(event);
+		}
+	}
+
+	@EventHandler
+	public void onDrop(PlayerDropItemEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onDrop(event);
+		}
+	}
+
+	@EventHandler
+	public void onPickup(PlayerPickupItemEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onPickup(event);
+		}
+	}
+
+	@EventHandler
+	public void onSwap(PlayerSwapHandItemsEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onSwap(event);
+		}
+	}
+
+	@EventHandler
+	public void onPlace(BlockPlaceEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onPlace(event);
+		}
+	}
+
+	@EventHandler
+	public void onBreak(BlockBreakEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getPlayer().getUniqueId());
+		if (lobby != null) {
+			lobby.onBreak(event);
+		}
+	}
+
+	@EventHandler
+	public void onRegen(EntityRegainHealthEvent event) {
+		Entity entity = event.getEntity();
+		if (entity instanceof Player) {
+			DefaultLobby lobby = lobbies.get(entity.getUniqueId());
+			if (lobby != null) {
+				lobby.onRegen(event);
+			}
+		}
+	}
+
+	@EventHandler
+	public void onHunger(FoodLevelChangeEvent event) {
+		DefaultLobby lobby = lobbies.get(event.getEntity().getUniqueId());
+		if (lobby != null) {
+			lobby.onHunger(event);
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.List;
+
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import pl.betoncraft.flier.api.core.FancyStuffWrapper;
+import pl.betoncraft.flier.api.core.SidebarLine;
+
+/**
+ * Displays the sidebar, the action bar and the experience bar of a player. It
+ * remembers what was last sent and updates only what has changed, so the
+ * client receives a packet only when something is different.
+ *
+ * @author Jakub Sapalski
+ */
+public class Hud {
+	
+	private static final ChatColor[] COLORS = ChatColor.values();
+	private static final int MAX_LENGTH = 16;
+	// the client hides the action bar after a few seconds, so it's resent
+	private static final int ACTION_BAR_REFRESH = 40;
+	
+	private final Player player;
+	private final Scoreboard sb;
+	private final Objective objective;
+	private final FancyStuffWrapper fancyStuff;
+	
+	private final SidebarLine[] slotLines = new SidebarLine[COLORS.length];
+	private final String[] slotTexts = new String[COLORS.length];
+	private String actionBar = null;
+	private int actionBarAge = 0;
+	private int tick = 0;
+	
+	public Hud(Player player, Scoreboard sb, FancyStuffWrapper fancyStuff) {
+		this.player = player;
+		this.sb = sb;
+		this.fancyStuff = fancyStuff;
+		objective = sb.registerNewObjective("stats", "dummy");
+		objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+		objective.setDisplayName("Stats");
+	}
+	
+	/**
+	 * Refreshes the sidebar lines which are due, as specified by their
+	 * intervals. Should be called every tick.
+	 * 
+	 * @param lines
+	 *            lines of the sidebar, from top to bottom
+	 */
+	public void updateSidebar(List<SidebarLine> lines) {
+		int index = lines.size() - 1;
+		for (SidebarLine line : lines) {
+			if (index < slotLines.length) {
+				boolean moved = slotLines[index] != line;
+				int interval = Math.max(1, line.getInterval());
+				if (moved || tick % interval == 0) {
+					slotLines[index] = line;
+					String text = line.getText();
+					if (text.length() > MAX_LENGTH) {
+						text = text.substring(0, MAX_LENGTH);
+					}
+					setSlot(index, text);
+				}
+			}
+			index--;
+		}
+		for (int i = lines.size(); i < slotLines.length; i++) {
+			slotLines[i] = null;
+			setSlot(i, null);
+		}
+		tick++;
+	}
+	
+	private void setSlot(int index, String text) {
+		String last = slotTexts[index];
+		if (text == null ? last == null : text.equals(last)) {
+			return;
+		}
+		String name = COLORS[index].toString();
+		if (text == null) {
+			sb.resetScores(name);
+		} else {
+			if (last == null) {
+				objective.getScore(name).setScore(index);
+			}
+			Team team = sb.getEntryTeam(name);
+			if (team == null) {
+				team = sb.registerNewTeam(name);
+				team.addEntry(name);
+			}
+			team.setPrefix(text);
+		}
+		slotTexts[index] = text;
+	}
+	
+	/**
+	 * Displays the text on the action bar if it's different than the last
+	 * one or the last one could have faded already.
+	 * 
+	 * @param text
+	 *            the text to display
+	 * @param elapsed
+	 *            ticks elapsed since the last call
+	 */
+	public void setActionBar(String text, int elapsed) {
+		if (!fancyStuff.hasActionBarHandler()) {
+			return;
+		}
+		actionBarAge += elapsed;
+		if (text.equals(actionBar) && (text.isEmpty() || actionBarAge < ACTION_BAR_REFRESH)) {
+			return;
+		}
+		fancyStuff.sendActionBar(player, text);
+		actionBar = text;
+		actionBarAge = 0;
+	}
+	
+	/**
+	 * Sets the experience bar if the value has changed. It's compared with
+	 * the player's current value, since it can be reset by other things, like
+	 * clearing the player or dying.
+	 * 
+	 * @param exp
+	 *            the progress of the experience bar, between 0 and 1
+	 */
+	public void setExp(float exp) {
+		if (player.getExp() != exp) {
+			player.setExp(exp);
+		}
+	}
+
+}
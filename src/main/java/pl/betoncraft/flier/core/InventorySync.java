@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.BitSet;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.Item;
+import pl.betoncraft.flier.api.core.Kit;
+import pl.betoncraft.flier.api.core.UsableItem;
+
+/**
+ * Synchronizes the player's inventory with his Kit. It remembers what was
+ * written to each slot during the last synchronization and writes only the
+ * slots which are different now, so the client doesn't receive the whole
+ * inventory on every change. Stacks of unchanged items are reused.
+ *
+ * @author Jakub Sapalski
+ */
+public class InventorySync {
+
+	// slots as numbered by PlayerInventory
+	private static final int STORAGE = 36;
+	private static final int BOOTS = 36;
+	private static final int LEGGINGS = 37;
+	private static final int CHESTPLATE = 38;
+	private static final int HELMET = 39;
+	private static final int OFF_HAND = 40;
+	private static final int SIZE = 41;
+	// items without a slot are placed in the main inventory, not the hotbar
+	private static final int FIRST_FREE = 9;
+
+	// the layout of the Kit being synchronized
+	private final Item[] layout = new Item[SIZE];
+	private final int[] amounts = new int[SIZE];
+	private final BitSet occupied = new BitSet(STORAGE);
+
+	// what was written during the last synchronization
+	private final Item[] syncedItems = new Item[SIZE];
+	private final ItemStack[] syncedStacks = new ItemStack[SIZE];
+
+	/**
+	 * Writes the Kit into the player's inventory.
+	 * 
+	 * @param player
+	 *            the player owning the inventory
+	 * @param kit
+	 *            the Kit to display
+	 */
+	public void sync(InGamePlayer player, Kit kit) {
+		occupied.clear();
+		for (int i = 0; i < layout.length; i++) {
+			layout[i] = null;
+			amounts[i] = 0;
+		}
+		if (kit.getWings() != null) {
+			put(CHESTPLATE, kit.getWings(), 1);
+		}
+		if (kit.getEngine() != null) {
+			put(OFF_HAND, kit.getEngine(), 1);
+		}
+		// items with their own slots go first, so others can't take them;
+		// armor and off hand slots can be used too, replacing wings or engine
+		for (UsableItem item : kit.getItems()) {
+			int slot = item.slot();
+			if (slot >= 0 && slot < SIZE) {
+				put(slot, item, item.getAmount());
+			}
+		}
+		for (UsableItem item : kit.getItems()) {
+			if (item.slot() < 0) {
+				int free = occupied.nextClearBit(FIRST_FREE);
+				if (free >= STORAGE) {
+					// no more space
+					break;
+				}
+				put(free, item, item.getAmount());
+			}
+		}
+		// write the differences, all armor slots included, so nothing is
+		// left from the previous Kit
+		PlayerInventory inv = player.getPlayer().getInventory();
+		for (int i = 0; i < layout.length; i++) {
+			update(inv, player, i);
+		}
+		// slots outside of the inventory are passed to it as they are
+		for (UsableItem item : kit.getItems()) {
+			if (item.slot() >= SIZE) {
+				ItemStack stack = item.getItem(player);
+				stack.setAmount(item.getAmount());
+				inv.setItem(item.slot(), stack);
+			}
+		}
+	}
+
+	private void put(int slot, Item item, int amount) {
+		layout[slot] = item;
+		amounts[slot] = amount;
+		if (slot < STORAGE) {
+			occupied.set(slot);
+		}
+	}
+
+	/**
+	 * Writes the slot if its content differs from the layout.
+	 */
+	private void update(PlayerInventory inv, InGamePlayer player, int slot) {
+		Item item = layout[slot];
+		int amount = amounts[slot];
+		ItemStack current = get(inv, slot);
+		boolean empty = current == null || current.getType() == Material.AIR;
+		if (item == null) {
+			if (!empty) {
+				set(inv, slot, null);
+			}
+			syncedItems[slot] = null;
+			syncedStacks[slot] = null;
+			return;
+		}
+		ItemStack stack = syncedStacks[slot];
+		if (syncedItems[slot] == item && stack != null) {
+			// the inventory can be changed by other things, like using items,
+			// so it's checked cheaply without comparing the item meta
+			if (!empty && current.getType() == stack.getType() && current.getAmount() == amount) {
+				return;
+			}
+			// same item, the stack can be reused
+			stack.setAmount(amount);
+		} else {
+			stack = item.getItem(player);
+			stack.setAmount(amount);
+			syncedItems[slot] = item;
+			syncedStacks[slot] = stack;
+		}
+		set(inv, slot, stack);
+	}
+
+	private ItemStack get(PlayerInventory inv, int slot) {
+		switch (slot) {
+		case BOOTS:
+			return inv.getBoots();
+		case LEGGINGS:
+			return inv.getLeggings();
+		case CHESTPLATE:
+			return inv.getChestplate();
+		case HELMET:
+			return inv.getHelmet();
+		case OFF_HAND:
+			return inv.getItemInOffHand();
+		default:
+			return inv.getItem(slot);
+		}
+	}
+
+	private void set(PlayerInventory inv, int slot, ItemStack stack) {
+		switch (slot) {
+		case BOOTS:
+			inv.setBoots(stack);
+			break;
+		case LEGGINGS:
+			inv.setLeggings(stack);
+			break;
+		case CHESTPLATE:
+			inv.setChestplate(stack);
+			break;
+		case HELMET:
+			inv.setHelmet(stack);
+			break;
+		case OFF_HAND:
+			inv.setItemInOffHand(stack);
+			break;
+		default:
+			inv.setItem(slot, stack);
+		}
+	}
+
+}
@@ -37,29 +37,211 @@ import pl.betoncraft.flier.api.content.Game;
  * @author Jakub Sapalski
  */
 public abstract class MatchingEvent extends Event {
-	
+
+	/**
+	 * Kind of value stored in an Attribute.
+	 */
+	public enum Kind {
+		STRING, NUMBER, BOOLEAN
+	}
+
+	/**
+	 * Attribute of the MatchingEvent which can be matched by Effects. Player
+	 * attributes can be prefixed to refer to the other player in the event.
+	 */
+	public enum Attribute {
+		// player attributes
+		CLASS(Kind.STRING, true),
+		COLOR(Kind.STRING, true),
+		MONEY(Kind.NUMBER, true),
+		ENGINE(Kind.STRING, true),
+		FUEL(Kind.NUMBER, true),
+		FUEL_RATIO(Kind.NUMBER, true),
+		WINGS(Kind.STRING, true),
+		WINGS_HEALTH(Kind.NUMBER, true),
+		WINGS_HEALTH_RATIO(Kind.NUMBER, true),
+		// event attributes
+		ATTITUDE(Kind.STRING, false),
+		ITEM(Kind.STRING, false),
+		AMMO(Kind.NUMBER, false),
+		AMOUNT(Kind.NUMBER, false),
+		USAGE(Kind.STRING, false),
+		ATTACK(Kind.STRING, false),
+		BUTTON(Kind.STRING, false),
+		BONUS(Kind.STRING, false),
+		CAUSE(Kind.STRING, false),
+		SELF_HIT(Kind.BOOLEAN, false),
+		SUICIDE(Kind.BOOLEAN, false),
+		SHOT_DOWN(Kind.BOOLEAN, false),
+		KILLED(Kind.BOOLEAN, false);
+
+		private static final Map<String, Attribute> names = new HashMap<>();
+		static {
+			for (Attribute attribute : values()) {
+				names.put(attribute.getName(), attribute);
+			}
+		}
+
+		private final Kind kind;
+		private final boolean player;
+		private final String name;
+
+		private Attribute(Kind kind, boolean player) {
+			this.kind = kind;
+			this.player = player;
+			this.name = name().toLowerCase();
+		}
+
+		/**
+		 * @return the name used for this Attribute in matchers
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the kind of value stored in this Attribute
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * @return whenever this Attribute describes a player
+		 */
+		public boolean isPlayerAttribute() {
+			return player;
+		}
+
+		/**
+		 * @param name
+		 *            name of the Attribute
+		 * @return the Attribute with this name or null
+		 */
+		public static Attribute byName(String name) {
+			return names.get(name);
+		}
+	}
+
+	/**
+	 * Attribute name resolved to the Attribute and the prefix of the player.
+	 */
+	public static final class Key {
+
+		private final String prefix;
+		private final Attribute attribute;
+
+		private Key(String prefix, Attribute attribute) {
+			this.prefix = prefix;
+			this.attribute = attribute;
+		}
+
+		/**
+		 * Resolves the name of an attribute, optionally prefixed with the
+		 * prefix of the other player (like "shooter_class").
+		 * 
+		 * @param name
+		 *            name of the attribute
+		 * @return the Key or null if there is no such attribute
+		 */
+		public static Key of(String name) {
+			Attribute attribute = Attribute.byName(name);
+			if (attribute != null) {
+				return new Key("", attribute);
+			}
+			int index = name.indexOf('_');
+			while (index > 0) {
+				attribute = Attribute.byName(name.substring(index + 1));
+				if (attribute != null && attribute.isPlayerAttribute()) {
+					return new Key(name.substring(0, index + 1), attribute);
+				}
+				index = name.indexOf('_', index + 1);
+			}
+			return null;
+		}
+
+		/**
+		 * @return the prefix of the player, empty for the main player
+		 */
+		public String getPrefix() {
+			return prefix;
+		}
+
+		/**
+		 * @return the Attribute
+		 */
+		public Attribute getAttribute() {
+			return attribute;
+		}
+	}
+
+	// marks computed attributes which have no value
+	protected static final Object NONE = new Object();
+
 	protected final Game game;
 
-	private final Map<String, Double> numbers = new HashMap<>();
-	private final Map<String, String> strings = new HashMap<>();
-	private final Map<String, Boolean> booleans = new HashMap<>();
+	private Object[] values;
 
 	private static HandlerList handlerList = new HandlerList();
 	
 	public MatchingEvent(Game game) {
 		this.game = game;
 	}
-	
-	protected void setNumber(String name, double number) {
-		numbers.put(name, number);
+
+	/**
+	 * Normalizes the String so it can be compared with matched values.
+	 * 
+	 * @param string
+	 *            the String to normalize
+	 * @return normalized String
+	 */
+	protected static String normalize(String string) {
+		return string.trim().toLowerCase().replace(' ', '_');
 	}
-	
-	protected void setString(String name, String string) {
-		strings.put(name, string.trim().toLowerCase().replace(' ', '_'));
+
+	/**
+	 * Computes the value of an event Attribute. It's called at most once per
+	 * Attribute, only when some Effect needs it.
+	 * 
+	 * @param attribute
+	 *            the event Attribute
+	 * @return the value (String, Double or Boolean) or null if this event
+	 *         doesn't have such Attribute
+	 */
+	protected Object compute(Attribute attribute) {
+		return null;
 	}
-	
-	protected void setBool(String name, boolean bool) {
-		booleans.put(name, bool);
+
+	/**
+	 * Gets the value of the Attribute. Player attributes can be prefixed to
+	 * get the value of the other player.
+	 * 
+	 * @param prefix
+	 *            prefix of the player or empty String for the main player;
+	 *            ignored for event attributes
+	 * @param attribute
+	 *            the Attribute
+	 * @return the value (String, Double or Boolean) or null if there is no
+	 *         such value in this event
+	 */
+	public Object getValue(String prefix, Attribute attribute) {
+		if (attribute.isPlayerAttribute()) {
+			return null;
+		}
+		if (values == null) {
+			values = new Object[Attribute.values().length];
+		}
+		Object value = values[attribute.ordinal()];
+		if (value == null) {
+			value = compute(attribute);
+			values[attribute.ordinal()] = value == null ? NONE : value;
+		}
+		return value == NONE ? null : value;
+	}
+
+	private Object getValue(String name) {
+		Key key = Key.of(name);
+		return key == null ? null : getValue(key.getPrefix(), key.getAttribute());
 	}
 
 	/**
@@ -71,7 +253,8 @@ public abstract class MatchingEvent extends Event {
 	 * @return the requested number or null
 	 */
 	public Double getNumber(String name) {
-		return numbers.get(name);
+		Object value = getValue(name);
+		return value instanceof Double ? (Double) value : null;
 	}
 
 	/**
@@ -83,7 +266,8 @@ public abstract class MatchingEvent extends Event {
 	 * @return requested String or null
 	 */
 	public String getString(String name) {
-		return strings.get(name);
+		Object value = getValue(name);
+		return value instanceof String ? (String) value : null;
 	}
 
 	/**
@@ -95,7 +279,8 @@ public abstract class MatchingEvent extends Event {
 	 * @return requested boolean or null
 	 */
 	public Boolean getBool(String name) {
-		return booleans.get(name);
+		Object value = getValue(name);
+		return value instanceof Boolean ? (Boolean) value : null;
 	}
 	
 	/**
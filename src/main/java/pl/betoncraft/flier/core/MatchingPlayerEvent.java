@@ -34,17 +34,17 @@ import pl.betoncraft.flier.api.core.InGamePlayer;
  */
 public class MatchingPlayerEvent extends MatchingEvent {
 
-	protected static final String WINGS_HEALTH_RATIO = "wings_health_ratio";
-	protected static final String WINGS_HEALTH = "wings_health";
-	protected static final String WINGS = "wings";
-	protected static final String FUEL_RATIO = "fuel_ratio";
-	protected static final String FUEL = "fuel";
-	protected static final String ENGINE = "engine";
-	protected static final String MONEY = "money";
-	protected static final String COLOR = "color";
-	protected static final String CLASS = "class";
+	// player Attributes which can change while the event is being handled
+	private static final Attribute[] VOLATILE = new Attribute[]{
+			Attribute.MONEY,
+			Attribute.FUEL,
+			Attribute.FUEL_RATIO,
+			Attribute.WINGS_HEALTH,
+			Attribute.WINGS_HEALTH_RATIO,
+	};
 
 	protected InGamePlayer player;
+	private Object[] playerValues;
 
 	/**
 	 * Creates new MatchingEvent with the specified player. The player can't
@@ -56,22 +56,94 @@ public class MatchingPlayerEvent extends MatchingEvent {
 	public MatchingPlayerEvent(InGamePlayer player) {
 		super(player.getGame());
 		this.player = player;
-		parsePlayer(player, "");
+		playerValues = snapshot(player);
+	}
+
+	/**
+	 * Creates the array for values of player Attributes, with those which can
+	 * change while the event is handled (like fuel or money) already computed.
+	 * This way all Effects see them as they were when the event happened,
+	 * regardless of their order.
+	 * 
+	 * @param player
+	 *            the player described by the Attributes, can be null
+	 * @return the array for {@link #getPlayerValue(Object[], InGamePlayer, Attribute)}
+	 */
+	protected static Object[] snapshot(InGamePlayer player) {
+		Object[] cache = new Object[Attribute.values().length];
+		if (player != null) {
+			for (Attribute attribute : VOLATILE) {
+				getPlayerValue(cache, player, attribute);
+			}
+		}
+		return cache;
 	}
 	
-	protected void parsePlayer(InGamePlayer player, String prefix) {
-		String className = player.getKit().getClassName().orElse(null);
-		setString(prefix + CLASS, className == null ? "" : className);
-		setString(prefix + COLOR, player.getColor().name());
-		setNumber(prefix + MONEY, (double) player.getMoney());
-		Engine engine = player.getKit().getEngine();
-		setString(prefix + ENGINE, engine.getID());
-		setNumber(prefix + FUEL, engine.getFuel());
-		setNumber(prefix + FUEL_RATIO, engine.getFuel() / engine.getMaxFuel());
-		Wings wings = player.getKit().getWings();
-		setString(prefix + WINGS, wings.getID());
-		setNumber(prefix + WINGS_HEALTH, wings.getHealth());
-		setNumber(prefix + WINGS_HEALTH_RATIO, wings.getHealth() / wings.getMaxHealth());
+	/**
+	 * Computes the value of a player Attribute.
+	 * 
+	 * @param player
+	 *            the player described by the Attribute
+	 * @param attribute
+	 *            the player Attribute
+	 * @return the value or null if it's not a player Attribute
+	 */
+	protected static Object compute(InGamePlayer player, Attribute attribute) {
+		switch (attribute) {
+		case CLASS:
+			return normalize(player.getKit().getClassName().orElse(""));
+		case COLOR:
+			return normalize(player.getColor().name());
+		case MONEY:
+			return (double) player.getMoney();
+		case ENGINE:
+			return normalize(player.getKit().getEngine().getID());
+		case FUEL:
+			return player.getKit().getEngine().getFuel();
+		case FUEL_RATIO:
+			Engine engine = player.getKit().getEngine();
+			return engine.getFuel() / engine.getMaxFuel();
+		case WINGS:
+			return normalize(player.getKit().getWings().getID());
+		case WINGS_HEALTH:
+			return player.getKit().getWings().getHealth();
+		case WINGS_HEALTH_RATIO:
+			Wings wings = player.getKit().getWings();
+			return wings.getHealth() / wings.getMaxHealth();
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the value of a player Attribute, computing it on first use.
+	 * 
+	 * @param cache
+	 *            the array with already computed values of that player
+	 * @param player
+	 *            the player described by the Attribute
+	 * @param attribute
+	 *            the player Attribute
+	 * @return the value or null
+	 */
+	protected static Object getPlayerValue(Object[] cache, InGamePlayer player, Attribute attribute) {
+		Object value = cache[attribute.ordinal()];
+		if (value == null) {
+			value = compute(player, attribute);
+			cache[attribute.ordinal()] = value == null ? NONE : value;
+		}
+		return value == NONE ? null : value;
+	}
+
+	@Override
+	public Object getValue(String prefix, Attribute attribute) {
+		if (!attribute.isPlayerAttribute()) {
+			return super.getValue(prefix, attribute);
+		}
+		if (!prefix.isEmpty()) {
+			return null;
+		}
+		return getPlayerValue(playerValues, player, attribute);
 	}
 
 	/**
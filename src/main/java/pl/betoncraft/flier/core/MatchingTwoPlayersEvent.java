@@ -23,10 +23,6 @@
  */
 package pl.betoncraft.flier.core;
 
-import java.util.Set;
-
-import com.google.common.collect.Sets;
-
 import pl.betoncraft.flier.api.core.InGamePlayer;
 
 /**
@@ -38,13 +34,11 @@ import pl.betoncraft.flier.api.core.InGamePlayer;
  */
 public class MatchingTwoPlayersEvent extends MatchingPlayerEvent {
 
-	protected static final Set<String> playerMatchers = Sets.newHashSet(CLASS, COLOR, MONEY, ENGINE, FUEL, FUEL_RATIO,
-			WINGS, WINGS_HEALTH, WINGS_HEALTH_RATIO);
-
 	protected InGamePlayer other;
 	protected String otherPrefix;
 	protected String playerPrefix;
 	protected boolean switched = false;
+	private Object[] otherValues;
 
 	/**
 	 * <p>
@@ -75,8 +69,7 @@ public class MatchingTwoPlayersEvent extends MatchingPlayerEvent {
 		this.other = other;
 		this.otherPrefix = otherPrefix;
 		this.playerPrefix = playerPrefix;
-		parsePlayer(other, otherPrefix);
-		setString("attitude", player.getGame().getAttitude(player, other).toString());
+		otherValues = snapshot(other);
 	}
 
 	/**
@@ -119,36 +112,35 @@ public class MatchingTwoPlayersEvent extends MatchingPlayerEvent {
 	}
 
 	@Override
-	public Double getNumber(String name) {
-		if (switched && playerMatchers.contains(name)) {
-			if (name.startsWith(playerPrefix)) {
-				return super.getNumber(name.substring(playerPrefix.length()));
-			}
-			return super.getNumber(otherPrefix + name);
+	protected Object compute(Attribute attribute) {
+		if (attribute == Attribute.ATTITUDE) {
+			return normalize(game.getAttitude(player, other).toString());
 		}
-		return super.getNumber(name);
+		return super.compute(attribute);
 	}
 
 	@Override
-	public String getString(String name) {
-		if (switched && playerMatchers.contains(name)) {
-			if (name.startsWith(playerPrefix)) {
-				return super.getString(name.substring(playerPrefix.length()));
-			}
-			return super.getString(otherPrefix + name);
+	public Object getValue(String prefix, Attribute attribute) {
+		if (!attribute.isPlayerAttribute()) {
+			return super.getValue(prefix, attribute);
 		}
-		return super.getString(name);
-	}
-
-	@Override
-	public Boolean getBool(String name) {
-		if (switched && playerMatchers.contains(name)) {
-			if (name.startsWith(playerPrefix)) {
-				return super.getBool(name.substring(playerPrefix.length()));
-			}
-			return super.getBool(otherPrefix + name);
+		// the main player has no prefix, the other one has the prefix of
+		// the place where he was originally
+		boolean main;
+		if (prefix.isEmpty()) {
+			main = !switched;
+		} else if (prefix.equals(switched ? playerPrefix : otherPrefix)) {
+			main = switched;
+		} else {
+			return null;
+		}
+		if (main) {
+			return super.getValue("", attribute);
+		}
+		if (other == null) {
+			return null;
 		}
-		return super.getBool(name);
+		return getPlayerValue(otherValues, other, attribute);
 	}
 
 }
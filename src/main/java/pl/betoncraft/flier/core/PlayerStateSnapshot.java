@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import pl.betoncraft.flier.api.core.Usage;
+import pl.betoncraft.flier.util.Utils;
+
+/**
+ * State of the player taken once per tick, before UsableItems are used. All
+ * Usages and Activators of the player read it instead of querying the world
+ * again for each item.
+ *
+ * @author Jakub Sapalski
+ */
+public class PlayerStateSnapshot {
+
+	private static final int AIR = 2;
+	private static final int GROUND_BIT = 1 << Usage.Where.GROUND.ordinal();
+	private static final int AIR_BIT = 1 << Usage.Where.AIR.ordinal();
+	private static final int FALL_BIT = 1 << Usage.Where.FALL.ordinal();
+
+	private static final Map<String, Long> triggerBits = new HashMap<>();
+
+	/**
+	 * A state which was never taken. The player is in no position, holds
+	 * nothing and has no triggers, so nothing is active with it.
+	 */
+	public static final PlayerStateSnapshot EMPTY = new PlayerStateSnapshot();
+
+	private Player player;
+	private Usage.Where position;
+	private int altitude;
+	private int heldSlot;
+	private ItemStack held;
+	private boolean gliding;
+	private boolean sneaking;
+	private long triggers;
+	private Material below;
+
+	/**
+	 * Returns the bit of the trigger with this name. Each distinct trigger
+	 * name gets its own bit.
+	 * 
+	 * @param name
+	 *            name of the trigger
+	 * @return the bit of the trigger or 0 if there are already 64 distinct
+	 *         triggers
+	 */
+	public static synchronized long trigger(String name) {
+		Long bit = triggerBits.get(name);
+		if (bit == null) {
+			bit = triggerBits.size() < Long.SIZE ? 1L << triggerBits.size() : 0L;
+			if (bit != 0) {
+				triggerBits.put(name, bit);
+			}
+		}
+		return bit;
+	}
+
+	/**
+	 * Converts the Usage position to a mask of positions matched by it.
+	 * 
+	 * @param where
+	 *            the Usage position
+	 * @return the mask to use with {@link #isIn(int)}
+	 */
+	public static int positionMask(Usage.Where where) {
+		switch (where) {
+		case GROUND:	 return GROUND_BIT;
+		case AIR:		 return AIR_BIT;
+		case FALL:		 return FALL_BIT;
+		case NO_GROUND:	 return AIR_BIT | FALL_BIT;
+		case NO_AIR:	 return GROUND_BIT | FALL_BIT;
+		case NO_FALL:	 return GROUND_BIT | AIR_BIT;
+		case EVERYWHERE: return GROUND_BIT | AIR_BIT | FALL_BIT;
+		}
+		return 0;
+	}
+
+	/**
+	 * Takes the state of the player for the current tick.
+	 * 
+	 * @param player
+	 *            the Bukkit player
+	 * @param triggers
+	 *            bits of triggers which happened during this tick
+	 */
+	public void update(Player player, long triggers) {
+		this.player = player;
+		this.triggers = triggers;
+		gliding = player.isGliding();
+		sneaking = player.isSneaking();
+		heldSlot = player.getInventory().getHeldItemSlot();
+		held = player.getInventory().getItemInMainHand();
+		below = null;
+		if (player.isOnGround()) {
+			altitude = 0;
+			position = Usage.Where.GROUND;
+		} else {
+			altitude = Utils.getAltitude(player.getLocation(), AIR);
+			if (altitude < AIR) {
+				position = Usage.Where.GROUND;
+			} else if (gliding) {
+				position = Usage.Where.AIR;
+			} else {
+				position = Usage.Where.FALL;
+			}
+		}
+	}
+
+	/**
+	 * @param mask
+	 *            mask of positions from {@link #positionMask(Usage.Where)}
+	 * @return whenever the player is in one of these positions
+	 */
+	public boolean isIn(int mask) {
+		return position != null && (mask & (1 << position.ordinal())) != 0;
+	}
+
+	/**
+	 * @return the position of the player: GROUND, AIR or FALL, or null if
+	 *         the state was never taken
+	 */
+	public Usage.Where getPosition() {
+		return position;
+	}
+
+	/**
+	 * @return the altitude of the player, up to 2 blocks
+	 */
+	public int getAltitude() {
+		return altitude;
+	}
+
+	/**
+	 * @return the held slot
+	 */
+	public int getHeldSlot() {
+		return heldSlot;
+	}
+
+	/**
+	 * @return the held ItemStack
+	 */
+	public ItemStack getHeld() {
+		return held;
+	}
+
+	/**
+	 * @return whenever the player is gliding
+	 */
+	public boolean isGliding() {
+		return gliding;
+	}
+
+	/**
+	 * @return whenever the player is sneaking
+	 */
+	public boolean isSneaking() {
+		return sneaking;
+	}
+
+	/**
+	 * @return bits of triggers which happened during this tick
+	 */
+	public long getTriggers() {
+		return triggers;
+	}
+
+	/**
+	 * @param bit
+	 *            bit of the trigger from {@link #trigger(String)}
+	 * @return whenever this trigger happened during this tick
+	 */
+	public boolean hasTrigger(long bit) {
+		return (triggers & bit) != 0;
+	}
+
+	/**
+	 * @return the type of the block below player's feet
+	 */
+	public Material getBlockBelow() {
+		if (below == null && player != null) {
+			Location loc = player.getLocation();
+			below = player.getWorld().getBlockAt(loc.getBlockX(), loc.getBlockY() - 1, loc.getBlockZ()).getType();
+		}
+		return below;
+	}
+
+}
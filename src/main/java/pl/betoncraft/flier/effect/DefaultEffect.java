@@ -26,6 +26,7 @@ package pl.betoncraft.flier.effect;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.bukkit.command.CommandSender;
@@ -35,6 +36,7 @@ import pl.betoncraft.flier.api.content.Effect;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Matcher;
 import pl.betoncraft.flier.core.DefaultMatcher;
+import pl.betoncraft.flier.core.MatchingEvent;
 import pl.betoncraft.flier.util.LangManager;
 import pl.betoncraft.flier.util.ValueLoader;
 import pl.betoncraft.flier.util.EffectListener.EventType;
@@ -55,6 +57,7 @@ public abstract class DefaultEffect implements Effect {
 	
 	protected final EventType type;
 	protected final List<Matcher> matchers;
+	protected final Predicate<MatchingEvent> predicate;
 	
 	public DefaultEffect(ConfigurationSection section) throws LoadingException {
 		id = section.getName();
@@ -108,6 +111,7 @@ public abstract class DefaultEffect implements Effect {
 		} else {
 			matchers = new ArrayList<>(0);
 		}
+		predicate = DefaultMatcher.compile(matchers);
 	}
 
 	@Override
@@ -129,6 +133,11 @@ public abstract class DefaultEffect implements Effect {
 	public List<Matcher> getMatchers() {
 		return matchers;
 	}
+
+	@Override
+	public boolean matches(MatchingEvent event) {
+		return predicate.test(event);
+	}
 	
 	protected void playerOnly() throws LoadingException {
 		if (!type.isPlayerInvolved()) {
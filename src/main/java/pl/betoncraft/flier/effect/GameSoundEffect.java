@@ -46,8 +46,7 @@ public class GameSoundEffect extends SoundEffect {
 
 	@Override
 	public void fire(Optional<InGamePlayer> player) {
-		player.get().getGame().getPlayers().values().forEach(
-				p -> p.getPlayer().getWorld().playSound(p.getPlayer().getLocation(), sound, volume, pitch));
+		player.get().getGame().getSoundDispatcher().playToAll(sound, volume, pitch);
 	}
 
 }
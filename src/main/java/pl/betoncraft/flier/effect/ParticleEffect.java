@@ -32,6 +32,7 @@ import org.bukkit.configuration.ConfigurationSection;
 
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
 
 /**
  * Creates an explosion without damage at player's location.
@@ -90,12 +91,14 @@ public class ParticleEffect extends DefaultEffect {
 
 	@Override
 	public void fire(Optional<InGamePlayer> player) {
+		ParticleEmitter particles = player.get().getGame().getParticleEmitter();
 		for (int i = 0; i < count; i++) {
 			Location loc = player.get().getLocation();
 			loc.add(manualOffsetX * random.nextGaussian(),
 					manualOffsetY * random.nextGaussian(),
 					manualOffsetZ * random.nextGaussian());
-			player.get().getPlayer().getWorld().spawnParticle(particle, loc, amount, offsetX, offsetY, offsetZ, speed);
+			particles.spawnBurst(loc.getWorld(), particle, loc.getX(), loc.getY(), loc.getZ(),
+					amount, offsetX, offsetY, offsetZ, speed);
 		}
 	}
 
@@ -46,7 +46,7 @@ public class PrivateSoundEffect extends SoundEffect {
 
 	@Override
 	public void fire(Optional<InGamePlayer> player) {
-		player.get().getPlayer().playSound(player.get().getLocation(), sound, volume, pitch);
+		player.get().getGame().getSoundDispatcher().play(player.get(), player.get().getLocation(), sound, volume, pitch);
 	}
 
 }
@@ -31,7 +31,7 @@ import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 
 /**
- * Plays a sound in the world.
+ * Plays a sound at player's location to all players in the Game.
  *
  * @author Jakub Sapalski
  */
@@ -46,7 +46,7 @@ public class PublicSoundEffect extends SoundEffect {
 
 	@Override
 	public void fire(Optional<InGamePlayer> player) {
-		player.get().getPlayer().getWorld().playSound(player.get().getLocation(), sound, volume, pitch);
+		player.get().getGame().getSoundDispatcher().playAround(player.get().getLocation(), sound, volume, pitch);
 	}
 
 }
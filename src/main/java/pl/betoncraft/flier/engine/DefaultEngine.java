@@ -29,6 +29,7 @@ import pl.betoncraft.flier.api.content.Engine;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.core.DefaultItem;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Default Engine implementation.
@@ -40,6 +41,9 @@ public abstract class DefaultEngine extends DefaultItem implements Engine {
 	private static final String REGENERATION = "regeneration";
 	private static final String CONSUMPTION = "consumption";
 	private static final String MAX_FUEL = "max_fuel";
+	private static final int REGENERATION_SLOT = ModificationManager.slot(REGENERATION);
+	private static final int CONSUMPTION_SLOT = ModificationManager.slot(CONSUMPTION);
+	private static final int MAX_FUEL_SLOT = ModificationManager.slot(MAX_FUEL);
 
 	protected final double maxFuel;
 	protected final double consumption;
@@ -57,17 +61,17 @@ public abstract class DefaultEngine extends DefaultItem implements Engine {
 
 	@Override
 	public double getMaxFuel() {
-		return modMan.modifyNumber(MAX_FUEL, maxFuel);
+		return modMan.modifyNumber(MAX_FUEL_SLOT, maxFuel);
 	}
 
 	@Override
 	public double getConsumption() {
-		return modMan.modifyNumber(CONSUMPTION, consumption);
+		return modMan.modifyNumber(CONSUMPTION_SLOT, consumption);
 	}
 
 	@Override
 	public double getRegeneration() {
-		return modMan.modifyNumber(REGENERATION, regeneration);
+		return modMan.modifyNumber(REGENERATION_SLOT, regeneration);
 	}
 
 	@Override
@@ -126,4 +130,10 @@ public abstract class DefaultEngine extends DefaultItem implements Engine {
 		modMan.clear();
 	}
 
+	@Override
+	public Engine replicate() {
+		DefaultEngine copy = (DefaultEngine) copy();
+		copy.fuel = maxFuel;
+		return copy;
+	}
 }
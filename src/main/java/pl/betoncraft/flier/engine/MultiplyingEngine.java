@@ -24,10 +24,10 @@
 package pl.betoncraft.flier.engine;
 
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.util.Vector;
 
-import pl.betoncraft.flier.api.core.Item;
 import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.util.ModificationManager;
+import pl.betoncraft.flier.util.Vec3;
 
 /**
  * Engine which multiplies speed instead of adding a fixed acceleration.
@@ -39,6 +39,9 @@ public class MultiplyingEngine extends DefaultEngine {
 	private static final String ACCELERATION = "acceleration";
 	private static final String MIN_SPEED = "min_speed";
 	private static final String MAX_SPEED = "max_speed";
+	private static final int ACCELERATION_SLOT = ModificationManager.slot(ACCELERATION);
+	private static final int MIN_SPEED_SLOT = ModificationManager.slot(MIN_SPEED);
+	private static final int MAX_SPEED_SLOT = ModificationManager.slot(MAX_SPEED);
 
 	private final double maxSpeed;
 	private final double minSpeed;
@@ -52,28 +55,18 @@ public class MultiplyingEngine extends DefaultEngine {
 	}
 	
 	@Override
-	public Vector launch(Vector velocity, Vector direction) {
+	public Vec3 launch(Vec3 velocity, Vec3 direction) {
 		double speed = velocity.length();
-		if (speed > modMan.modifyNumber(MAX_SPEED, maxSpeed)) {
+		if (speed > modMan.modifyNumber(MAX_SPEED_SLOT, maxSpeed)) {
 			speed = 0;
 		} else {
-			double minSpeed = modMan.modifyNumber(MIN_SPEED, this.minSpeed);
+			double minSpeed = modMan.modifyNumber(MIN_SPEED_SLOT, this.minSpeed);
 			if (speed < minSpeed) {
 				speed = minSpeed;
 			}
 		}
-		return velocity.add(direction.multiply(speed * modMan.modifyNumber(ACCELERATION, acceleration)));
-	}
-	
-	@Override
-	public boolean isSimilar(Item key) {
-		if (key instanceof MultiplyingEngine && super.isSimilar(key)) {
-			MultiplyingEngine engine = (MultiplyingEngine) key;
-			return engine.maxFuel == maxFuel &&
-					engine.maxSpeed == maxSpeed &&
-					engine.acceleration == acceleration;
-		}
-		return false;
+		double boost = speed * modMan.modifyNumber(ACCELERATION_SLOT, acceleration);
+		return velocity.add(direction.getX() * boost, direction.getY() * boost, direction.getZ() * boost);
 	}
 
 }
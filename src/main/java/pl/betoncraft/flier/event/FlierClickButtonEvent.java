@@ -27,6 +27,7 @@ import org.bukkit.event.Cancellable;
 
 import pl.betoncraft.flier.api.content.Button;
 import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
 import pl.betoncraft.flier.core.MatchingPlayerEvent;
 
 /**
@@ -36,15 +37,12 @@ import pl.betoncraft.flier.core.MatchingPlayerEvent;
  */
 public class FlierClickButtonEvent extends MatchingPlayerEvent implements Cancellable {
 	
-	private static final String BUTTON = "button";
-	
 	public Button button;
 	public boolean cancel = false;
 
 	public FlierClickButtonEvent(InGamePlayer player, Button button) {
 		super(player);
 		this.button = button;
-		setString(BUTTON, button.getID());
 	}
 	
 	public Button getButton() {
@@ -61,4 +59,12 @@ public class FlierClickButtonEvent extends MatchingPlayerEvent implements Cancel
 		this.cancel = cancel;
 	}
 
+	@Override
+	protected Object compute(Attribute attribute) {
+		if (attribute == Attribute.BUTTON) {
+			return normalize(button.getID());
+		}
+		return super.compute(attribute);
+	}
+
 }
@@ -27,6 +27,7 @@ import org.bukkit.event.Cancellable;
 
 import pl.betoncraft.flier.api.content.Bonus;
 import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
 import pl.betoncraft.flier.core.MatchingPlayerEvent;
 
 /**
@@ -36,15 +37,12 @@ import pl.betoncraft.flier.core.MatchingPlayerEvent;
  */
 public class FlierCollectBonusEvent extends MatchingPlayerEvent implements Cancellable {
 	
-	private static final String BONUS = "bonus";
-	
 	private Bonus bonus;
 	private boolean cancel = false;
 
 	public FlierCollectBonusEvent(InGamePlayer player, Bonus bonus) {
 		super(player);
 		this.bonus = bonus;
-		setString(BONUS, bonus.getID());
 	}
 	
 	public Bonus getBonus() {
@@ -61,4 +59,12 @@ public class FlierCollectBonusEvent extends MatchingPlayerEvent implements Cance
 		this.cancel = cancel;
 	}
 
+	@Override
+	protected Object compute(Attribute attribute) {
+		if (attribute == Attribute.BONUS) {
+			return normalize(bonus.getID());
+		}
+		return super.compute(attribute);
+	}
+
 }
@@ -25,6 +25,7 @@ package pl.betoncraft.flier.event;
 
 import pl.betoncraft.flier.api.content.Game;
 import pl.betoncraft.flier.core.MatchingEvent;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
 
 /**
  * Called when the Game ends.
@@ -49,17 +50,23 @@ public class FlierGameEndEvent extends MatchingEvent {
 		}
 	}
 	
-	private static final String CAUSE = "cause";
 	private GameEndCause cause;
 
 	public FlierGameEndEvent(Game game, GameEndCause cause) {
 		super(game);
 		this.cause = cause;
-		setString(CAUSE, cause.toString().toLowerCase());
 	}
 	
 	public GameEndCause getCause() {
 		return cause;
 	}
 
+	@Override
+	protected Object compute(Attribute attribute) {
+		if (attribute == Attribute.CAUSE) {
+			return normalize(cause.toString());
+		}
+		return super.compute(attribute);
+	}
+
 }
@@ -27,6 +27,7 @@ import org.bukkit.event.Cancellable;
 
 import pl.betoncraft.flier.api.core.Attacker;
 import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
 import pl.betoncraft.flier.core.MatchingTwoPlayersEvent;
 
 /**
@@ -47,7 +48,6 @@ public class FlierPlayerHitEvent extends MatchingTwoPlayersEvent implements Canc
 	public FlierPlayerHitEvent(InGamePlayer target, Attacker attacker) {
 		super(target, attacker.getCreator(), "shooter_", "target_");
 		this.attacker = attacker;
-		setBool("self_hit", attacker.getCreator().equals(target));
 	}
 
 	/**
@@ -67,4 +67,12 @@ public class FlierPlayerHitEvent extends MatchingTwoPlayersEvent implements Canc
 		this.cancel = cancel;
 	}
 
+	@Override
+	protected Object compute(Attribute attribute) {
+		if (attribute == Attribute.SELF_HIT) {
+			return player.equals(other);
+		}
+		return super.compute(attribute);
+	}
+
 }
@@ -24,6 +24,7 @@
 package pl.betoncraft.flier.event;
 
 import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
 import pl.betoncraft.flier.core.MatchingTwoPlayersEvent;
 
 /**
@@ -43,13 +44,24 @@ public class FlierPlayerKillEvent extends MatchingTwoPlayersEvent {
 	public FlierPlayerKillEvent(InGamePlayer killed, InGamePlayer killer, KillType type) {
 		super(killed, killer, "killer_", "killed_");
 		this.type = type;
-		setBool("suicide", killed.equals(killer));
-		setBool("shot_down", type == KillType.SHOT_DOWN);
-		setBool("killed", type == KillType.KILLED);
 	}
 	
 	public KillType getType() {
 		return type;
 	}
 
+	@Override
+	protected Object compute(Attribute attribute) {
+		switch (attribute) {
+		case SUICIDE:
+			return player.equals(other);
+		case SHOT_DOWN:
+			return type == KillType.SHOT_DOWN;
+		case KILLED:
+			return type == KillType.KILLED;
+		default:
+			return super.compute(attribute);
+		}
+	}
+
 }
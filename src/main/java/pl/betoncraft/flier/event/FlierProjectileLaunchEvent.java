@@ -25,6 +25,7 @@ package pl.betoncraft.flier.event;
 
 import pl.betoncraft.flier.api.content.Attack;
 import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
 import pl.betoncraft.flier.core.MatchingPlayerEvent;
 
 /**
@@ -36,18 +37,23 @@ import pl.betoncraft.flier.core.MatchingPlayerEvent;
  */
 public class FlierProjectileLaunchEvent extends MatchingPlayerEvent {
 	
-	private static final String ATTACK = "attack";
-	
 	private final Attack attack;
 
 	public FlierProjectileLaunchEvent(InGamePlayer player, Attack attack) {
 		super(player);
 		this.attack = attack;
-		setString(ATTACK, attack.getID());
 	}
 	
 	public Attack getAttack() {
 		return attack;
 	}
 
+	@Override
+	protected Object compute(Attribute attribute) {
+		if (attribute == Attribute.ATTACK) {
+			return normalize(attack.getID());
+		}
+		return super.compute(attribute);
+	}
+
 }
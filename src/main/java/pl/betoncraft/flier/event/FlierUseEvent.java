@@ -28,6 +28,7 @@ import org.bukkit.event.Cancellable;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.UsableItem;
 import pl.betoncraft.flier.api.core.Usage;
+import pl.betoncraft.flier.core.MatchingEvent.Attribute;
 import pl.betoncraft.flier.core.MatchingPlayerEvent;
 
 /**
@@ -39,6 +40,8 @@ public class FlierUseEvent extends MatchingPlayerEvent implements Cancellable {
 
 	private UsableItem item;
 	private Usage usage;
+	private final int ammo;
+	private final int amount;
 	private boolean cancel = false;
 
 	/**
@@ -55,10 +58,9 @@ public class FlierUseEvent extends MatchingPlayerEvent implements Cancellable {
 		super(player);
 		this.item = item;
 		this.usage = usage;
-		setString("item", item.getID());
-		setNumber("ammo", (double) item.getAmmo());
-		setNumber("amount", (double) item.getAmount());
-		setString("usage", usage.getID());
+		// these change when the item is used, so they are stored right away
+		ammo = item.getAmmo();
+		amount = item.getAmount();
 	}
 
 	/**
@@ -85,4 +87,20 @@ public class FlierUseEvent extends MatchingPlayerEvent implements Cancellable {
 		this.cancel = cancel;
 	}
 
+	@Override
+	protected Object compute(Attribute attribute) {
+		switch (attribute) {
+		case ITEM:
+			return normalize(item.getID());
+		case AMMO:
+			return (double) ammo;
+		case AMOUNT:
+			return (double) amount;
+		case USAGE:
+			return normalize(usage.getID());
+		default:
+			return super.compute(attribute);
+		}
+	}
+
 }
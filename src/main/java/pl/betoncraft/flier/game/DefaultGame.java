@@ -40,19 +40,13 @@ import java.util.UUID;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
-import org.bukkit.block.Block;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
@@ -73,10 +67,23 @@ import pl.betoncraft.flier.api.core.Kit.AddResult;
 import pl.betoncraft.flier.api.core.Kit.RespawnAction;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.NoArenaException;
+import pl.betoncraft.flier.api.core.ParticleEmitter;
+import pl.betoncraft.flier.api.core.ProjectileWorld;
+import pl.betoncraft.flier.api.core.SoundDispatcher;
 import pl.betoncraft.flier.api.core.SetApplier;
 import pl.betoncraft.flier.api.core.Target;
+import pl.betoncraft.flier.api.core.TargetIndex;
+import pl.betoncraft.flier.api.core.Ticker;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
 import pl.betoncraft.flier.core.DefaultKit;
 import pl.betoncraft.flier.core.DefaultPlayer;
+import pl.betoncraft.flier.core.DefaultParticleEmitter;
+import pl.betoncraft.flier.core.DefaultProjectileWorld;
+import pl.betoncraft.flier.core.DefaultSoundDispatcher;
+import pl.betoncraft.flier.core.DefaultTargetIndex;
+import pl.betoncraft.flier.core.DefaultTicker;
+import pl.betoncraft.flier.core.EventRouter;
 import pl.betoncraft.flier.event.FlierClickButtonEvent;
 import pl.betoncraft.flier.event.FlierGameCreateEvent;
 import pl.betoncraft.flier.event.FlierGameEndEvent;
@@ -92,6 +99,7 @@ import pl.betoncraft.flier.sidebar.Health;
 import pl.betoncraft.flier.sidebar.Money;
 import pl.betoncraft.flier.sidebar.Speed;
 import pl.betoncraft.flier.sidebar.Time;
+import pl.betoncraft.flier.util.BlockIndex;
 import pl.betoncraft.flier.util.DoubleClickBlocker;
 import pl.betoncraft.flier.util.DummyPlayer;
 import pl.betoncraft.flier.util.EffectListener;
@@ -104,7 +112,7 @@ import pl.betoncraft.flier.util.ValueLoader;
  *
  * @author Jakub Sapalski
  */
-public abstract class DefaultGame implements Listener, Game {
+public abstract class DefaultGame implements Game {
 	
 	private static final String MONEY_SUICIDE = "money.suicide";
 	private static final String MONEY_BY_FRIENDLY_HIT = "money.by_friendly_hit";
@@ -147,8 +155,14 @@ public abstract class DefaultGame implements Listener, Game {
 	protected final String name;
 	protected final int uniqueNumber = new Random().nextInt(Integer.MAX_VALUE);
 	protected final ValueLoader loader;
+	protected final DefaultTicker ticker;
+	protected final TargetIndex targetIndex;
+	protected final ProjectileWorld projectiles;
+	protected final ParticleEmitter particles;
+	protected final SoundDispatcher sounds;
 	protected GameHeartBeat heartBeat;
 	protected WaitingRoom waitingRoom;
+	protected VisibilityManager visibility;
 	
 	protected final Map<UUID, InGamePlayer> dataMap = new HashMap<>();
 	protected final Map<UUID, Target> targets = new HashMap<>();
@@ -156,6 +170,7 @@ public abstract class DefaultGame implements Listener, Game {
 	protected final EffectListener listener;
 	protected final List<Bonus> bonuses = new ArrayList<>();
 	protected final Map<String, Button> buttons = new HashMap<>();
+	protected final BlockIndex<Button> buttonBlocks = new BlockIndex<>();
 	protected final Map<InGamePlayer, List<Button>> unlocked = new HashMap<>();
 	protected final RespawnAction respawnAction;
 	protected final boolean rounds;
@@ -177,7 +192,7 @@ public abstract class DefaultGame implements Listener, Game {
 	protected Arena arena;
 	protected boolean running = false;
 	protected int timeLeft;
-	protected List<Block> leaveBlocks = new ArrayList<>();
+	protected final BlockIndex<Boolean> leaveBlocks = new BlockIndex<>();
 	protected Location center;
 	protected int minX, minZ, maxX, maxZ;
 	
@@ -215,10 +230,15 @@ public abstract class DefaultGame implements Listener, Game {
 		
 		// load "leave" blocks
 		for (Location loc : arena.getLocationSet(loader.loadString(LEAVE_BLOCKS)).getMultiple()) {
-			leaveBlocks.add(loc.getBlock());
+			leaveBlocks.put(loc, true);
 		}
 		
 		// load other stuffs
+		ticker = new DefaultTicker(id);
+		targetIndex = new DefaultTargetIndex(this);
+		projectiles = new DefaultProjectileWorld(this);
+		particles = new DefaultParticleEmitter(this, loader);
+		sounds = new DefaultSoundDispatcher(this, loader);
 		fancyStuff = flier.getFancyStuff();
 		listener = new EffectListener(section.getStringList(EFFECTS), this);
 		rounds = loader.loadBoolean(ROUNDS);
@@ -227,6 +247,7 @@ public abstract class DefaultGame implements Listener, Game {
 		timeLeft = maxTime;
 		respawnAction = loader.loadEnum(RESPAWN_ACTION, RespawnAction.class);
 		waitingRoom = new WaitingRoom(this, loader);
+		visibility = new VisibilityManager(this);
 		
 		// bonuses
 		for (String bonusName : section.getStringList(BONUSES)) {
@@ -241,7 +262,12 @@ public abstract class DefaultGame implements Listener, Game {
 				throw new LoadingException(String.format("'%s' is not a button.", button));
 			}
 			try {
-				buttons.put(button, new DefaultButton(this, buttonSection));
+				Button b = new DefaultButton(this, buttonSection);
+				buttons.put(button, b);
+				for (Location loc : b.getLocations()) {
+					// the first button on a block takes it
+					buttonBlocks.putIfAbsent(loc, b);
+				}
 			} catch (LoadingException e) {
 				throw (LoadingException) new LoadingException(
 						String.format("Error in '%s' button.", button)).initCause(e);
@@ -267,8 +293,8 @@ public abstract class DefaultGame implements Listener, Game {
 		byFriendlyHitMoney = loader.loadInt(MONEY_BY_FRIENDLY_HIT, 0);
 		suicideMoney = loader.loadInt(MONEY_SUICIDE, 0);
 		
-		// registering an event listener
-		Bukkit.getPluginManager().registerEvents(this, Flier.getInstance());
+		// starting the ticks
+		ticker.start();
 		
 		// game created, firing an event
 		if (lobby.isOpen()) {
@@ -277,27 +303,19 @@ public abstract class DefaultGame implements Listener, Game {
 		}
 	}
 	
-	protected class GameHeartBeat extends BukkitRunnable {
-		
-		private int tickCounter = 0;
+	protected class GameHeartBeat implements Tickable {
 		
 		public GameHeartBeat(DefaultGame game) {
-			runTaskTimer(Flier.getInstance(), 1, 1);
+			ticker.register(Phase.TRIGGERS, this);
 		}
 
 		@Override
-		public void run() {
+		public boolean tick() {
 			if (maxTime != 0 && --timeLeft == 0) {
 				endGame();
 			}
 			if (running) {
 				for (InGamePlayer data : getPlayers().values()) {
-					// invisibility fix
-					if (tickCounter % 20 == 0) {
-						getPlayers().values().stream().filter(other -> !other.equals(data)).forEach(other -> {
-							data.getPlayer().showPlayer(other.getPlayer());
-						});
-					}
 					Location loc = data.getPlayer().getLocation();
 					// height damage
 					if (loc.getBlockX() < minX || loc.getBlockX() > maxX ||
@@ -305,11 +323,8 @@ public abstract class DefaultGame implements Listener, Game {
 						data.getPlayer().damage(data.getPlayer().getHealth() + 1);
 					}
 				}
-				tickCounter++;
-				if (tickCounter > 1000) {
-					tickCounter = 0;
-				}
 			}
+			return true;
 		}
 	}
 	
@@ -360,7 +375,10 @@ public abstract class DefaultGame implements Listener, Game {
 		InGamePlayer data =  new DefaultPlayer(player, this, defKit);
 		dataMap.put(uuid, data);
 		targets.put(uuid, data);
+		EventRouter.addTarget(uuid, this);
+		targetIndex.invalidate();
 		Flier.getInstance().playerJoinsGame(data);
+		visibility.addPlayer(data);
 		// creating default stuff
 		data.getLines().add(new Fuel(data));
 		data.getLines().add(new Health(data));
@@ -418,8 +436,11 @@ public abstract class DefaultGame implements Listener, Game {
 			return;
 		}
 		targets.remove(player.getUniqueId());
+		EventRouter.removeTarget(player.getUniqueId());
+		targetIndex.invalidate();
 		unlocked.remove(data);
 		waitingRoom.removePlayer(data);
+		visibility.removePlayer(data);
 		Flier.getInstance().playerLeavesGame(data);
 		data.clearPlayer();
 		data.getPlayer().teleport(lobby.getSpawn());
@@ -455,17 +476,14 @@ public abstract class DefaultGame implements Listener, Game {
 
 	@Override
 	public void stop(GameEndCause cause) {
-		HandlerList.unregisterAll(this);
+		EventRouter.removeGame(this);
 		arena.setUsed(false);
 		for (Bonus bonus : bonuses) {
 			bonus.stop();
 		}
-		if (heartBeat != null) {
-			heartBeat.cancel();
-		}
-		if (waitingRoom.ticker != null) {
-			waitingRoom.ticker.cancel();
-		}
+		// this drops the heart beat, the waiting room and everything else
+		ticker.stop();
+		projectiles.clear();
 		Collection<InGamePlayer> copy = new ArrayList<>(dataMap.values());
 		for (InGamePlayer data : copy) {
 			removePlayer(data.getPlayer());
@@ -557,6 +575,8 @@ public abstract class DefaultGame implements Listener, Game {
 	@Override
 	public void handleRespawn(InGamePlayer player) {
 		player.getPlayer().getInventory().setHeldItemSlot(0);
+		// teleportation can make players invisible to each other
+		visibility.invalidate(player);
 		new BukkitRunnable() {
 			@Override
 			public void run() {
@@ -718,7 +738,31 @@ public abstract class DefaultGame implements Listener, Game {
 		return rounds;
 	}
 	
-	@EventHandler(priority=EventPriority.HIGH)
+	@Override
+	public Ticker getTicker() {
+		return ticker;
+	}
+	
+	@Override
+	public ProjectileWorld getProjectileWorld() {
+		return projectiles;
+	}
+	
+	@Override
+	public TargetIndex getTargetIndex() {
+		return targetIndex;
+	}
+	
+	@Override
+	public ParticleEmitter getParticleEmitter() {
+		return particles;
+	}
+	
+	@Override
+	public SoundDispatcher getSoundDispatcher() {
+		return sounds;
+	}
+	
 	public void onClick(PlayerInteractEvent event) {
 		InGamePlayer data = getPlayers().get(event.getPlayer().getUniqueId());
 		if (data != null) {
@@ -732,13 +776,7 @@ public abstract class DefaultGame implements Listener, Game {
 					DoubleClickBlocker.block(event.getPlayer());
 				}
 				// apply the button
-				Button button = buttons.values().stream()
-						.filter(b -> b.getLocations().stream()
-								.map(loc -> loc.getBlock())
-								.anyMatch(block -> event.getClickedBlock().equals(block))
-						)
-						.findFirst()
-						.orElse(null);
+				Button button = buttonBlocks.get(event.getClickedBlock());
 				if (button != null) {
 					FlierClickButtonEvent e = new FlierClickButtonEvent(data, button);
 					Bukkit.getPluginManager().callEvent(e);
@@ -748,19 +786,18 @@ public abstract class DefaultGame implements Listener, Game {
 					return;
 				}
 				// handle leaving block
-				if (leaveBlocks.contains(event.getClickedBlock())) {
+				if (leaveBlocks.get(event.getClickedBlock()) != null) {
 					lobby.leaveGame(event.getPlayer());
 				}
 			}
 			// not a button
 			ItemStack item = event.getPlayer().getInventory().getItemInMainHand();
 			Wings wings = data.getKit().getWings();
-			if (item != null && wings != null && item.isSimilar(wings.getItem(data))) {
+			if (wings != null && wings.isItem(item, data)) {
 				// handle wearing wings
 				event.getPlayer().getInventory().setChestplate(item);
 				event.getPlayer().getInventory().setItemInMainHand(null);
-				event.getPlayer().getWorld().playSound(
-						event.getPlayer().getLocation(), Sound.ITEM_ARMOR_EQUIP_GENERIC, 1, 1);
+				sounds.playAround(event.getPlayer().getLocation(), Sound.ITEM_ARMOR_EQUIP_GENERIC, 1, 1);
 			} else {
 				// handle a regular click
 				switch (event.getAction()) {
@@ -779,7 +816,6 @@ public abstract class DefaultGame implements Listener, Game {
 		}
 	}
 	
-	@EventHandler(priority=EventPriority.HIGHEST)
 	public void onDamage(EntityDamageEvent event) {
 		if (event.isCancelled()) {
 			return;
@@ -809,14 +845,6 @@ public abstract class DefaultGame implements Listener, Game {
 		}
 	}
 	
-	@EventHandler
-	public void onBlockExplode(EntityExplodeEvent event) {
-		if (Attacker.getAttacker(event.getEntity()) != null) {
-			event.blockList().clear();
-		}
-	}
-	
-	@EventHandler
 	public void onInvInteract(InventoryClickEvent event) {
 		if (getPlayers().containsKey(event.getWhoClicked().getUniqueId())) {
 			event.setCancelled(true);
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.game;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bukkit.entity.Player;
+import org.bukkit.metadata.MetadataValue;
+
+import pl.betoncraft.flier.api.core.InGamePlayer;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
+import pl.betoncraft.flier.api.core.Ticker.Tickable;
+
+/**
+ * Keeps players in the game visible to each other. Players are checked when
+ * they join or respawn, and all pairs are verified once per second in small
+ * portions on each tick, to work around players becoming invisible. The
+ * verification only compares the visibility state on the server, so packets
+ * are sent only when a player is actually hidden. Players vanished by other
+ * plugins are left alone.
+ */
+class VisibilityManager implements Tickable {
+	
+	// metadata key used by vanish plugins
+	private static final String VANISHED = "vanished";
+	private static final int VERIFY_TICKS = 20;
+	
+	protected final DefaultGame game;
+	protected final List<InGamePlayer> members = new ArrayList<>();
+	protected final Set<InGamePlayer> vanished = new HashSet<>();
+	protected final Set<InGamePlayer> pending = new LinkedHashSet<>();
+	protected int cursor = 0;
+	
+	public VisibilityManager(DefaultGame game) {
+		this.game = game;
+		game.getTicker().register(Phase.TRIGGERS, this);
+	}
+	
+	/**
+	 * Starts tracking the player. He will be checked on the next tick.
+	 */
+	public void addPlayer(InGamePlayer player) {
+		members.add(player);
+		pending.add(player);
+	}
+	
+	/**
+	 * Stops tracking the player.
+	 */
+	public void removePlayer(InGamePlayer player) {
+		members.remove(player);
+		vanished.remove(player);
+		pending.remove(player);
+	}
+	
+	/**
+	 * Marks the player to be checked against everyone else on the next tick,
+	 * for example after he was teleported.
+	 */
+	public void invalidate(InGamePlayer player) {
+		if (members.contains(player)) {
+			pending.add(player);
+		}
+	}
+
+	@Override
+	public boolean tick() {
+		if (!game.running) {
+			return true;
+		}
+		// players which changed since the last tick
+		for (InGamePlayer player : pending) {
+			updateVanished(player);
+			refresh(player);
+		}
+		pending.clear();
+		// periodic verification, every player gets checked once in VERIFY_TICKS
+		int amount = (members.size() + VERIFY_TICKS - 1) / VERIFY_TICKS;
+		for (int i = 0; i < amount; i++) {
+			if (cursor >= members.size()) {
+				cursor = 0;
+			}
+			InGamePlayer viewer = members.get(cursor++);
+			if (updateVanished(viewer)) {
+				refresh(viewer);
+			} else {
+				for (InGamePlayer other : members) {
+					show(viewer, other);
+				}
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks both directions of visibility between this player and everyone
+	 * else.
+	 */
+	private void refresh(InGamePlayer player) {
+		for (InGamePlayer other : members) {
+			show(player, other);
+			show(other, player);
+		}
+	}
+	
+	/**
+	 * Makes the target visible to the viewer if he isn't already.
+	 */
+	private void show(InGamePlayer viewer, InGamePlayer target) {
+		if (viewer == target || vanished.contains(target)) {
+			return;
+		}
+		Player viewing = viewer.getPlayer();
+		Player shown = target.getPlayer();
+		if (!viewing.canSee(shown)) {
+			viewing.showPlayer(shown);
+		}
+	}
+	
+	/**
+	 * Updates the vanish status of the player.
+	 * 
+	 * @return whenever the status has changed
+	 */
+	private boolean updateVanished(InGamePlayer player) {
+		for (MetadataValue value : player.getPlayer().getMetadata(VANISHED)) {
+			if (value.asBoolean()) {
+				return vanished.add(player);
+			}
+		}
+		return vanished.remove(player);
+	}
+
+}
@@ -30,11 +30,10 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.bukkit.Location;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import pl.betoncraft.flier.api.Flier;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
+import pl.betoncraft.flier.api.core.Ticker.Phase;
 import pl.betoncraft.flier.util.LangManager;
 import pl.betoncraft.flier.util.ValueLoader;
 
@@ -71,7 +70,6 @@ class WaitingRoom {
 	protected Set<InGamePlayer> waitingPlayers = new HashSet<>();
 	protected WaitReason reason = WaitReason.NO_WAIT;
 	protected int currentWaitingTime;
-	protected BukkitRunnable ticker;
 	protected boolean locked = false;
 	protected boolean roundFinished = false;
 	
@@ -82,12 +80,10 @@ class WaitingRoom {
 		startDelay = loader.loadNonNegativeInt(START_DELAY, 0);
 		locking = loader.loadBoolean(LOCKING, false);
 		location = game.getArena().getLocationSet(loader.loadString(WAITING_ROOM)).getSingle();
-		ticker = new BukkitRunnable() {
-			public void run() {
-				tick();
-			};
-		};
-		ticker.runTaskTimer(Flier.getInstance(), 1, 1);
+		game.getTicker().register(Phase.TRIGGERS, () -> {
+			tick();
+			return true;
+		});
 		currentWaitingTime = -1; // lower than 0 means the waiting room is idle
 	}
 	
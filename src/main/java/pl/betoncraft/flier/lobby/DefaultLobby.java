@@ -40,10 +40,6 @@ import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
@@ -64,6 +60,7 @@ import pl.betoncraft.flier.api.core.Arena;
 import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.NoArenaException;
+import pl.betoncraft.flier.core.EventRouter;
 import pl.betoncraft.flier.event.FlierGameEndEvent.GameEndCause;
 import pl.betoncraft.flier.event.FlierPlayerJoinGameEvent;
 import pl.betoncraft.flier.event.FlierPlayerJoinLobbyEvent;
@@ -76,7 +73,7 @@ import pl.betoncraft.flier.util.ValueLoader;
  *
  * @author Jakub Sapalski
  */
-public abstract class DefaultLobby implements Lobby, Listener {
+public abstract class DefaultLobby implements Lobby {
 	
 	protected ValueLoader loader;
 	protected String id;
@@ -124,7 +121,6 @@ public abstract class DefaultLobby implements Lobby, Listener {
 								autoJoinGame));
 			}
 		}
-		Bukkit.getPluginManager().registerEvents(this, Flier.getInstance());
 		open = true;
 	}
 	
@@ -163,6 +159,7 @@ public abstract class DefaultLobby implements Lobby, Listener {
 		}
 		// join the lobby
 		players.add(uuid);
+		EventRouter.addPlayer(uuid, this);
 		PlayerBackup backup = new PlayerBackup(player);
 		backup.save();
 		backups.put(uuid, backup);
@@ -181,6 +178,7 @@ public abstract class DefaultLobby implements Lobby, Listener {
 	public void removePlayer(Player player) {
 		UUID uuid = player.getUniqueId();
 		if (players.remove(uuid)) {
+			EventRouter.removePlayer(uuid);
 			leaveGame(player);
 			LangManager.sendMessage(player, "lobby_left", getName(player));
 			backups.remove(uuid).load();
@@ -342,16 +340,21 @@ public abstract class DefaultLobby implements Lobby, Listener {
 		for (Player player : players.stream().map(uuid -> Bukkit.getPlayer(uuid)).collect(Collectors.toList())) {
 			removePlayer(player);
 		}
-		// unregister the listener
-		HandlerList.unregisterAll(this);
 	}
 	
-	@EventHandler
+	/**
+	 * Handles clicks of the lobby's players before other plugins can cancel
+	 * them. Does nothing by default.
+	 * 
+	 * @param event
+	 *            the click event
+	 */
+	public void onClick(PlayerInteractEvent event) {}
+	
 	public void onLeave(PlayerQuitEvent event) {
 		removePlayer(event.getPlayer());
 	}
 	
-	@EventHandler
 	public void onDamage(EntityDamageEvent event) {
 		UUID[] uuid = new UUID[2];
 		uuid[0] = event.getEntity().getUniqueId();
@@ -360,68 +363,55 @@ public abstract class DefaultLobby implements Lobby, Listener {
 			uuid[1] = entityEvent.getDamager().getUniqueId();
 		}
 		for (UUID u : uuid) {
-			if (u != null && players.contains(u) &&
-					!gameLists.values().stream().anyMatch(
-							set -> set.stream().anyMatch(
-									game -> game.getPlayers().containsKey(u)
-							)
-					)) {
+			if (u != null && players.contains(u) && !Flier.getInstance().getPlayers().containsKey(u)) {
 				event.setCancelled(true);
 				break;
 			}
 		}
 	}
 	
-	@EventHandler
 	public void onItemFrame(PlayerInteractEntityEvent event) {
 		if (getPlayers().contains(event.getPlayer().getUniqueId())) {
 			event.setCancelled(true);
 		}
 	}
 	
-	@EventHandler(priority=EventPriority.HIGH)
 	public void onInteract(PlayerInteractEvent event) {
 		if (getPlayers().contains(event.getPlayer().getUniqueId())) {
 			event.setCancelled(true);
 		}
 	}
 	
-	@EventHandler
 	public void onDrop(PlayerDropItemEvent event) {
 		if (getPlayers().contains(event.getPlayer().getUniqueId())) {
 			event.setCancelled(true);
 		}
 	}
 	
-	@EventHandler
 	public void onPickup(PlayerPickupItemEvent event) {
 		if (getPlayers().contains(event.getPlayer().getUniqueId())) {
 			event.setCancelled(true);
 		}
 	}
 	
-	@EventHandler
 	public void onSwap(PlayerSwapHandItemsEvent event) {
 		if (getPlayers().contains(event.getPlayer().getUniqueId())) {
 			event.setCancelled(true);
 		}
 	}
 	
-	@EventHandler
 	public void onPlace(BlockPlaceEvent event) {
 		if (getPlayers().contains(event.getPlayer().getUniqueId())) {
 			event.setCancelled(true);
 		}
 	}
 	
-	@EventHandler
 	public void onBreak(BlockBreakEvent event) {
 		if (getPlayers().contains(event.getPlayer().getUniqueId())) {
 			event.setCancelled(true);
 		}
 	}
 	
-	@EventHandler
 	public void onRegen(EntityRegainHealthEvent event) {
 		if (event.getEntity() instanceof Player) {
 			Player player = (Player) event.getEntity();
@@ -431,7 +421,6 @@ public abstract class DefaultLobby implements Lobby, Listener {
 		}
 	}
 	
-	@EventHandler
 	public void onHunger(FoodLevelChangeEvent event) {
 		if (getPlayers().contains(event.getEntity().getUniqueId())) {
 			event.setCancelled(true);
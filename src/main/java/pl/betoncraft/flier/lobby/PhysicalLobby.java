@@ -33,8 +33,6 @@ import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 
@@ -78,7 +76,7 @@ public class PhysicalLobby extends DefaultLobby {
 		leave = loader.loadLocation("leave").getBlock();
 	}
 
-	@EventHandler(priority = EventPriority.LOW)
+	@Override
 	public void onClick(PlayerInteractEvent event) {
 		if (event.isCancelled()) {
 			return;
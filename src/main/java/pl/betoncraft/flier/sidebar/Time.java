@@ -60,6 +60,12 @@ public class Time implements SidebarLine {
 		}
 		return lastString;
 	}
+
+	@Override
+	public int getInterval() {
+		// the time is displayed in seconds
+		return 20;
+	}
 	
 	private String format(String string, Object color, Object minutes, Object seconds) {
 		return string
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import pl.betoncraft.flier.api.Flier;
+import pl.betoncraft.flier.api.core.Attacker;
+
+/**
+ * Stores Attackers of entities launched by Damagers, keyed by entity ID.
+ * 
+ * The entries are kept in an open addressing hash table of primitive ints, so
+ * looking up an entity which doesn't belong to Flier is a single probe without
+ * any allocations. Entries are removed once the entity is no longer valid
+ * (dead or removed) and entities are removed together with their chunks.
+ *
+ * @author Jakub Sapalski
+ */
+public class AttackerRegistry {
+
+	private static final int SWEEP_INTERVAL = 20;
+
+	private static int[] ids = new int[64];
+	private static Entity[] entities = new Entity[64];
+	private static Attacker[] attackers = new Attacker[64];
+	private static int size = 0;
+
+	private static boolean started = false;
+
+	/**
+	 * Starts removing entries of entities which are no longer valid and
+	 * entities whose chunks are unloaded.
+	 */
+	public static void start() {
+		if (started) {
+			return;
+		}
+		started = true;
+		Flier flier = Flier.getInstance();
+		Bukkit.getPluginManager().registerEvents(new Listener() {
+			@EventHandler(priority = EventPriority.MONITOR)
+			public void onChunkUnload(ChunkUnloadEvent event) {
+				if (size == 0) {
+					return;
+				}
+				Entity[] chunkEntities = event.getChunk().getEntities();
+				for (int i = 0; i < chunkEntities.length; i++) {
+					if (remove(chunkEntities[i]) != null) {
+						chunkEntities[i].remove();
+					}
+				}
+			}
+		}, flier);
+		Bukkit.getScheduler().runTaskTimer(flier, () -> sweep(), SWEEP_INTERVAL, SWEEP_INTERVAL);
+	}
+
+	/**
+	 * Saves the Attacker of the entity.
+	 * 
+	 * @param entity
+	 *            the entity launched by the Damager
+	 * @param attacker
+	 *            the Attacker
+	 */
+	public static void put(Entity entity, Attacker attacker) {
+		if ((size + 1) * 2 > ids.length) {
+			resize(ids.length * 2);
+		}
+		int id = entity.getEntityId();
+		int i = index(id);
+		while (attackers[i] != null) {
+			if (ids[i] == id) {
+				break;
+			}
+			i = (i + 1) & (ids.length - 1);
+		}
+		if (attackers[i] == null) {
+			size++;
+		}
+		ids[i] = id;
+		entities[i] = entity;
+		attackers[i] = attacker;
+	}
+
+	/**
+	 * @param entity
+	 *            any entity
+	 * @return the Attacker of this entity or null if it's not a Flier entity
+	 */
+	public static Attacker get(Entity entity) {
+		int i = find(entity.getEntityId());
+		return i < 0 ? null : attackers[i];
+	}
+
+	/**
+	 * Removes the entity from the registry.
+	 * 
+	 * @param entity
+	 *            any entity
+	 * @return the removed Attacker or null if it's not a Flier entity
+	 */
+	public static Attacker remove(Entity entity) {
+		int i = find(entity.getEntityId());
+		if (i < 0) {
+			return null;
+		}
+		Attacker attacker = attackers[i];
+		removeAt(i);
+		return attacker;
+	}
+
+	/**
+	 * @return the number of registered entities
+	 */
+	public static int size() {
+		return size;
+	}
+
+	private static int index(int id) {
+		int h = id * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & (ids.length - 1);
+	}
+
+	private static int find(int id) {
+		int mask = ids.length - 1;
+		int i = index(id);
+		while (attackers[i] != null) {
+			if (ids[i] == id) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private static void removeAt(int i) {
+		int mask = ids.length - 1;
+		// shift following entries back so no probe sequence gets broken
+		int next = (i + 1) & mask;
+		while (attackers[next] != null) {
+			int home = index(ids[next]);
+			if (((next - home) & mask) >= ((next - i) & mask)) {
+				ids[i] = ids[next];
+				entities[i] = entities[next];
+				attackers[i] = attackers[next];
+				i = next;
+			}
+			next = (next + 1) & mask;
+		}
+		entities[i] = null;
+		attackers[i] = null;
+		size--;
+	}
+
+	private static void resize(int capacity) {
+		int[] oldIds = ids;
+		Entity[] oldEntities = entities;
+		Attacker[] oldAttackers = attackers;
+		ids = new int[capacity];
+		entities = new Entity[capacity];
+		attackers = new Attacker[capacity];
+		int mask = capacity - 1;
+		for (int j = 0; j < oldIds.length; j++) {
+			if (oldAttackers[j] != null) {
+				int i = index(oldIds[j]);
+				while (attackers[i] != null) {
+					i = (i + 1) & mask;
+				}
+				ids[i] = oldIds[j];
+				entities[i] = oldEntities[j];
+				attackers[i] = oldAttackers[j];
+			}
+		}
+	}
+
+	private static void sweep() {
+		for (int i = 0; i < ids.length && size > 0; i++) {
+			// removal can shift another entry into this slot, so check it again
+			while (attackers[i] != null && !entities[i].isValid()) {
+				removeAt(i);
+			}
+		}
+	}
+
+}
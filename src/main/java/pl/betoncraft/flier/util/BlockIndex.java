@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.util;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+/**
+ * Maps block positions to values. Positions are packed into longs and stored
+ * in an open addressing hash table, so looking up a block doesn't allocate
+ * anything. The index is meant to be built once and then only read.
+ *
+ * @author Jakub Sapalski
+ */
+public class BlockIndex<V> {
+
+	private long[] keys = new long[16];
+	private World[] worlds = new World[16];
+	private Object[] values = new Object[16];
+	private int size = 0;
+
+	/**
+	 * Packs block coordinates into a single long, the same way Minecraft does:
+	 * 26 bits for X and Z, 12 bits for Y.
+	 * 
+	 * @param x
+	 *            block X coordinate
+	 * @param y
+	 *            block Y coordinate
+	 * @param z
+	 *            block Z coordinate
+	 * @return packed position
+	 */
+	public static long pack(int x, int y, int z) {
+		return ((long) (x & 0x3FFFFFF) << 38) | ((long) (y & 0xFFF) << 26) | (z & 0x3FFFFFF);
+	}
+
+	/**
+	 * Maps the block at this Location to the value, replacing previous value.
+	 * 
+	 * @param location
+	 *            location of the block
+	 * @param value
+	 *            the value, can't be null
+	 */
+	public void put(Location location, V value) {
+		put(location, value, true);
+	}
+
+	/**
+	 * Maps the block at this Location to the value, unless the block already
+	 * has a value.
+	 * 
+	 * @param location
+	 *            location of the block
+	 * @param value
+	 *            the value, can't be null
+	 */
+	public void putIfAbsent(Location location, V value) {
+		put(location, value, false);
+	}
+
+	private void put(Location location, V value, boolean replace) {
+		if ((size + 1) * 2 > keys.length) {
+			resize(keys.length * 2);
+		}
+		long key = pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+		World world = location.getWorld();
+		int mask = keys.length - 1;
+		int i = index(key);
+		while (values[i] != null && (keys[i] != key || !worlds[i].equals(world))) {
+			i = (i + 1) & mask;
+		}
+		if (values[i] == null) {
+			size++;
+		} else if (!replace) {
+			return;
+		}
+		keys[i] = key;
+		worlds[i] = world;
+		values[i] = value;
+	}
+
+	/**
+	 * @param block
+	 *            the block
+	 * @return the value mapped to this block or null
+	 */
+	public V get(Block block) {
+		return get(block.getWorld(), block.getX(), block.getY(), block.getZ());
+	}
+
+	/**
+	 * @param world
+	 *            world of the block
+	 * @param x
+	 *            block X coordinate
+	 * @param y
+	 *            block Y coordinate
+	 * @param z
+	 *            block Z coordinate
+	 * @return the value mapped to this block or null
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(World world, int x, int y, int z) {
+		long key = pack(x, y, z);
+		int mask = keys.length - 1;
+		int i = index(key);
+		while (values[i] != null) {
+			if (keys[i] == key && worlds[i].equals(world)) {
+				return (V) values[i];
+			}
+			i = (i + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * @return whenever the index is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private int index(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & (keys.length - 1);
+	}
+
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		World[] oldWorlds = worlds;
+		Object[] oldValues = values;
+		keys = new long[capacity];
+		worlds = new World[capacity];
+		values = new Object[capacity];
+		int mask = capacity - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			if (oldValues[j] != null) {
+				int i = index(oldKeys[j]);
+				while (values[i] != null) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = oldKeys[j];
+				worlds[i] = oldWorlds[j];
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+}
@@ -27,12 +27,18 @@ import java.io.File;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitTask;
 
 import pl.betoncraft.betondb.Database;
 import pl.betoncraft.betondb.MySQL;
@@ -45,21 +51,43 @@ import pl.betoncraft.flier.api.core.UsableItem;
 import pl.betoncraft.flier.event.FlierPlayerKillEvent.KillType;
 
 /**
- * Manages the database connection, table creation and queries.
+ * Manages the database connection, table creation and queries. Kills are
+ * queued and written by a background task in multi-row inserts. When the queue
+ * is full new kills are dropped, so a slow database never stalls the game.
  *
  * @author Jakub Sapalski
  */
 public class DefaultDatabaseManager implements DatabaseManager {
 	
+	private static final String ADD_KILL = "add_kill";
+	private static final String ADD_KILLS = "add_kills_";
+	// SQLite doesn't accept more bound parameters in a single statement
+	private static final int SQLITE_MAX_VARIABLES = 999;
+	private static final int KILL_COLUMNS = 9;
+	
 	private boolean enabled = false;
 	private Database db;
 	
+	private BlockingQueue<Object[]> kills;
+	private int batchSize;
+	private int statementRows;
+	private BukkitTask writer;
+	private final Object flushLock = new Object();
+	private final AtomicLong dropped = new AtomicLong();
+	private volatile long lastFlush = 0;
+	private long reported = 0;
+	
 	public DefaultDatabaseManager() {
 
 		// prepare required stuff
 		ConfigurationSection dbSection = Flier.getInstance().getConfig().getConfigurationSection("database");
 //		String prefix = dbSection.getString("prefix", "flier_");
 		boolean mysql = dbSection.getBoolean("mysql");
+		int queueSize = Math.max(1, dbSection.getInt("queue_size"));
+		int flushInterval = Math.max(1, dbSection.getInt("flush_interval"));
+		batchSize = Math.max(1, Math.min(queueSize, dbSection.getInt("batch_size")));
+		statementRows = mysql ? batchSize : Math.min(batchSize, SQLITE_MAX_VARIABLES / KILL_COLUMNS);
+		kills = new ArrayBlockingQueue<>(queueSize);
 
 		// connect to the database
 		if (mysql) {
@@ -96,6 +124,13 @@ public class DefaultDatabaseManager implements DatabaseManager {
 			for (String key : mysqlQueries.getKeys(false)) {
 				db.registerStatement(key, mysqlQueries.getString(key), sqliteQueries.getString(key));
 			}
+			// register multi-row inserts for each power of two up to the batch size,
+			// so any number of queued kills is written in a few statements
+			for (int rows = 2; rows <= statementRows; rows *= 2) {
+				db.registerStatement(ADD_KILLS + rows,
+						multiplyRows(mysqlQueries.getString(ADD_KILL), rows),
+						multiplyRows(sqliteQueries.getString(ADD_KILL), rows));
+			}
 		} catch (SQLException e) {
 			// error in SQL syntax
 			e.printStackTrace();
@@ -111,15 +146,72 @@ public class DefaultDatabaseManager implements DatabaseManager {
 					}
 				}, 60*20, 60*20);
 
+		// schedule the writer which saves queued kills
+		writer = Bukkit.getScheduler().runTaskTimerAsynchronously(
+				Flier.getInstance(), () -> flush(), flushInterval, flushInterval);
+
 		// everything enabled
 		enabled = true;
 	}
 	
+	/**
+	 * Turns a single row insert into one which inserts specified amount of rows.
+	 */
+	private static String multiplyRows(String insert, int rows) {
+		int index = insert.lastIndexOf("VALUES") + "VALUES".length();
+		String row = insert.substring(index).trim();
+		StringBuilder builder = new StringBuilder(insert.length() + rows * (row.length() + 2));
+		builder.append(insert.substring(0, index)).append(' ').append(row);
+		for (int i = 1; i < rows; i++) {
+			builder.append(", ").append(row);
+		}
+		return builder.toString();
+	}
+	
+	/**
+	 * Writes all queued kills to the database.
+	 */
+	private void flush() {
+		synchronized (flushLock) {
+			List<Object[]> batch = new ArrayList<>(batchSize);
+			while (kills.drainTo(batch, batchSize) > 0) {
+				long start = System.nanoTime();
+				int done = 0;
+				for (int rows = Integer.highestOneBit(statementRows); rows > 0; rows /= 2) {
+					while (batch.size() - done >= rows) {
+						if (rows == 1) {
+							db.update(ADD_KILL, batch.get(done));
+						} else {
+							Object[] params = new Object[rows * batch.get(0).length];
+							for (int i = 0; i < rows; i++) {
+								Object[] row = batch.get(done + i);
+								System.arraycopy(row, 0, params, i * row.length, row.length);
+							}
+							db.update(ADD_KILLS + rows, params);
+						}
+						done += rows;
+					}
+				}
+				lastFlush = System.nanoTime() - start;
+				Profiler.stop(Profiler.PLUGIN, Profiler.DATABASE, "flush", start);
+				batch.clear();
+			}
+			long lost = dropped.get();
+			if (lost > reported) {
+				Flier.getInstance().getLogger().warning(String.format(
+						"Statistics queue was full, %d kills were not saved.", lost - reported));
+				reported = lost;
+			}
+		}
+	}
+	
 	@Override
 	public void disconnect() {
 		if (!enabled) {
 			return;
 		}
+		writer.cancel();
+		flush();
 		try {
 			db.disconnect();
 		} catch (SQLException e) {
@@ -132,7 +224,8 @@ public class DefaultDatabaseManager implements DatabaseManager {
 		if (!enabled) {
 			return;
 		}
-		db.update("add_kill", new Object[]{
+		// the row is prepared here, the game objects can't be used in the writer
+		Object[] row = new Object[]{
 				game.getUniqueNumber(), 
 				killed.getPlayer().getUniqueId().toString(),
 				killed.getKit().getClassName().orElse(null),
@@ -142,7 +235,25 @@ public class DefaultDatabaseManager implements DatabaseManager {
 				type.toString(),
 				game.getAttitude(killed, killer).toString(),
 				new Date()
-		});
+		};
+		if (!kills.offer(row)) {
+			dropped.incrementAndGet();
+		}
+	}
+
+	@Override
+	public int getQueuedKills() {
+		return kills == null ? 0 : kills.size();
+	}
+
+	@Override
+	public long getDroppedKills() {
+		return dropped.get();
+	}
+
+	@Override
+	public long getLastFlushTime() {
+		return lastFlush;
 	}
 
 }
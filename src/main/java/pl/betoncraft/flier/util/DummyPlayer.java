@@ -37,6 +37,7 @@ import pl.betoncraft.flier.api.core.InGamePlayer;
 import pl.betoncraft.flier.api.core.Kit;
 import pl.betoncraft.flier.api.core.SidebarLine;
 import pl.betoncraft.flier.api.core.UsableItem;
+import pl.betoncraft.flier.core.PlayerStateSnapshot;
 
 /**
  * Dummy player for testing games.
@@ -64,6 +65,11 @@ public class DummyPlayer implements InGamePlayer {
 		return null;
 	}
 
+	@Override
+	public Vec3 getPosition(Vec3 out) {
+		return out;
+	}
+
 	@Override
 	public Vector getVelocity() {
 		return null;
@@ -102,6 +108,11 @@ public class DummyPlayer implements InGamePlayer {
 		return null;
 	}
 
+	@Override
+	public PlayerStateSnapshot getState() {
+		return PlayerStateSnapshot.EMPTY;
+	}
+
 	@Override
 	public UsableItem getHeldItem() {
 		return null;
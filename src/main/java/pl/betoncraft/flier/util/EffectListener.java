@@ -24,7 +24,8 @@
 package pl.betoncraft.flier.util;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,16 +34,15 @@ import org.bukkit.Bukkit;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 
 import pl.betoncraft.flier.api.Flier;
 import pl.betoncraft.flier.api.content.Effect;
 import pl.betoncraft.flier.api.content.Game;
 import pl.betoncraft.flier.api.core.LoadingException;
-import pl.betoncraft.flier.api.core.Matcher;
 import pl.betoncraft.flier.core.MatchingEvent;
 import pl.betoncraft.flier.core.MatchingPlayerEvent;
+import pl.betoncraft.flier.core.MatchingTwoPlayersEvent;
 import pl.betoncraft.flier.event.FlierClickButtonEvent;
 import pl.betoncraft.flier.event.FlierCollectBonusEvent;
 import pl.betoncraft.flier.event.FlierEngineUseEvent;
@@ -56,11 +56,13 @@ import pl.betoncraft.flier.event.FlierProjectileLaunchEvent;
 import pl.betoncraft.flier.event.FlierUseEvent;
 
 /**
- * Listens for all MatchingEvents and runs matching Effects.
+ * Runs matching Effects of a single Game. Flier events are received by one
+ * plugin-wide dispatcher, which passes each of them only to the EffectListener
+ * of the Game the event happened in.
  *
  * @author Jakub Sapalski
  */
-public class EffectListener implements Listener {
+public class EffectListener {
 
 	/**
 	 * Type of the MatchingEvent.
@@ -93,9 +95,12 @@ public class EffectListener implements Listener {
 			return player;
 		}
 	}
+	
+	private static Dispatcher dispatcher;
 
 	private final Game game;
-	private final Map<EventType, List<Effect>> effects = new HashMap<>();
+	// indexed by EventType ordinals, null where the Game has no Effects
+	private final Effect[][] effects = new Effect[EventType.values().length][];
 
 	/**
 	 * Creates new event listener which fires Effects when a matching event is
@@ -111,81 +116,124 @@ public class EffectListener implements Listener {
 		// TODO create effects getter in game and remove first parameter
 		this.game = game;
 		Flier flier = Flier.getInstance();
+		Map<EventType, List<Effect>> map = new EnumMap<>(EventType.class);
 		for (String effectName : effectNames) {
 			try {
 				Effect effect = flier.getEffect(effectName);
-				effects.computeIfAbsent(effect.getType(), k -> new ArrayList<>()).add(effect);
+				map.computeIfAbsent(effect.getType(), k -> new ArrayList<>()).add(effect);
 			} catch (LoadingException e) {
 				throw (LoadingException) new LoadingException(String.format("Error in '%s' effect.", effectName))
 						.initCause(e);
 			}
 		}
-		Bukkit.getPluginManager().registerEvents(this, Flier.getInstance());
-	}
-
-	@EventHandler(priority = EventPriority.MONITOR)
-	public void onUse(FlierUseEvent event) {
-		fireEffects(EventType.USE, event);
-	}
-
-	@EventHandler(priority = EventPriority.MONITOR)
-	public void onHit(FlierPlayerHitEvent event) {
-		boolean org = event.isSwitched();
-		event.setSwitched(false);
-		fireEffects(EventType.GET_HIT, event);
-		event.setSwitched(true);
-		fireEffects(EventType.HIT, event);
-		event.setSwitched(org);
-	}
-	
-	@EventHandler(priority = EventPriority.MONITOR)
-	public void onKill(FlierPlayerKillEvent event) {
-		boolean org = event.isSwitched();
-		event.setSwitched(false);
-		fireEffects(EventType.KILLED, event);
-		event.setSwitched(true);
-		fireEffects(EventType.KILL, event);
-		event.setSwitched(org);
-	}
-	
-	@EventHandler(priority = EventPriority.MONITOR)
-	public void onEngine(FlierEngineUseEvent event) {
-		fireEffects(EventType.ENGINE, event);
-	}
-	
-	@EventHandler(priority = EventPriority.MONITOR)
-	public void onSpawn(FlierPlayerSpawnEvent event) {
-		fireEffects(EventType.SPAWN, event);
-	}
-	
-	@EventHandler(priority = EventPriority.MONITOR)
-	public void onBonus(FlierCollectBonusEvent event) {
-		fireEffects(EventType.BONUS, event);
-	}
-	
-	@EventHandler(priority=EventPriority.MONITOR)
-	public void onButton(FlierClickButtonEvent event) {
-		fireEffects(EventType.BUTTON, event);
-	}
-	
-	@EventHandler(priority=EventPriority.MONITOR)
-	public void onShoot(FlierProjectileLaunchEvent event) {
-		fireEffects(EventType.PROJECTILE, event);
+		map.forEach((type, list) -> effects[type.ordinal()] = list.toArray(new Effect[list.size()]));
+		// register a single dispatcher for all games
+		if (dispatcher == null) {
+			dispatcher = new Dispatcher();
+			Bukkit.getPluginManager().registerEvents(dispatcher, flier);
+		}
+		dispatcher.games.put(game, this);
 	}
 	
-	@EventHandler
-	public void onGameCreate(FlierGameCreateEvent event) {
-		fireEffects(EventType.GAME_CREATE, event);
-	}
+	/**
+	 * Receives all MatchingEvents and passes them to the EffectListener of
+	 * the Game in which they happened.
+	 */
+	private static class Dispatcher implements Listener {
+		
+		private final Map<Game, EffectListener> games = new IdentityHashMap<>();
+		
+		/**
+		 * @return the EffectListener of event's Game if it has Effects of this type
+		 */
+		private EffectListener route(MatchingEvent event, EventType type) {
+			EffectListener listener = games.get(event.getGame());
+			return listener == null || listener.effects[type.ordinal()] == null ? null : listener;
+		}
+		
+		private void dispatch(EventType type, MatchingEvent event) {
+			EffectListener listener = route(event, type);
+			if (listener != null) {
+				listener.fireEffects(type, event);
+			}
+		}
+		
+		/**
+		 * Fires Effects of both sides of a switchable event.
+		 */
+		private void dispatch(EventType first, EventType second, MatchingTwoPlayersEvent event) {
+			EffectListener listener1 = route(event, first);
+			EffectListener listener2 = route(event, second);
+			if (listener1 == null && listener2 == null) {
+				return;
+			}
+			boolean org = event.isSwitched();
+			if (listener1 != null) {
+				event.setSwitched(false);
+				listener1.fireEffects(first, event);
+			}
+			if (listener2 != null) {
+				event.setSwitched(true);
+				listener2.fireEffects(second, event);
+			}
+			event.setSwitched(org);
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onUse(FlierUseEvent event) {
+			dispatch(EventType.USE, event);
+		}
 	
-	@EventHandler
-	public void onGameStart(FlierGameStartEvent event) {
-		fireEffects(EventType.GAME_START, event);
-	}
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onHit(FlierPlayerHitEvent event) {
+			dispatch(EventType.GET_HIT, EventType.HIT, event);
+		}
+		
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onKill(FlierPlayerKillEvent event) {
+			dispatch(EventType.KILLED, EventType.KILL, event);
+		}
+		
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onEngine(FlierEngineUseEvent event) {
+			dispatch(EventType.ENGINE, event);
+		}
+		
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onSpawn(FlierPlayerSpawnEvent event) {
+			dispatch(EventType.SPAWN, event);
+		}
+		
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onBonus(FlierCollectBonusEvent event) {
+			dispatch(EventType.BONUS, event);
+		}
+		
+		@EventHandler(priority=EventPriority.MONITOR)
+		public void onButton(FlierClickButtonEvent event) {
+			dispatch(EventType.BUTTON, event);
+		}
+		
+		@EventHandler(priority=EventPriority.MONITOR)
+		public void onShoot(FlierProjectileLaunchEvent event) {
+			dispatch(EventType.PROJECTILE, event);
+		}
+		
+		@EventHandler
+		public void onGameCreate(FlierGameCreateEvent event) {
+			dispatch(EventType.GAME_CREATE, event);
+		}
+		
+		@EventHandler
+		public void onGameStart(FlierGameStartEvent event) {
+			dispatch(EventType.GAME_START, event);
+		}
+		
+		@EventHandler
+		public void onGameEnd(FlierGameEndEvent event) {
+			dispatch(EventType.GAME_END, event);
+		}
 	
-	@EventHandler
-	public void onGameEnd(FlierGameEndEvent event) {
-		fireEffects(EventType.GAME_END, event);
 	}
 
 	/**
@@ -197,12 +245,12 @@ public class EffectListener implements Listener {
 	 *            MatchingEvent to match against
 	 */
 	private void fireEffects(EventType type, MatchingEvent event) {
-		if ((event instanceof Cancellable && ((Cancellable) event).isCancelled()) || !event.getGame().equals(game)) {
+		if (event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
 			return;
 		}
-		List<Effect> effects = this.effects.computeIfAbsent(type, k -> new ArrayList<>(0));
-		for (Effect effect : effects) {
-			if (checkEffect(effect, event)) {
+		long start = Profiler.start();
+		for (Effect effect : effects[type.ordinal()]) {
+			if (effect.matches(event)) {
 				if (effect.getType().isPlayerInvolved() && event instanceof MatchingPlayerEvent) {
 					effect.fire(Optional.of(((MatchingPlayerEvent) event).getPlayer()));
 				} else {
@@ -210,56 +258,16 @@ public class EffectListener implements Listener {
 				}
 			}
 		}
+		Profiler.stop(game.getID(), Profiler.EFFECT, type.name(), start);
 	}
 
-	/**
-	 * Checks whenever the Effect matches the given MatchingEvent.
-	 * 
-	 * @param effect
-	 *            the Effect to check
-	 * @param event
-	 *            the MatchingEvent to match
-	 * @return whenever the Effect matches this MatchingEvent
-	 */
-	private boolean checkEffect(Effect effect, MatchingEvent event) {
-		for (Matcher matcher : effect.getMatchers()) {
-			String name = matcher.getName();
-			switch (matcher.getType()) {
-			case STRING:
-				String string = event.getString(name);
-				if (string == null || !matcher.getStrings().contains(string)) {
-					return false;
-				}
-				break;
-			case NUMBER_EXACT:
-				Double number1 = event.getNumber(name);
-				if (number1 == null || matcher.exactNumber() != number1) {
-					return false;
-				}
-				break;
-			case NUMBER_SECTION:
-				Double number2 = event.getNumber(name); // somebody should fix this bug with duplicated variables in switch...
-														// there's a damn break, it can work!
-				if (number2 == null || !(number2 > matcher.minNumber() && number2 < matcher.maxNumber())) {
-					return false;
-				}
-				break;
-			case BOOLEAN:
-				Boolean bool = event.getBool(name);
-				if (bool == null || bool != matcher.bool()) {
-					return false;
-				}
-				break;
-			}
-		}
-		return true;
-	}
-	
 	/**
 	 * Unregisters this EffectListener.
 	 */
 	public void stop() {
-		HandlerList.unregisterAll(this);
+		if (dispatcher != null) {
+			dispatcher.games.remove(game, this);
+		}
 	}
 
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.util;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Calculates 64-bit structural fingerprints of definitions. A fingerprint of
+ * a configuration section covers its name and all values, so objects loaded
+ * from the same definition share it and comparing them costs a single long
+ * comparison. Fingerprints of compound objects are made by mixing in the
+ * fingerprints of their parts.
+ *
+ * @author Jakub Sapalski
+ */
+public class Fingerprint {
+
+	private static final long OFFSET = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+
+	// fingerprints are calculated once for each definition and dropped
+	// together with the definition section on reload
+	private static final Map<ConfigurationSection, Long> sections = new WeakHashMap<>();
+
+	/**
+	 * Returns the fingerprint of the section's name and all values, including
+	 * the values in its subsections.
+	 * 
+	 * @param section
+	 *            the section with a definition
+	 * @return the fingerprint of this section
+	 */
+	public static long of(ConfigurationSection section) {
+		Long fingerprint = sections.get(section);
+		if (fingerprint == null) {
+			long hash = mix(OFFSET, section.getName());
+			// sorted, so the order of keys in the file doesn't matter
+			for (Entry<String, Object> entry : new TreeMap<>(section.getValues(true)).entrySet()) {
+				// values of subsections are already on the list
+				if (entry.getValue() instanceof ConfigurationSection) {
+					continue;
+				}
+				hash = mix(hash, entry.getKey());
+				hash = mix(hash, String.valueOf(entry.getValue()));
+			}
+			fingerprint = hash;
+			sections.put(section, fingerprint);
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Mixes another fingerprint into this one. The order of mixing matters.
+	 * 
+	 * @param hash
+	 *            current fingerprint
+	 * @param value
+	 *            fingerprint of a part
+	 * @return combined fingerprint
+	 */
+	public static long mix(long hash, long value) {
+		for (int i = 0; i < 64; i += 8) {
+			hash ^= (value >>> i) & 0xFF;
+			hash *= PRIME;
+		}
+		return hash;
+	}
+
+	private static long mix(long hash, String string) {
+		// length first, so "ab" + "c" differs from "a" + "bc"
+		hash = mix(hash, string.length());
+		for (int i = 0; i < string.length(); i++) {
+			hash ^= string.charAt(i);
+			hash *= PRIME;
+		}
+		return hash;
+	}
+
+}
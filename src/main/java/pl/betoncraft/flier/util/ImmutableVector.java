@@ -25,6 +25,11 @@ package pl.betoncraft.flier.util;
 
 import org.bukkit.util.Vector;
 
+/**
+ * @deprecated creates a new object for every operation, use {@link Vec3}
+ *             instead; this class will be removed in the next release
+ */
+@Deprecated
 public class ImmutableVector {
 	private final double x, y, z;
 	private Double length;
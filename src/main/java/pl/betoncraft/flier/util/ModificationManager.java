@@ -35,26 +35,74 @@ import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.api.core.Modifier;
 
 /**
- * Manages modifications to the properties.
+ * Manages modifications to the properties. Property names are interned to
+ * integer slots, shared by all managers, and modifications are compiled into
+ * arrays indexed by these slots. Reading a property which isn't modified costs
+ * a single bounds check.
  *
  * @author Jakub Sapalski
  */
 public class ModificationManager {
 	
+	private static final Map<String, Integer> slots = new HashMap<>();
+	
+	private static final double[] NO_NUMBERS = new double[0];
+	private static final String[] NO_STRINGS = new String[0];
+	private static final byte[] NO_BOOLS = new byte[0];
+	private static final Enum<?>[] NO_ENUMS = new Enum<?>[0];
+	private static final Class<?>[] NO_TYPES = new Class<?>[0];
+	
+	private static final byte UNSET = 0;
+	private static final byte FALSE = 1;
+	private static final byte TRUE = 2;
+	
 	private Set<Modification> mods = new HashSet<>();
-	private Map<String, SpecializedModifier> compiled = new HashMap<>();
-	
-	private class SpecializedModifier {
-		private String string = null;
-		private Double number = null;
-		private Boolean bool = null;
-		private double multi = 1;
-		private double bonus = 0;
+	private double[] multi = NO_NUMBERS;
+	private double[] bonus = NO_NUMBERS;
+	private double[] override = NO_NUMBERS;
+	private String[] strings = NO_STRINGS;
+	private byte[] bools = NO_BOOLS;
+	private Enum<?>[] enums = NO_ENUMS;
+	private Class<?>[] enumTypes = NO_TYPES;
+	
+	/**
+	 * Returns the slot of the property with specified name, creating it if
+	 * this name wasn't used before. Classes should resolve slots of their
+	 * properties once, in static constants.
+	 * 
+	 * @param property
+	 *            name of the property
+	 * @return the slot of this property
+	 */
+	public static int slot(String property) {
+		synchronized (slots) {
+			Integer slot = slots.get(property);
+			if (slot == null) {
+				slot = slots.size();
+				slots.put(property, slot);
+			}
+			return slot;
+		}
+	}
+	
+	/**
+	 * Returns the slot of the property with specified name without creating
+	 * it.
+	 * 
+	 * @param property
+	 *            name of the property
+	 * @return the slot of this property or -1 if it doesn't exist
+	 */
+	private static int existingSlot(String property) {
+		synchronized (slots) {
+			Integer slot = slots.get(property);
+			return slot == null ? -1 : slot;
+		}
 	}
 	
 	public void clear() {
 		mods.clear();
-		compiled.clear();
+		reset(0);
 	}
 	
 	public void addModification(Modification mod) {
@@ -69,11 +117,38 @@ public class ModificationManager {
 		}
 	}
 	
+	private void reset(int size) {
+		if (size == 0) {
+			multi = bonus = override = NO_NUMBERS;
+			strings = NO_STRINGS;
+			bools = NO_BOOLS;
+			enums = NO_ENUMS;
+			enumTypes = NO_TYPES;
+			return;
+		}
+		multi = new double[size];
+		Arrays.fill(multi, 1);
+		bonus = new double[size];
+		override = new double[size];
+		Arrays.fill(override, Double.NaN);
+		strings = new String[size];
+		bools = new byte[size];
+		enums = new Enum<?>[size];
+		enumTypes = new Class<?>[size];
+	}
+	
 	private void compile() {
-		compiled.clear();
+		// resolve the slots first, so the arrays can be sized correctly
+		int size = 0;
+		for (Modification mod : mods) {
+			for (Modifier m : mod.getModifiers()) {
+				size = Math.max(size, slot(m.getProperty()) + 1);
+			}
+		}
+		reset(size);
 		for (Modification mod : mods) {
 			for (Modifier m : mod.getModifiers()) {
-				SpecializedModifier spec = getSpec(m.getProperty());
+				int slot = slot(m.getProperty());
 				// parse multiplying and adding
 				String value = m.getValue();
 				boolean notValue = false;
@@ -83,14 +158,14 @@ public class ModificationManager {
 				for (String part : parts) {
 					if (part.startsWith("*(") && part.endsWith(")")) {
 						try {
-							spec.multi += Double.parseDouble(part.substring(2, part.length() - 1));
+							multi[slot] += Double.parseDouble(part.substring(2, part.length() - 1));
 							notValue = true;
 						} catch (NumberFormatException e) {
 							// nothing, this probably is just text
 						}
 					} else if (part.startsWith("+(") && part.endsWith(")")) {
 						try {
-							spec.bonus += Double.parseDouble(part.substring(2, part.length() - 1));
+							bonus[slot] += Double.parseDouble(part.substring(2, part.length() - 1));
 							notValue = true;
 						} catch (NumberFormatException e) {
 							// nothing, this probably is just text
@@ -99,61 +174,87 @@ public class ModificationManager {
 				}
 				// if it's not a number modifier then it's a value and needs to be saved
 				if (!notValue) {
-					spec.string = value;
+					strings[slot] = value;
 					try {
-						spec.number = Double.parseDouble(value);
+						override[slot] = Double.parseDouble(value);
 					} catch (NumberFormatException e) {
 						// not a number, huh
 					}
 					if (value.equals("true") || value.equals("false")) {
-						spec.bool = Boolean.parseBoolean(value);
+						bools[slot] = Boolean.parseBoolean(value) ? TRUE : FALSE;
 					}
 				}
 			}
 		}
 	}
 	
-	public double modifyNumber(String property, double value) {
-		SpecializedModifier spec = getSpec(property);
-		if (spec.number != null) {
-			value = spec.number;
+	public double modifyNumber(int slot, double value) {
+		if (slot >= multi.length) {
+			return value;
 		}
-		value *= spec.multi;
-		value += spec.bonus;
-		return value;
+		double number = override[slot];
+		if (!Double.isNaN(number)) {
+			value = number;
+		}
+		return value * multi[slot] + bonus[slot];
 	}
 	
-	public String modifyString(String property, String value) {
-		SpecializedModifier spec = getSpec(property);
-		if (spec.string != null) {
-			value = spec.string;
+	public String modifyString(int slot, String value) {
+		if (slot >= strings.length || strings[slot] == null) {
+			return value;
 		}
-		return value;
+		return strings[slot];
 	}
 	
-	public boolean modifyBoolean(String property, boolean bool) {
-		SpecializedModifier spec = getSpec(property);
-		if (spec.bool != null) {
-			bool = spec.bool;
+	public boolean modifyBoolean(int slot, boolean bool) {
+		if (slot >= bools.length || bools[slot] == UNSET) {
+			return bool;
 		}
-		return bool;
+		return bools[slot] == TRUE;
 	}
 
 	@SuppressWarnings("unchecked")
-	public <T extends Enum<T>> T modifyEnum(String property, T en) {
-		SpecializedModifier spec = getSpec(property);
-		if (spec.string != null) {
-			try {
-				en = (T) Enum.valueOf(en.getClass(), spec.string);
-			} catch (IllegalArgumentException e) {
-				// not an enum, huh
+	public <T extends Enum<T>> T modifyEnum(int slot, T en) {
+		if (slot >= strings.length || strings[slot] == null) {
+			return en;
+		}
+		// the enum type is known only when the property is read, so the
+		// value is resolved on the first read and reused until recompiled;
+		// a value which is not a constant of that type is remembered as null
+		Class<T> type = en.getDeclaringClass();
+		if (enumTypes[slot] != type) {
+			Enum<?> resolved = null;
+			for (T constant : type.getEnumConstants()) {
+				if (constant.name().equals(strings[slot])) {
+					resolved = constant;
+					break;
+				}
 			}
+			enums[slot] = resolved;
+			enumTypes[slot] = type;
 		}
-		return en;
+		Enum<?> resolved = enums[slot];
+		return resolved == null ? en : (T) resolved;
+	}
+	
+	public double modifyNumber(String property, double value) {
+		int slot = existingSlot(property);
+		return slot < 0 ? value : modifyNumber(slot, value);
+	}
+	
+	public String modifyString(String property, String value) {
+		int slot = existingSlot(property);
+		return slot < 0 ? value : modifyString(slot, value);
 	}
 	
-	private SpecializedModifier getSpec(String property) {
-		return compiled.computeIfAbsent(property, k -> new SpecializedModifier());
+	public boolean modifyBoolean(String property, boolean bool) {
+		int slot = existingSlot(property);
+		return slot < 0 ? bool : modifyBoolean(slot, bool);
+	}
+
+	public <T extends Enum<T>> T modifyEnum(String property, T en) {
+		int slot = existingSlot(property);
+		return slot < 0 ? en : modifyEnum(slot, en);
 	}
 
 }
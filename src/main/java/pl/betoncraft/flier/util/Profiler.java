@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Measures the time spent in various parts of the plugin. Measurements are
+ * grouped by scope (a Game ID or {@link #PLUGIN}), category and name. When the
+ * profiler is disabled, measuring costs a single field read.
+ *
+ * @author Jakub Sapalski
+ */
+public class Profiler {
+	
+	public static final String PLUGIN = "plugin";
+	
+	public static final String PHASE = "phase";
+	public static final String PLAYER = "player";
+	public static final String ITEM = "item";
+	public static final String ACTION = "action";
+	public static final String EFFECT = "effect";
+	public static final String WORLD = "world";
+	public static final String DATABASE = "database";
+	
+	private static volatile boolean enabled = false;
+	private static Map<String, Map<String, Map<String, Histogram>>> data = new HashMap<>();
+	
+	/**
+	 * Distribution of measured times, in buckets which are powers of two
+	 * nanoseconds.
+	 */
+	public static class Histogram {
+		
+		private final long[] buckets = new long[64];
+		private long count = 0;
+		private long total = 0;
+		private long max = 0;
+		
+		private Histogram() {}
+		
+		private Histogram(Histogram other) {
+			System.arraycopy(other.buckets, 0, buckets, 0, buckets.length);
+			count = other.count;
+			total = other.total;
+			max = other.max;
+		}
+		
+		private void add(long nanos) {
+			if (nanos < 0) {
+				nanos = 0;
+			}
+			buckets[63 - Long.numberOfLeadingZeros(nanos | 1)]++;
+			count++;
+			total += nanos;
+			if (nanos > max) {
+				max = nanos;
+			}
+		}
+		
+		/**
+		 * @return amount of measurements
+		 */
+		public long getCount() {
+			return count;
+		}
+		
+		/**
+		 * @return sum of all measured times in nanoseconds
+		 */
+		public long getTotal() {
+			return total;
+		}
+		
+		/**
+		 * @return the longest measured time in nanoseconds
+		 */
+		public long getMax() {
+			return max;
+		}
+		
+		/**
+		 * @return the average measured time in nanoseconds
+		 */
+		public double getAverage() {
+			return count == 0 ? 0 : (double) total / count;
+		}
+		
+		/**
+		 * Returns the upper bound of the bucket containing specified
+		 * percentile, so it's accurate to a factor of two.
+		 * 
+		 * @param percentile
+		 *            number between 0 and 1
+		 * @return time in nanoseconds which was not exceeded by this fraction
+		 *         of measurements
+		 */
+		public long getPercentile(double percentile) {
+			long threshold = (long) Math.ceil(count * percentile);
+			long sum = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				sum += buckets[i];
+				if (sum >= threshold && sum > 0) {
+					return i >= 62 ? max : Math.min(max, (2L << i) - 1);
+				}
+			}
+			return max;
+		}
+		
+	}
+	
+	/**
+	 * @return whenever the profiler is measuring
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Starts or stops measuring. Starting drops all previous measurements.
+	 * 
+	 * @param enable
+	 *            whenever the profiler should measure
+	 */
+	public static synchronized void setEnabled(boolean enable) {
+		if (enable && !enabled) {
+			data = new HashMap<>();
+		}
+		enabled = enable;
+	}
+	
+	/**
+	 * Starts a measurement.
+	 * 
+	 * @return the value to pass to {@link #stop(String, String, String, long)}
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+	
+	/**
+	 * Finishes a measurement started with {@link #start()}.
+	 * 
+	 * @param scope
+	 *            Game ID or {@link #PLUGIN}
+	 * @param category
+	 *            category of the measured thing
+	 * @param name
+	 *            name of the measured thing
+	 * @param start
+	 *            value returned by {@link #start()}
+	 */
+	public static void stop(String scope, String category, String name, long start) {
+		if (start == 0 || !enabled) {
+			return;
+		}
+		record(scope, category, name, System.nanoTime() - start);
+	}
+	
+	private static synchronized void record(String scope, String category, String name, long nanos) {
+		data.computeIfAbsent(scope, k -> new HashMap<>())
+				.computeIfAbsent(category, k -> new HashMap<>())
+				.computeIfAbsent(name, k -> new Histogram())
+				.add(nanos);
+	}
+	
+	/**
+	 * @return the names of all scopes with measurements, sorted
+	 */
+	public static synchronized String[] getScopes() {
+		String[] scopes = data.keySet().toArray(new String[data.size()]);
+		Arrays.sort(scopes);
+		return scopes;
+	}
+	
+	/**
+	 * Returns a copy of measurements in the scope.
+	 * 
+	 * @param scope
+	 *            Game ID or {@link #PLUGIN}
+	 * @return map of categories to maps of names and their measurements,
+	 *         sorted by names; empty if there are no measurements
+	 */
+	public static synchronized Map<String, Map<String, Histogram>> getData(String scope) {
+		Map<String, Map<String, Histogram>> copy = new TreeMap<>();
+		Map<String, Map<String, Histogram>> categories = data.get(scope);
+		if (categories != null) {
+			categories.forEach((category, names) -> {
+				Map<String, Histogram> map = new TreeMap<>();
+				names.forEach((name, histogram) -> map.put(name, new Histogram(histogram)));
+				copy.put(category, map);
+			});
+		}
+		return copy;
+	}
+
+}
@@ -23,6 +23,10 @@
  */
 package pl.betoncraft.flier.util;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 
@@ -30,23 +34,52 @@ import pl.betoncraft.flier.api.core.LoadingException;
 
 /**
  * Contains functions used to load various values from the ConfigurationSection
- * and fail when they are missing.
+ * and fail when they are missing. Raw values and parsed enums are remembered
+ * for each section, so objects created many times from the same section don't
+ * look up and parse them again. The sections are replaced on reload, which
+ * drops the remembered values.
  *
  * @author Jakub Sapalski
  */
 public class ValueLoader {
 	
+	private static final Object MISSING = new Object();
+	private static final Map<ConfigurationSection, Values> cache = new WeakHashMap<>();
+	
 	private ConfigurationSection section;
+	private Values values;
+	
+	private static class Values {
+		private final Map<String, Object> raw = new HashMap<>();
+		private final Map<String, Enum<?>> enums = new HashMap<>();
+	}
 	
 	public ValueLoader(ConfigurationSection section) {
 		this.section = section;
 		if (section == null) {
 			throw new NullPointerException("ConfigurationSection is null");
 		}
+		values = cache.computeIfAbsent(section, k -> new Values());
+	}
+	
+	private Object raw(String address) {
+		Object value = values.raw.get(address);
+		if (value == null) {
+			value = section.get(address);
+			// child sections reference the parent, they can't be kept in the cache
+			if (value instanceof ConfigurationSection) {
+				return value;
+			}
+			if (value == null) {
+				value = MISSING;
+			}
+			values.raw.put(address, value);
+		}
+		return value;
 	}
 	
 	public String loadString(String address) throws LoadingException {
-		String value = section.getString(address, null);
+		String value = loadString(address, null);
 		if (value == null) {
 			throw new LoadingException(String.format("'%s' must be specified.", address));
 		}
@@ -54,12 +87,14 @@ public class ValueLoader {
 	}
 	
 	public String loadString(String address, String def) {
-		return section.getString(address, def);
+		Object value = raw(address);
+		return value == MISSING ? def : value.toString();
 	}
 	
 	private Object get(String address, Object def) throws LoadingException {
-		if (section.contains(address)) {
-			return section.get(address);
+		Object value = raw(address);
+		if (value != MISSING) {
+			return value;
 		} else if (def == null) {
 			throw new LoadingException(String.format("'%s' must be specified.", address));
 		} else {
@@ -180,8 +215,14 @@ public class ValueLoader {
 		if (enumClass.isInstance(obj)) {
 			return (T) obj;
 		} else if (obj instanceof String) {
+			Enum<?> parsed = values.enums.get(address);
+			if (enumClass.isInstance(parsed)) {
+				return (T) parsed;
+			}
 			try {
-				return Enum.valueOf(enumClass, ((String) obj).toUpperCase().replace(' ', '_'));
+				T value = Enum.valueOf(enumClass, ((String) obj).toUpperCase().replace(' ', '_'));
+				values.enums.put(address, value);
+				return value;
 			} catch (IllegalArgumentException e) {
 				Exception detail = new LoadingException(String.format("%s '%s' does not exist.", enumClass.getSimpleName(), ((String) obj)));
 				Exception error  = new LoadingException(String.format("'%s' must be a valid type.", address));
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2017 Jakub Sapalski
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ */
+package pl.betoncraft.flier.util;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+/**
+ * A mutable vector of three primitive doubles. All operations modify this
+ * vector and return it, so calculations can be chained without creating new
+ * objects. It's meant for physics code running every tick, where Bukkit's
+ * Vectors and Locations would produce a lot of garbage.
+ *
+ * @author Jakub Sapalski
+ */
+public class Vec3 {
+
+	private static final int SCRATCH_SIZE = 8;
+	private static final ThreadLocal<Vec3[]> SCRATCH = ThreadLocal.withInitial(() -> {
+		Vec3[] array = new Vec3[SCRATCH_SIZE];
+		for (int i = 0; i < SCRATCH_SIZE; i++) {
+			array[i] = new Vec3();
+		}
+		return array;
+	});
+
+	private double x, y, z;
+
+	public Vec3() {}
+
+	public Vec3(double x, double y, double z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	/**
+	 * Returns one of the vectors reserved for temporary calculations on the
+	 * current thread. The vector is shared by everything using the same index,
+	 * so it must not be kept after the calculation is done, nor passed to code
+	 * which could use the same scratch vector.
+	 * 
+	 * @param index
+	 *            index of the scratch vector, from 0 to 7
+	 * @return the scratch vector, with undefined values
+	 */
+	public static Vec3 scratch(int index) {
+		return SCRATCH.get()[index];
+	}
+
+	public double getX() {
+		return x;
+	}
+
+	public double getY() {
+		return y;
+	}
+
+	public double getZ() {
+		return z;
+	}
+
+	public Vec3 set(double x, double y, double z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		return this;
+	}
+
+	public Vec3 set(Vec3 vec) {
+		return set(vec.x, vec.y, vec.z);
+	}
+
+	public Vec3 set(Vector vec) {
+		return set(vec.getX(), vec.getY(), vec.getZ());
+	}
+
+	public Vec3 set(Location loc) {
+		return set(loc.getX(), loc.getY(), loc.getZ());
+	}
+
+	/**
+	 * Sets this vector to the unit direction described by yaw and pitch, the
+	 * same way as Location.getDirection() does.
+	 * 
+	 * @param yaw
+	 *            yaw in degrees
+	 * @param pitch
+	 *            pitch in degrees
+	 * @return this vector
+	 */
+	public Vec3 setDirection(float yaw, float pitch) {
+		double rotX = Math.toRadians(yaw);
+		double rotY = Math.toRadians(pitch);
+		double xz = Math.cos(rotY);
+		return set(-xz * Math.sin(rotX), -Math.sin(rotY), xz * Math.cos(rotX));
+	}
+
+	public Vec3 add(double x, double y, double z) {
+		this.x += x;
+		this.y += y;
+		this.z += z;
+		return this;
+	}
+
+	public Vec3 add(Vec3 vec) {
+		return add(vec.x, vec.y, vec.z);
+	}
+
+	public Vec3 subtract(Vec3 vec) {
+		return add(-vec.x, -vec.y, -vec.z);
+	}
+
+	public Vec3 multiply(double m) {
+		x *= m;
+		y *= m;
+		z *= m;
+		return this;
+	}
+
+	public double lengthSquared() {
+		return x*x + y*y + z*z;
+	}
+
+	public double length() {
+		return Math.sqrt(lengthSquared());
+	}
+
+	public double distanceSquared(Vec3 vec) {
+		double dx = x - vec.x, dy = y - vec.y, dz = z - vec.z;
+		return dx*dx + dy*dy + dz*dz;
+	}
+
+	/**
+	 * Scales this vector to the length of 1. A zero vector becomes NaN, like
+	 * it does with Bukkit's Vector.
+	 * 
+	 * @return this vector
+	 */
+	public Vec3 normalize() {
+		return multiply(1 / length());
+	}
+
+	public boolean isNaN() {
+		return Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z);
+	}
+
+	/**
+	 * Writes this vector into Bukkit's Vector.
+	 * 
+	 * @param vec
+	 *            the Vector to overwrite
+	 * @return the passed Vector
+	 */
+	public Vector toVector(Vector vec) {
+		return vec.setX(x).setY(y).setZ(z);
+	}
+
+	public Vector toVector() {
+		return new Vector(x, y, z);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("[%.3f,%.3f,%.3f]", x, y, z);
+	}
+
+}
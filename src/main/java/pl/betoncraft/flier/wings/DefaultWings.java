@@ -29,6 +29,7 @@ import pl.betoncraft.flier.api.content.Wings;
 import pl.betoncraft.flier.api.core.LoadingException;
 import pl.betoncraft.flier.api.core.Modification;
 import pl.betoncraft.flier.core.DefaultItem;
+import pl.betoncraft.flier.util.ModificationManager;
 
 /**
  * Default Wings implementation.
@@ -39,6 +40,8 @@ public abstract class DefaultWings extends DefaultItem implements Wings {
 
 	private static final String REGENERATION = "regeneration";
 	private static final String MAX_HEALTH = "max_health";
+	private static final int REGENERATION_SLOT = ModificationManager.slot(REGENERATION);
+	private static final int MAX_HEALTH_SLOT = ModificationManager.slot(MAX_HEALTH);
 
 	protected final double maxHealth;
 	protected final double regeneration;
@@ -55,12 +58,12 @@ public abstract class DefaultWings extends DefaultItem implements Wings {
 
 	@Override
 	public double getMaxHealth() {
-		return modMan.modifyNumber(MAX_HEALTH, maxHealth);
+		return modMan.modifyNumber(MAX_HEALTH_SLOT, maxHealth);
 	}
 
 	@Override
 	public double getRegeneration() {
-		return modMan.modifyNumber(REGENERATION, regeneration);
+		return modMan.modifyNumber(REGENERATION_SLOT, regeneration);
 	}
 
 	@Override
@@ -130,4 +133,11 @@ public abstract class DefaultWings extends DefaultItem implements Wings {
 		modMan.clear();
 	}
 
+	@Override
+	public Wings replicate() {
+		DefaultWings copy = (DefaultWings) copy();
+		copy.health = maxHealth;
+		copy.disabled = false;
+		return copy;
+	}
 }
@@ -24,12 +24,11 @@
 package pl.betoncraft.flier.wings;
 
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.util.Vector;
 
 import pl.betoncraft.flier.api.core.InGamePlayer;
-import pl.betoncraft.flier.api.core.Item;
 import pl.betoncraft.flier.api.core.LoadingException;
-import pl.betoncraft.flier.util.ImmutableVector;
+import pl.betoncraft.flier.util.ModificationManager;
+import pl.betoncraft.flier.util.Vec3;
 
 /**
  * Simple wings with scalable lifting force and air resistance.
@@ -41,6 +40,9 @@ public class SimpleWings extends DefaultWings {
 	private static final String MAX_LIFT = "max_lift";
 	private static final String LIFTINGFORCE = "liftingforce";
 	private static final String AERODYNAMICS = "aerodynamics";
+	private static final int MAX_LIFT_SLOT = ModificationManager.slot(MAX_LIFT);
+	private static final int LIFTINGFORCE_SLOT = ModificationManager.slot(LIFTINGFORCE);
+	private static final int AERODYNAMICS_SLOT = ModificationManager.slot(AERODYNAMICS);
 
 	private final double aerodynamics;
 	private final double liftingForce;
@@ -54,27 +56,16 @@ public class SimpleWings extends DefaultWings {
 	}
 	
 	@Override
-	public Vector applyFlightModifications(InGamePlayer data) {
-		ImmutableVector velocity = ImmutableVector.fromVector(data.getPlayer().getVelocity());
-		double lift = (modMan.modifyNumber(LIFTINGFORCE, liftingForce) * velocity.length() * velocity.length() * 0.5)
-				- data.getWeight();
-		double maxLift = modMan.modifyNumber(MAX_LIFT, this.maxLift);
+	public Vec3 applyFlightModifications(InGamePlayer data, Vec3 velocity) {
+		double speedSqr = velocity.lengthSquared();
+		double lift = (modMan.modifyNumber(LIFTINGFORCE_SLOT, liftingForce) * speedSqr * 0.5) - data.getWeight();
+		double maxLift = modMan.modifyNumber(MAX_LIFT_SLOT, this.maxLift);
 		lift = lift >= maxLift ? maxLift : lift;
-		velocity = velocity.add(new ImmutableVector(0, lift, 0));
-		double drag = velocity.length() * velocity.length() * 0.5 * modMan.modifyNumber(AERODYNAMICS, aerodynamics);
-		ImmutableVector airResistance = velocity.normalize().multiply(drag);
-		return velocity.add(airResistance).toVector();
-	}
-	
-	@Override
-	public boolean isSimilar(Item key) {
-		if (key instanceof SimpleWings && super.isSimilar(key)) {
-			SimpleWings wings = (SimpleWings) key;
-			return wings.aerodynamics == aerodynamics &&
-					wings.liftingForce == liftingForce &&
-					wings.maxLift == maxLift;
-		}
-		return false;
+		velocity.add(0, lift, 0);
+		// air resistance works along the velocity, so it just scales it
+		double length = velocity.length();
+		double drag = length * length * 0.5 * modMan.modifyNumber(AERODYNAMICS_SLOT, aerodynamics);
+		return velocity.multiply((length + drag) / length);
 	}
 
 }